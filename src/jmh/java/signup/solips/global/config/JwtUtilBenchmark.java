@@ -0,0 +1,62 @@
+package signup.solips.global.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtUtil} 토큰 발급/검증 벤치마크
+ *
+ * @author Jeongjunyun777
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = newJwtUtil();
+        validToken = jwtUtil.generateAcessToken("s12345");
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAcessToken("s12345");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtUtil.validateToken(tamperedToken);
+    }
+
+    /**
+     * application.yml 과 같은 설정으로 초기화된 JwtUtil 을 만듭니다.
+     */
+    public static JwtUtil newJwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "myVerySecretKeyThatIsAtLeast256BitsLong12345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 1_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 1_209_600_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
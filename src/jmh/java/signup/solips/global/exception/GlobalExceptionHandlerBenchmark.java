@@ -0,0 +1,65 @@
+package signup.solips.global.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.users.dto.request.UserSignupRequestDto;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlobalExceptionHandler} 오류 응답 생성 벤치마크
+ *
+ * <p>로그 출력 비용은 appender 설정에 따라 달라지므로 jmh 리소스의 logback 설정에서 핸들러 로그를 끄고 측정합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private CustomException customException;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler(new AuthMetrics(new SimpleMeterRegistry()));
+        customException = new CustomException(ErrorCode.INVALID_CREDENTIALS);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new UserSignupRequestDto(), "request");
+        bindingResult.addError(new FieldError("request", "email", "올바른 이메일 형식이 아닙니다."));
+        bindingResult.addError(new FieldError("request", "password", "비밀번호는 필수 입니다."));
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("setUp"), -1);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> customException() {
+        return handler.handleCustomException(customException);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> newCustomException() {
+        return handler.handleCustomException(new CustomException(ErrorCode.INVALID_CREDENTIALS));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> validationException() {
+        return handler.handleValidationException(validationException);
+    }
+}
@@ -0,0 +1,92 @@
+package signup.solips.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.JwtProperties;
+import signup.solips.global.config.JwtUtil;
+import signup.solips.global.config.JwtUtilBenchmark;
+import signup.solips.global.metrics.AuthMetrics;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthenticationFilter} 요청당 비용 벤치마크
+ *
+ * <p>Bearer 토큰을 가진 Mock 요청을 필터에 통과시키며, 검증 캐시 사용 여부(cached)와
+ * 폐기 목록에 미리 기록한 다른 토큰 수(revokedTokens)별로 측정합니다.
+ * OncePerRequestFilter 가 요청 속성으로 중복 실행을 막으므로 요청 객체는 매번 새로 만듭니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"0", "10000"})
+    public int revokedTokens;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtUtilBenchmark.newJwtUtil();
+        JwtProperties.Cache cache = new JwtProperties.Cache();
+        cache.setEnabled(cached);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setCache(cache);
+
+        AccessTokenRevocationList revocationList =
+                new AccessTokenRevocationList(jwtProperties, jwtUtil.getAccessTokenExpiration());
+        Instant expiresAt = Instant.now().plusMillis(jwtUtil.getAccessTokenExpiration());
+        for (int i = 0; i < revokedTokens; i++) {
+            revocationList.revoke(TokenDigest.of("revoked-" + i), expiresAt);
+        }
+
+        filter = new JwtAuthenticationFilter(new AccessTokenVerifier(jwtUtil, new AccessTokenCache(jwtProperties),
+                revocationList, new AuthProperties(), new AuthMetrics(new SimpleMeterRegistry())));
+        authorization = "Bearer " + jwtUtil.generateAcessToken("s12345");
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/solips/users/me");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public Object skippedAuthRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/solips/auth/login");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+}
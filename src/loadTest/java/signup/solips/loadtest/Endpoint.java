@@ -0,0 +1,39 @@
+package signup.solips.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트
+ *
+ * @author Jeongjunyun777
+ */
+
+public enum Endpoint {
+    SIGNUP("signup", "/solips/auth/signup"),
+    LOGIN("login", "/solips/auth/login"),
+    REFRESH("refresh", "/solips/auth/refresh"),
+    AUTHENTICATED("authenticated", "/solips/loadtest/me");
+
+    private final String key;
+    private final String path;
+
+    Endpoint(String key, String path) {
+        this.key = key;
+        this.path = path;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트: " + key);
+    }
+}
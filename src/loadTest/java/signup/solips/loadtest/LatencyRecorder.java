@@ -0,0 +1,84 @@
+package signup.solips.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트 하나의 지연 시간/상태 코드 기록기
+ *
+ * <p>지연 시간은 요청을 보낸 시점이 아니라 보내기로 예정된 시점부터 측정하므로,
+ * 서버가 밀려 요청이 늦게 나간 시간도 결과에 포함됩니다(coordinated omission 보정).
+ *
+ * @author Jeongjunyun777
+ */
+
+final class LatencyRecorder {
+
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private long errors;
+    private long dropped;
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+
+    synchronized void record(long latencyNanos, int status) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyNanos / 1_000;
+        statuses.merge(status, 1L, Long::sum);
+        if (status < 200 || status >= 300) {
+            errors++;
+        }
+    }
+
+    synchronized void recordDropped() {
+        dropped++;
+    }
+
+    synchronized EndpointReport report(Endpoint endpoint, double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+        return new EndpointReport(
+                endpoint.key(),
+                count,
+                errors,
+                dropped,
+                measuredSeconds > 0 ? count / measuredSeconds : 0,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99),
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1_000.0 : 0,
+                new TreeMap<>(statuses)
+        );
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+
+    /**
+     * 엔드포인트별 결과
+     *
+     * @param requests   응답을 받은 요청 수 (오류/타임아웃 포함)
+     * @param errors     2xx 가 아닌 응답 수 (연결 실패는 상태 0)
+     * @param dropped    동시 요청 상한 초과로 보내지 않은 요청 수
+     * @param throughput 초당 처리 요청 수
+     */
+    record EndpointReport(
+            String endpoint,
+            long requests,
+            long errors,
+            long dropped,
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis,
+            Map<Integer, Long> statuses
+    ) {}
+}
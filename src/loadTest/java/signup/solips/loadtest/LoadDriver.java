@@ -0,0 +1,325 @@
+package signup.solips.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-loop) 부하 발생기
+ *
+ * <p>응답을 기다리지 않고 목표 속도(rate)에 맞춰 정해진 시각마다 요청을 보냅니다.
+ * 서버가 느려져도 요청 간격이 늘어나지 않으므로 실제 사용자 유입에 가까운 지연 분포를 얻을 수 있습니다.
+ *
+ * <p>로그인 대상과 갱신 대상 사용자 풀을 나눠, 로그인으로 인한 세션 수 제한(app.auth.session.max-per-user)이
+ * 갱신 중인 세션을 밀어내지 않도록 합니다. 같은 사용자의 리프레시 토큰을 동시에 회전하면 재사용으로 판단되므로
+ * 갱신 중인 사용자는 건너뜁니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+final class LoadDriver {
+
+    private static final String PASSWORD = "Passw0rd!";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SETUP_CONCURRENCY = 8;
+    private static final int STATUS_SKIPPED = -1;
+
+    private final LoadTestOptions options;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger emailSequence = new AtomicInteger(ThreadLocalRandom.current().nextInt(100_000));
+    private final AtomicInteger loginCursor = new AtomicInteger();
+    private final AtomicInteger refreshCursor = new AtomicInteger();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private VirtualUser[] loginUsers;
+    private VirtualUser[] refreshUsers;
+
+    LoadDriver(LoadTestOptions options, URI baseUri, ObjectMapper objectMapper) {
+        this.options = options;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+    }
+
+    /**
+     * 사용자 풀을 만들고 로그인해 둡니다. 결과에는 포함되지 않습니다.
+     */
+    void prepareUsers() throws InterruptedException {
+        long startedAt = System.nanoTime();
+        loginUsers = createUsers(options.users());
+        refreshUsers = createUsers(options.users());
+        log.info("사용자 풀 준비 완료: users={}x2, elapsed={}ms",
+                options.users(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private VirtualUser[] createUsers(int size) throws InterruptedException {
+        VirtualUser[] users = new VirtualUser[size];
+        Semaphore permits = new Semaphore(SETUP_CONCURRENCY);
+        List<Runnable> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            tasks.add(() -> {
+                VirtualUser user = newUser();
+                retryWhileBusy(() -> post(Endpoint.SIGNUP, signupBody(user)).statusCode());
+                retryWhileBusy(() -> login(user));
+                users[index] = user;
+            });
+        }
+        AtomicInteger failures = new AtomicInteger();
+        for (Runnable task : tasks) {
+            permits.acquire();
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                    log.warn("사용자 준비 실패: {}", e.getMessage());
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        permits.acquire(SETUP_CONCURRENCY);
+        permits.release(SETUP_CONCURRENCY);
+        if (failures.get() > 0) {
+            throw new IllegalStateException("사용자 풀 준비 실패: " + failures.get() + "명");
+        }
+        return users;
+    }
+
+    /**
+     * 예열 후 측정 시간 동안 목표 속도로 요청을 보내고 엔드포인트별 결과를 반환합니다.
+     */
+    List<LatencyRecorder.EndpointReport> run() throws InterruptedException {
+        Endpoint[] weighted = weightedEndpoints();
+        SplittableRandom random = new SplittableRandom(42);
+        double intervalNanos = 1_000_000_000d / options.rate();
+
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup().toNanos();
+        long measureUntil = measureFrom + options.duration().toNanos();
+        log.info("부하 시작: rate={}/s, warmup={}, duration={}, mix={}",
+                options.rate(), options.warmup(), options.duration(), options.mix());
+
+        for (long i = 0; ; i++) {
+            long scheduledAt = startedAt + (long) (i * intervalNanos);
+            if (scheduledAt >= measureUntil) {
+                break;
+            }
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+            LatencyRecorder recorder = scheduledAt >= measureFrom ? recorders.get(endpoint) : null;
+            if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                inFlight.decrementAndGet();
+                if (recorder != null) {
+                    recorder.recordDropped();
+                }
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    int status = call(endpoint);
+                    if (recorder != null) {
+                        if (status == STATUS_SKIPPED) {
+                            recorder.recordDropped();
+                        } else {
+                            recorder.record(System.nanoTime() - scheduledAt, status);
+                        }
+                    }
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        double measuredSeconds = options.duration().toNanos() / 1_000_000_000d;
+        List<LatencyRecorder.EndpointReport> reports = new ArrayList<>();
+        for (Endpoint endpoint : options.mix().keySet()) {
+            reports.add(recorders.get(endpoint).report(endpoint, measuredSeconds));
+        }
+        return reports;
+    }
+
+    private Endpoint[] weightedEndpoints() {
+        List<Endpoint> weighted = new ArrayList<>();
+        options.mix().forEach((endpoint, share) -> {
+            for (int i = 0; i < share; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        return weighted.toArray(Endpoint[]::new);
+    }
+
+    private int call(Endpoint endpoint) {
+        try {
+            return switch (endpoint) {
+                case SIGNUP -> post(Endpoint.SIGNUP, signupBody(newUser())).statusCode();
+                case LOGIN -> login(loginUsers[Math.floorMod(loginCursor.getAndIncrement(), loginUsers.length)]);
+                case REFRESH -> refresh();
+                case AUTHENTICATED -> authenticated();
+            };
+        } catch (IOException e) {
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private int login(VirtualUser user) throws IOException, InterruptedException {
+        HttpResponse<String> response = post(Endpoint.LOGIN, signupBody(user));
+        if (response.statusCode() == 200) {
+            user.updateTokens(objectMapper.readTree(response.body()));
+        }
+        return response.statusCode();
+    }
+
+    private int refresh() throws IOException, InterruptedException {
+        VirtualUser user = claimRefreshUser();
+        if (user == null) {
+            return STATUS_SKIPPED;
+        }
+        try {
+            HttpResponse<String> response = post(Endpoint.REFRESH,
+                    objectMapper.writeValueAsString(Map.of("refreshToken", user.refreshToken)));
+            if (response.statusCode() == 200) {
+                user.updateTokens(objectMapper.readTree(response.body()));
+            } else if (response.statusCode() == 401) {
+                // 세션이 폐기된 경우 다음 갱신을 위해 다시 로그인 (측정 대상 아님)
+                login(user);
+            }
+            return response.statusCode();
+        } finally {
+            user.busy.set(false);
+        }
+    }
+
+    private VirtualUser claimRefreshUser() {
+        for (int attempt = 0; attempt < refreshUsers.length; attempt++) {
+            VirtualUser user = refreshUsers[Math.floorMod(refreshCursor.getAndIncrement(), refreshUsers.length)];
+            if (user.busy.compareAndSet(false, true)) {
+                return user;
+            }
+        }
+        return null;
+    }
+
+    private int authenticated() throws IOException, InterruptedException {
+        VirtualUser user = refreshUsers[ThreadLocalRandom.current().nextInt(refreshUsers.length)];
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(Endpoint.AUTHENTICATED.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + user.accessToken)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpResponse<String> post(Endpoint endpoint, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(endpoint.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String signupBody(VirtualUser user) throws IOException {
+        return objectMapper.writeValueAsString(Map.of(
+                "email", user.email,
+                "userId", user.userId,
+                "password", PASSWORD));
+    }
+
+    private VirtualUser newUser() {
+        int sequence = Math.floorMod(emailSequence.getAndIncrement(), 100_000);
+        return new VirtualUser(String.format("s%05d@gsm.hs.kr", sequence), "lt-" + runId + "-" + sequence);
+    }
+
+    /**
+     * 준비 단계 요청은 해시 대기열 초과(503) 시 잠시 후 다시 보냅니다.
+     */
+    private void retryWhileBusy(StatusCall call) {
+        try {
+            for (int attempt = 0; attempt < 50; attempt++) {
+                int status = call.call();
+                if (status >= 200 && status < 300) {
+                    return;
+                }
+                if (status != 503) {
+                    throw new IllegalStateException("준비 요청 실패: status=" + status);
+                }
+                Thread.sleep(200);
+            }
+            throw new IllegalStateException("준비 요청 실패: 서버가 계속 503 을 반환합니다.");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatusCall {
+        int call() throws IOException, InterruptedException;
+    }
+
+    private static final class VirtualUser {
+        private final String email;
+        private final String userId;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile String accessToken;
+        private volatile String refreshToken;
+
+        private VirtualUser(String email, String userId) {
+            this.email = email;
+            this.userId = userId;
+        }
+
+        private void updateTokens(JsonNode body) {
+            accessToken = body.path("accessToken").asText(null);
+            refreshToken = body.path("refreshToken").asText(null);
+        }
+    }
+}
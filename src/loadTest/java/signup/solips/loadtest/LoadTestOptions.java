@@ -0,0 +1,112 @@
+package signup.solips.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션
+ *
+ * <p>{@code --이름=값} 형식으로 받으며, 알 수 없는 옵션(예: --spring.threads.virtual.enabled=true)은 내장 앱에 그대로 전달합니다.
+ *
+ * 옵션:
+ * <ul>
+ *   <li>rate - 초당 요청 수 (기본 50)</li>
+ *   <li>duration - 측정 시간 (기본 30s)</li>
+ *   <li>warmup - 측정 전 예열 시간, 결과에 포함하지 않음 (기본 10s)</li>
+ *   <li>mix - 엔드포인트별 비율 (기본 signup:5,login:10,refresh:25,authenticated:60)</li>
+ *   <li>users - 로그인용/갱신용 사용자 풀 크기 (기본 50)</li>
+ *   <li>max-in-flight - 동시에 대기 중인 요청 상한, 넘으면 요청을 보내지 않고 dropped 로 집계 (기본 1000)</li>
+ *   <li>target - 이미 떠 있는 서버 주소, 없으면 loadtest 프로필로 앱을 직접 띄움</li>
+ *   <li>report - JSON 결과 파일 (기본 build/reports/loadtest/results.json)</li>
+ *   <li>compare-threads - 값 없이 지정, 같은 부하를 플랫폼 스레드와 가상 스레드(spring.threads.virtual.enabled)로
+ *       차례로 실행해 비교 (내장 앱에서만, 예: --compare-threads --rate=2000 --max-in-flight=5000)</li>
+ *   <li>compare-stacks - 값 없이 지정, 같은 부하를 서블릿(기본)과 WebFlux/R2DBC(reactive 프로필)로 차례로 실행해
+ *       지연 시간과 DB 커넥션/스레드 사용량을 비교 (내장 앱에서만, 예: --compare-stacks --rate=3000 --max-in-flight=10000)</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+public record LoadTestOptions(
+        double rate,
+        Duration duration,
+        Duration warmup,
+        Map<Endpoint, Integer> mix,
+        int users,
+        int maxInFlight,
+        URI target,
+        Path report,
+        boolean compareThreads,
+        boolean compareStacks,
+        List<String> applicationArgs
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        double rate = 50;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(10);
+        Map<Endpoint, Integer> mix = parseMix("signup:5,login:10,refresh:25,authenticated:60");
+        int users = 50;
+        int maxInFlight = 1000;
+        URI target = null;
+        Path report = Path.of("build", "reports", "loadtest", "results.json");
+        boolean compareThreads = false;
+        boolean compareStacks = false;
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator > 0 ? arg.substring(0, separator) : arg;
+            String value = separator > 0 ? arg.substring(separator + 1) : "";
+            switch (name) {
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--duration" -> duration = DurationStyle.detectAndParse(value);
+                case "--warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "--mix" -> mix = parseMix(value);
+                case "--users" -> users = Integer.parseInt(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--target" -> target = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "--report" -> report = Path.of(value);
+                case "--compare-threads" -> compareThreads = value.isEmpty() || Boolean.parseBoolean(value);
+                case "--compare-stacks" -> compareStacks = value.isEmpty() || Boolean.parseBoolean(value);
+                default -> applicationArgs.add(arg);
+            }
+        }
+        if (rate <= 0 || users <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate, users, max-in-flight 는 0보다 커야 합니다.");
+        }
+        if ((compareThreads || compareStacks) && target != null) {
+            throw new IllegalArgumentException("compare-threads, compare-stacks 는 내장 앱을 띄울 때만 사용할 수 있습니다.");
+        }
+        if (compareThreads && compareStacks) {
+            throw new IllegalArgumentException("compare-threads 와 compare-stacks 는 함께 사용할 수 없습니다.");
+        }
+        return new LoadTestOptions(rate, duration, warmup, mix, users, maxInFlight, target, report, compareThreads,
+                compareStacks, List.copyOf(applicationArgs));
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.trim().split(":");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("mix 형식은 endpoint:비율,... 입니다: " + value);
+            }
+            int share = Integer.parseInt(weight[1].trim());
+            if (share > 0) {
+                mix.put(Endpoint.fromKey(weight[0].trim()), share);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 최소 한 개의 엔드포인트가 필요합니다.");
+        }
+        return mix;
+    }
+}
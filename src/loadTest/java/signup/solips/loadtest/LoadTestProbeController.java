@@ -0,0 +1,26 @@
+package signup.solips.loadtest;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트 전용 인증 엔드포인트
+ *
+ * <p>loadTest 소스셋에만 있으며, JWT 필터를 거치는 인증 요청의 비용을 측정할 때 사용합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@RestController
+@RequestMapping("/solips/loadtest")
+public class LoadTestProbeController {
+
+    @GetMapping("/me")
+    public Map<String, String> me(Authentication authentication) {
+        return Map.of("userId", authentication.getName());
+    }
+}
@@ -0,0 +1,221 @@
+package signup.solips.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import signup.solips.SolipsProjectApplication;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 진입점 ({@code gradle loadTest})
+ *
+ * <p>--target 이 없으면 loadtest 프로필(내장 H2, MySQL 모드)로 앱 전체를 같은 JVM 에 띄운 뒤 부하를 걸고,
+ * 엔드포인트별 처리량과 p50/p95/p99 지연 시간을 출력하고 JSON 파일로 저장합니다.
+ * 네트워크나 외부 DB 없이 한 대의 장비에서 빌드 간 성능을 비교하기 위한 용도입니다.
+ *
+ * <p>--compare-threads 를 주면 플랫폼 스레드, 가상 스레드 순서로, --compare-stacks 를 주면 서블릿(JDBC),
+ * WebFlux(R2DBC, reactive 프로필) 순서로 앱을 새로 띄워 같은 부하를 걸고 결과를 나란히 출력합니다.
+ * 두 번째 실행은 첫 번째 실행에서 JIT 컴파일된 코드를 이어 쓰므로 warmup 을 충분히 주는 것이 좋습니다.
+ *
+ * <p>내장 앱으로 실행하면 측정 구간 동안 DB 커넥션과 스레드 사용량의 최댓값({@link ResourceSampler})도 함께 기록합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final String VIRTUAL_THREADS_ARG = "--spring.threads.virtual.enabled";
+    private static final String PROFILES_ARG = "--spring.profiles.active";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        int exitCode = 0;
+        try {
+            Map<String, List<String>> modes = comparedModes(options);
+            if (!modes.isEmpty()) {
+                Map<String, RunResult> runs = new LinkedHashMap<>();
+                for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                    RunResult result = run(options, objectMapper, mode.getValue());
+                    System.out.printf("%n[%s]", mode.getKey());
+                    printReport(options, result);
+                    runs.put(mode.getKey(), result);
+                }
+                List<RunSummary> summaries = runs.entrySet().stream()
+                        .map(run -> RunSummary.of(run.getKey(), run.getValue()))
+                        .toList();
+                printComparison(summaries);
+                writeComparison(options, objectMapper, runs, summaries);
+            } else {
+                RunResult result = run(options, objectMapper, options.applicationArgs());
+                printReport(options, result);
+                writeReport(options, objectMapper, result);
+            }
+        } catch (RuntimeException e) {
+            log.error("부하 테스트 실패", e);
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 필요하면 앱을 띄우고, 사용자 풀을 준비한 뒤 부하를 한 번 걸고 앱을 내립니다.
+     */
+    private static RunResult run(LoadTestOptions options, ObjectMapper objectMapper,
+                                 List<String> applicationArgs) throws InterruptedException {
+        ConfigurableApplicationContext context = null;
+        URI baseUri = options.target();
+        if (baseUri == null) {
+            SpringApplication application = new SpringApplication(SolipsProjectApplication.class);
+            application.setAdditionalProfiles("loadtest");
+            context = application.run(applicationArgs.toArray(String[]::new));
+            baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        }
+        try {
+            LoadDriver driver = new LoadDriver(options, baseUri, objectMapper);
+            driver.prepareUsers();
+            ResourceSampler sampler = context != null ? ResourceSampler.start(context) : null;
+            List<LatencyRecorder.EndpointReport> endpoints = driver.run();
+            return new RunResult(endpoints, sampler != null ? sampler.stop() : null);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    // 비교 실행이면 (이름, 앱 인자) 목록, 아니면 빈 맵
+    private static Map<String, List<String>> comparedModes(LoadTestOptions options) {
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        if (options.compareThreads()) {
+            modes.put("platform", overrideArg(options, VIRTUAL_THREADS_ARG, "false"));
+            modes.put("virtual", overrideArg(options, VIRTUAL_THREADS_ARG, "true"));
+        } else if (options.compareStacks()) {
+            modes.put("servlet", overrideArg(options, PROFILES_ARG, null));
+            modes.put("reactive", overrideArg(options, PROFILES_ARG, "reactive"));
+        }
+        return modes;
+    }
+
+    // 같은 이름의 인자를 지우고, value 가 있으면 새 값으로 추가
+    private static List<String> overrideArg(LoadTestOptions options, String name, String value) {
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : options.applicationArgs()) {
+            if (!arg.startsWith(name)) {
+                applicationArgs.add(arg);
+            }
+        }
+        if (value != null) {
+            applicationArgs.add(name + "=" + value);
+        }
+        return applicationArgs;
+    }
+
+    private static void printReport(LoadTestOptions options, RunResult result) {
+        System.out.printf("%n목표 %.1f req/s, 측정 %ds%n", options.rate(), options.duration().toSeconds());
+        System.out.printf("%-14s %9s %7s %8s %10s %9s %9s %9s %9s  %s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "status");
+        for (LatencyRecorder.EndpointReport report : result.endpoints()) {
+            System.out.printf("%-14s %9d %7d %8d %10.1f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    report.endpoint(), report.requests(), report.errors(), report.dropped(), report.throughput(),
+                    report.p50Millis(), report.p95Millis(), report.p99Millis(), report.maxMillis(), report.statuses());
+        }
+        if (result.resources() != null) {
+            System.out.printf("최대 DB 커넥션 %d (대기 %d), 최대 스레드 %d%n", result.resources().dbConnections(),
+                    result.resources().dbConnectionsPending(), result.resources().threads());
+        }
+    }
+
+    private static void printComparison(List<RunSummary> summaries) {
+        System.out.printf("%n실행 모드 비교 (전체 엔드포인트 합계, p99 는 엔드포인트 중 최댓값)%n");
+        System.out.printf("%-10s %9s %7s %8s %10s %9s %9s %9s %8s%n",
+                "mode", "requests", "errors", "dropped", "req/s", "p99(ms)", "db-conns", "db-wait", "threads");
+        for (RunSummary summary : summaries) {
+            System.out.printf("%-10s %9d %7d %8d %10.1f %9.2f %9d %9d %8d%n",
+                    summary.mode(), summary.requests(), summary.errors(), summary.dropped(),
+                    summary.throughput(), summary.p99Millis(),
+                    summary.peakDbConnections(), summary.peakDbConnectionsPending(), summary.peakThreads());
+        }
+    }
+
+    private static void writeReport(LoadTestOptions options, ObjectMapper objectMapper,
+                                    RunResult run) throws IOException {
+        Map<String, Object> result = baseResult(options);
+        result.put("applicationArgs", options.applicationArgs());
+        result.put("endpoints", run.endpoints());
+        result.put("resources", run.resources());
+        write(options, objectMapper, result);
+    }
+
+    private static void writeComparison(LoadTestOptions options, ObjectMapper objectMapper,
+                                        Map<String, RunResult> runs,
+                                        List<RunSummary> summaries) throws IOException {
+        Map<String, Object> result = baseResult(options);
+        result.put("applicationArgs", options.applicationArgs());
+        result.put("comparison", summaries);
+        result.put("runs", runs);
+        write(options, objectMapper, result);
+    }
+
+    private static Map<String, Object> baseResult(LoadTestOptions options) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("finishedAt", Instant.now().toString());
+        result.put("rate", options.rate());
+        result.put("durationSeconds", options.duration().toSeconds());
+        result.put("warmupSeconds", options.warmup().toSeconds());
+        result.put("users", options.users());
+        return result;
+    }
+
+    private static void write(LoadTestOptions options, ObjectMapper objectMapper, Map<String, Object> result) throws IOException {
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        objectMapper.writeValue(options.report().toFile(), result);
+        log.info("부하 테스트 결과 저장: {}", options.report().toAbsolutePath());
+    }
+
+    /**
+     * 한 번의 실행 결과, 외부 서버(--target)를 측정했으면 resources 는 null
+     */
+    record RunResult(List<LatencyRecorder.EndpointReport> endpoints, ResourceSampler.Peaks resources) {
+    }
+
+    /**
+     * 한 번의 실행을 엔드포인트 합계로 요약한 값
+     */
+    record RunSummary(String mode, long requests, long errors, long dropped, double throughput, double p99Millis,
+                      int peakDbConnections, int peakDbConnectionsPending, int peakThreads) {
+
+        static RunSummary of(String mode, RunResult result) {
+            long requests = 0;
+            long errors = 0;
+            long dropped = 0;
+            double throughput = 0;
+            double p99Millis = 0;
+            for (LatencyRecorder.EndpointReport report : result.endpoints()) {
+                requests += report.requests();
+                errors += report.errors();
+                dropped += report.dropped();
+                throughput += report.throughput();
+                p99Millis = Math.max(p99Millis, report.p99Millis());
+            }
+            ResourceSampler.Peaks peaks = result.resources();
+            return new RunSummary(mode, requests, errors, dropped, throughput, p99Millis,
+                    peaks.dbConnections(), peaks.dbConnectionsPending(), peaks.threads());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package signup.solips.loadtest;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 부하 테스트에서 reactive 프로필로 띄울 때의 서버 설정
+ *
+ * <p>부하 테스트 클래스패스에는 서블릿용 Tomcat 이 함께 있어 스프링 부트가 WebFlux 도 Tomcat 위에서 실행하므로,
+ * Netty 서버 팩토리를 직접 등록해 요청을 이벤트 루프에서 처리하게 합니다.
+ * reactive 실행 파일(bootJarReactive)에는 Tomcat 이 없어 이 설정 없이도 Netty 로 실행됩니다.
+ * 서버 포트, graceful shutdown 등 server.* 설정은 스프링 부트가 그대로 적용합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+public class ReactiveStackConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(ObjectProvider<NettyServerCustomizer> serverCustomizers) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.getServerCustomizers().addAll(serverCustomizers.orderedStream().toList());
+        return factory;
+    }
+}
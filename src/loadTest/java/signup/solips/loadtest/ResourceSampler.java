@@ -0,0 +1,81 @@
+package signup.solips.loadtest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 중 내장 앱의 DB 커넥션과 스레드 사용량 최댓값 측정
+ *
+ * <p>내장 앱의 MeterRegistry 에서 커넥션 풀 지표를 주기적으로 읽어 최댓값을 기록합니다.
+ * JDBC 는 hikaricp.connections.active/pending, R2DBC 는 r2dbc.pool.acquired/pending 을 사용하므로
+ * 서블릿과 reactive 실행을 같은 기준으로 비교할 수 있습니다.
+ * 스레드 수는 JVM 전체의 최댓값이라 부하 발생기의 스레드도 포함합니다 (두 실행에서 같음).
+ *
+ * @author Jeongjunyun777
+ */
+
+final class ResourceSampler {
+
+    private static final long INTERVAL_MILLIS = 50;
+
+    private final MeterRegistry registry;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private double peakActive;
+    private double peakPending;
+
+    private ResourceSampler(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    static ResourceSampler start(ConfigurableApplicationContext context) {
+        ResourceSampler sampler = new ResourceSampler(context.getBean(MeterRegistry.class));
+        sampler.threads.resetPeakThreadCount();
+        sampler.scheduler.scheduleAtFixedRate(sampler::sample, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    /**
+     * 측정을 멈추고 최댓값을 돌려줍니다.
+     */
+    Peaks stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        sample();
+        return new Peaks((int) peakActive, (int) peakPending, threads.getPeakThreadCount());
+    }
+
+    // 샘플러 스레드에서만 호출되고, stop() 은 스케줄러 종료를 기다린 뒤 읽음
+    private void sample() {
+        peakActive = Math.max(peakActive, sum("hikaricp.connections.active") + sum("r2dbc.pool.acquired"));
+        peakPending = Math.max(peakPending, sum("hikaricp.connections.pending") + sum("r2dbc.pool.pending"));
+    }
+
+    private double sum(String gauge) {
+        return registry.find(gauge).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(Double::isFinite)
+                .sum();
+    }
+
+    /**
+     * 측정 구간의 최댓값
+     *
+     * @param dbConnections        동시에 사용 중이던 DB 커넥션 수
+     * @param dbConnectionsPending 커넥션을 기다리던 요청 수
+     * @param threads              JVM 플랫폼 스레드 수
+     */
+    record Peaks(int dbConnections, int dbConnectionsPending, int threads) {
+    }
+}
@@ -0,0 +1,323 @@
+package signup.solips.global;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.auth")
+
+public class AuthProperties {
+
+    private Password password = new Password();
+    private RefreshToken refreshToken = new RefreshToken();
+    private Session session = new Session();
+    private Admin admin = new Admin();
+    private BulkImport bulkImport = new BulkImport();
+    private Profiling profiling = new Profiling();
+    private LoginThrottle loginThrottle = new LoginThrottle();
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+    private MembershipIndex membershipIndex = new MembershipIndex();
+    private UserCache userCache = new UserCache();
+    private VirtualThreads virtualThreads = new VirtualThreads();
+    private Introspection introspection = new Introspection();
+    private Metrics metrics = new Metrics();
+
+    @Getter
+    @Setter
+    public static class Password {
+        private int bcryptStrength = 10;
+        private Calibration calibration = new Calibration();
+        private Hashing hashing = new Hashing();
+    }
+
+    /**
+     * 기동 시 BCrypt 비용 보정 설정 (app.auth.password.calibration.*)
+     */
+    @Getter
+    @Setter
+    public static class Calibration {
+        private boolean enabled = true;
+        private long targetMillis = 250;
+        private int maxStrength = 14;
+    }
+
+    /**
+     * 비밀번호 해시 전용 실행기 설정 (app.auth.password.hashing.*)
+     */
+    @Getter
+    @Setter
+    public static class Hashing {
+        // 0 이하이면 CPU 코어 수를 사용
+        private int threads = 0;
+        private int queueCapacity = 64;
+    }
+
+    /**
+     * 리프레시 토큰 저장 설정 (app.auth.refresh-token.*)
+     */
+    @Getter
+    @Setter
+    public static class RefreshToken {
+        // 세션 조회 실패 시 users 테이블의 기존 토큰 컬럼을 조회해 이전할지 여부 (이전 완료 후 false 권장)
+        private boolean legacyLookupEnabled = true;
+    }
+
+    /**
+     * 기기별 세션 설정 (app.auth.session.*)
+     */
+    @Getter
+    @Setter
+    public static class Session {
+        private int maxPerUser = 5;
+        // 세션 저장소 (jpa: user_sessions 테이블, mapped: 메모리 매핑 파일)
+        private Store store = Store.JPA;
+        private Purge purge = new Purge();
+        private WriteBehind writeBehind = new WriteBehind();
+        private Mapped mapped = new Mapped();
+    }
+
+    public enum Store {
+        JPA,
+        MAPPED
+    }
+
+    /**
+     * 만료 세션 정리 작업 설정 (app.auth.session.purge.*)
+     */
+    @Getter
+    @Setter
+    public static class Purge {
+        private boolean enabled = true;
+        private Duration initialDelay = Duration.ofMinutes(1);
+        private Duration interval = Duration.ofMinutes(10);
+        private int batchSize = 500;
+        private Duration batchPause = Duration.ofMillis(100);
+        private int maxBatchesPerRun = 200;
+    }
+
+    /**
+     * 세션 쓰기 지연 반영 설정 (app.auth.session.write-behind.*)
+     */
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        // true 면 로그인/모든 기기 로그아웃의 세션 쓰기를 모아서 배치로 반영
+        private boolean enabled = false;
+        private Duration flushInterval = Duration.ofMillis(5);
+        // 이만큼 쌓이면 주기를 기다리지 않고 반영
+        private int batchSize = 200;
+        // 버퍼 상한, 넘으면 버퍼를 비우고 직접 저장
+        private int maxPending = 10_000;
+    }
+
+    /**
+     * 메모리 매핑 파일 세션 저장소 설정 (app.auth.session.mapped.*)
+     */
+    @Getter
+    @Setter
+    public static class Mapped {
+        private Path directory = Path.of("data", "sessions");
+        // 로그 파일 크기, 가득 차면 압축하고 살아 있는 세션이 절반을 넘으면 두 배로 늘림
+        private DataSize logSize = DataSize.ofMegabytes(64);
+        private int initialIndexCapacity = 16_384;
+        // 디스크 동기화 주기 (프로세스 종료는 잃지 않고, 정전 시 이 구간의 쓰기를 잃을 수 있음)
+        private Duration syncInterval = Duration.ofSeconds(1);
+        // 만료/폐기된 기록 정리 주기
+        private Duration compactionInterval = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 관리자 설정 (app.auth.admin.*)
+     */
+    @Getter
+    @Setter
+    public static class Admin {
+        // ROLE_ADMIN 권한을 부여할 사용자 아이디
+        private Set<String> userIds = new HashSet<>();
+    }
+
+    /**
+     * 명단 일괄 가입 설정 (app.auth.bulk-import.*)
+     */
+    @Getter
+    @Setter
+    public static class BulkImport {
+        // 한 번에 검증/해시/INSERT 하는 행 수
+        private int batchSize = 200;
+    }
+
+    /**
+     * 관리자 JFR 기록 설정 (app.auth.profiling.*)
+     */
+    @Getter
+    @Setter
+    public static class Profiling {
+        // 기록 최대 시간, 요청한 시간이 더 길어도 이 시간이 지나면 자동 중지
+        private Duration maxDuration = Duration.ofMinutes(10);
+        // 디스크에 보관할 기록 최대 크기
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+        // JFR 설정 이름 (default 또는 profile)
+        private String settings = "profile";
+    }
+
+    /**
+     * 로그인 시도 제한 설정 (app.auth.login-throttle.*)
+     */
+    @Getter
+    @Setter
+    public static class LoginThrottle {
+        private boolean enabled = true;
+        private Limit perUser = new Limit(10, Duration.ofSeconds(6));
+        private Limit perIp = new Limit(30, Duration.ofSeconds(1));
+        // 아이디/이메일 중복 확인 (IP별), 가입된 아이디/이메일 목록을 긁어 가지 못하도록 로그인보다 느리게 채움
+        private Limit perIpLookup = new Limit(20, Duration.ofSeconds(3));
+        // 버킷 보관 조각 수 (2의 거듭제곱으로 내림)
+        private int stripes = 16;
+        // 아이디/IP 각각의 최대 버킷 수
+        private int maxEntries = 100_000;
+        private Duration idleEvictionInterval = Duration.ofMinutes(1);
+    }
+
+    /**
+     * 토큰 버킷 한도: capacity 번까지 연속 허용, 이후 refill-period 마다 한 번씩 허용
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private Duration refillPeriod;
+    }
+
+    /**
+     * 적응형 동시 처리 한도 설정 (app.auth.concurrency-limit.*)
+     */
+    @Getter
+    @Setter
+    public static class ConcurrencyLimit {
+        private boolean enabled = true;
+        // 느린 응답/과부하 시 한도에 곱하는 비율
+        private double backoffRatio = 0.9;
+        // 회원가입/로그인/토큰 갱신
+        private ConcurrencyGroup auth = new ConcurrencyGroup(32, 8, 256, Duration.ofSeconds(1));
+        // 그 외 요청
+        private ConcurrencyGroup api = new ConcurrencyGroup(100, 10, 1000, Duration.ofMillis(250));
+    }
+
+    /**
+     * 요청 그룹별 동시 처리 한도: latency-threshold 보다 느린 응답이 나오면 한도 감소
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConcurrencyGroup {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private Duration latencyThreshold;
+    }
+
+    /**
+     * 아이디/이메일 중복 체크 색인 설정 (app.auth.membership-index.*)
+     */
+    @Getter
+    @Setter
+    public static class MembershipIndex {
+        // false 면 모든 중복 체크를 DB로 확인
+        private boolean enabled = true;
+        // Bloom 필터 최소 크기 (사용자 수의 두 배와 비교해 큰 값 사용)
+        private int minExpectedInsertions = 100_000;
+        private double falsePositiveRate = 0.01;
+        // 색인 재구성 간격 (용량 확장, 다른 인스턴스 가입 반영)
+        private Duration rebuildInterval = Duration.ofHours(1);
+    }
+
+    /**
+     * 로그인용 사용자 정보 캐시 설정 (app.auth.user-cache.*)
+     */
+    @Getter
+    @Setter
+    public static class UserCache {
+        // false 면 로그인마다 users 를 조회
+        private boolean enabled = true;
+        // 다른 인스턴스에서의 비밀번호 변경이 반영되기까지의 최대 지연
+        private Duration ttl = Duration.ofSeconds(60);
+        private int maxEntries = 10_000;
+    }
+
+    /**
+     * 가상 스레드 모드 보조 설정 (app.auth.virtual-threads.*), spring.threads.virtual.enabled=true 일 때만 사용
+     */
+    @Getter
+    @Setter
+    public static class VirtualThreads {
+        private DbGuard dbGuard = new DbGuard();
+        private Pinning pinning = new Pinning();
+    }
+
+    /**
+     * DB 커넥션 동시 사용 한도 (app.auth.virtual-threads.db-guard.*)
+     */
+    @Getter
+    @Setter
+    public static class DbGuard {
+        private boolean enabled = true;
+        // 0 이하이면 Hikari maximum-pool-size
+        private int maxConcurrency = 0;
+        // 이 시간 안에 커넥션 차례가 오지 않으면 503(COMMON-004)
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+    }
+
+    /**
+     * 캐리어 스레드 고정(pinning) 감지 설정 (app.auth.virtual-threads.pinning.*)
+     */
+    @Getter
+    @Setter
+    public static class Pinning {
+        private boolean enabled = true;
+        // 이보다 오래 고정된 경우만 집계 (JFR jdk.VirtualThreadPinned 기본값과 같음)
+        private Duration threshold = Duration.ofMillis(20);
+        // 같은 위치의 고정은 처음 한 번만 스택과 함께 경고, 기억할 위치 수 상한
+        private int maxReportedSites = 100;
+    }
+
+    /**
+     * 지표 수집 설정 (app.auth.metrics.*)
+     */
+    @Getter
+    @Setter
+    public static class Metrics {
+        // ROLE_METRICS 권한을 부여할 사용자 아이디 (/actuator/prometheus 수집용 계정)
+        private Set<String> scraperUserIds = new HashSet<>();
+    }
+
+    /**
+     * 토큰 일괄 확인 API 설정 (app.auth.introspection.*)
+     */
+    @Getter
+    @Setter
+    public static class Introspection {
+        // ROLE_INTROSPECT 권한을 부여할 사용자 아이디 (게이트웨이 등 내부 서비스 계정)
+        private Set<String> clientUserIds = new HashSet<>();
+        // 요청 한 번에 확인할 수 있는 최대 토큰 수
+        private int maxTokens = 1000;
+        // 서로 다른 토큰이 이 수 이상이면 병렬로 검증
+        private int parallelThreshold = 64;
+        // 응답 Cache-Control max-age 상한, 로그아웃이 호출자 캐시에 반영되기까지의 최대 지연
+        private Duration maxAge = Duration.ofSeconds(5);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Setter
 @Getter
 @Component
@@ -18,6 +20,8 @@ public class JwtProperties {
 
     private AccessToken accessToken = new AccessToken();
     private RefreshToken refreshToken = new RefreshToken();
+    private Cache cache = new Cache();
+    private Revocation revocation = new Revocation();
 
     @Getter
     @Setter
@@ -30,4 +34,28 @@ public class JwtProperties {
     public static class RefreshToken {
         private long expiration;
     }
+
+    /**
+     * 검증된 Access Token 캐시 설정 (jwt.cache.*)
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = false;
+        private int maxEntries = 10_000;
+    }
+
+    /**
+     * 폐기된 Access Token 목록 설정 (jwt.revocation.*)
+     */
+    @Getter
+    @Setter
+    public static class Revocation {
+        // 만료 시각 기준 세대 구간, 구간이 끝난 세대는 통째로 제거
+        private Duration generationPeriod = Duration.ofMinutes(5);
+        // 세대당 예상 폐기 토큰 수, Bloom 필터 크기 계산에 사용
+        private int expectedInsertions = 10_000;
+        // 예상 항목 수에서의 Bloom 필터 목표 오탐률
+        private double falsePositiveRate = 0.01;
+    }
 }
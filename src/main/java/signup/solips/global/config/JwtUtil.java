@@ -1,19 +1,28 @@
 package signup.solips.global.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import signup.solips.global.security.TokenVerification;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -30,11 +39,19 @@ import java.util.function.Function;
  *   <li>Refresh Token 만료 시간 계산</li>
  * </ul>
  *
+ * <p>Refresh Token에는 토큰마다 다른 jti와, 로그인 한 번에서 시작된 회전(rotation) 계열을 나타내는
+ * family 클레임({@value #FAMILY_CLAIM})이 포함됩니다.
+ *
+ * <p>서명 키와 파서는 기동 시 한 번만 생성해 재사용합니다. {@link JwtParser}는 불변 객체이므로
+ * 여러 요청 스레드에서 동시에 사용해도 안전합니다.
+ *
  * @author Jeongjunyun777
  */
 
 @Component
 public class JwtUtil {
+    public static final String FAMILY_CLAIM = "fam";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -44,22 +61,34 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
 
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
 
     public String generateAcessToken(String userId) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userId, accessTokenExpiration);
+        return createToken(claims, userId, accessTokenExpiration, null);
     }
 
-    private String createToken(Map<String, Object> claims, String subject, Long accessTokenExpiration) {
+    // expiration 설정값은 밀리초 단위 (jwt.*-token-expiration)
+    private String createToken(Map<String, Object> claims, String subject, Long expiration, String tokenId) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime()+accessTokenExpiration*1000);
+        Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(tokenId)
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     public String getUserIdFromToken(String token) {
@@ -73,30 +102,50 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
-    public boolean validateToken(String token) {
+
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료를 함께 검증합니다.
+     *
+     * <p>예외를 던지지 않고 실패 사유를 {@link TokenVerification}에 담아 반환하므로,
+     * 호출 측에서 subject 추출과 유효성 검사를 위해 토큰을 다시 파싱할 필요가 없습니다.
+     * 서명이 맞아도 subject 가 없는 토큰은 인증할 사용자가 없으므로 {@link TokenVerification.Status#MALFORMED}로 봅니다.
+     *
+     * @param token 검증할 JWT 문자열
+     * @return 검증 결과(subject, 만료 시각, 실패 사유)
+     */
+    public TokenVerification verify(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenVerification.failure(TokenVerification.Status.EMPTY);
+        }
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null || claims.getSubject().isBlank()) {
+                return TokenVerification.failure(TokenVerification.Status.MALFORMED);
+            }
+            return TokenVerification.valid(
+                    claims.getSubject(),
+                    toInstant(claims.getExpiration()),
+                    claims.get(FAMILY_CLAIM, String.class));
+        } catch (ExpiredJwtException e) {
+            Claims claims = e.getClaims();
+            return TokenVerification.expired(claims.getSubject(), toInstant(claims.getExpiration()));
+        } catch (SecurityException e) {
+            return TokenVerification.failure(TokenVerification.Status.INVALID_SIGNATURE);
+        } catch (UnsupportedJwtException e) {
+            return TokenVerification.failure(TokenVerification.Status.UNSUPPORTED);
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenVerification.failure(TokenVerification.Status.MALFORMED);
         }
     }
-    private boolean isTokenExpired(String token) {
-        return getExpirationDateFromToken(token).before(new Date());
+
+    public boolean validateToken(String token) {
+        return verify(token).isValid();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
 
     public LocalDateTime getRefreshTokenExpiresAt() {
@@ -119,8 +168,20 @@ public class JwtUtil {
     }
 
     public String generateRefreshToken(String userId) {
+        return generateRefreshToken(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 기존 토큰 계열을 이어가는 Refresh Token을 생성합니다.
+     *
+     * @param userId   사용자 아이디
+     * @param familyId 토큰 계열 ID (로그인 시 생성, 회전 시 유지)
+     * @return 새 Refresh Token
+     */
+    public String generateRefreshToken(String userId, String familyId) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userId, refreshTokenExpiration);
+        claims.put(FAMILY_CLAIM, familyId);
+        return createToken(claims, userId, refreshTokenExpiration, UUID.randomUUID().toString());
     }
 
 
@@ -0,0 +1,17 @@
+package signup.solips.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * <p>{@code @Scheduled} 백그라운드 작업(만료 세션 정리 등)을 활성화합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
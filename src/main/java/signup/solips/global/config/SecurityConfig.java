@@ -1,16 +1,20 @@
 package signup.solips.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.security.CalibratedPasswordEncoder;
+import signup.solips.global.security.ConcurrencyLimitFilter;
 import signup.solips.global.security.JwtAuthenticationFilter;
 
 /**
@@ -20,11 +24,15 @@ import signup.solips.global.security.JwtAuthenticationFilter;
  *
  * <p>주요 기능:
  * <ul>
- *   <li>BCryptPasswordEncoder 빈 등록</li>
+ *   <li>BCrypt 비밀번호 인코더({@link CalibratedPasswordEncoder}) 빈 등록</li>
  *   <li>CSRF 비활성화</li>
  *   <li>세션 상태 Stateless로 설정</li>
- *   <li>인증 불필요 경로 설정 ("/solips/auth/**", "/error")</li>
+ *   <li>인증 불필요 경로 설정 ("/solips/auth/**", "/error", 헬스 체크 경로)</li>
+ *   <li>Prometheus 수집 경로("/actuator/prometheus")는 ROLE_ADMIN 또는 ROLE_METRICS 필요 (인증 지표와 JVM/커넥션 풀 정보 보호)</li>
+ *   <li>관리자 경로("/solips/admin/**")는 ROLE_ADMIN 필요</li>
+ *   <li>토큰 일괄 확인("/solips/auth/introspect")은 ROLE_ADMIN 또는 ROLE_INTROSPECT 필요</li>
  *   <li>JWT 필터({@link JwtAuthenticationFilter}) 등록</li>
+ *   <li>동시 처리 한도 필터({@link ConcurrencyLimitFilter})를 JWT 필터 앞에 등록하여, 한도 초과 요청은 토큰 검증 전에 거절</li>
  * </ul>
  *
  * @author Jeongjunyun777
@@ -33,12 +41,14 @@ import signup.solips.global.security.JwtAuthenticationFilter;
 @EnableWebSecurity
 @RequiredArgsConstructor
 @Configuration
+@Profile("!reactive")
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthProperties authProperties) {
+        return new CalibratedPasswordEncoder(authProperties.getPassword());
     }
 
     @Bean
@@ -56,13 +66,28 @@ public class SecurityConfig {
                                 "/solips/auth/logout",
                                 "/solips/auth/refresh",
                                 "/solips/auth/check-userid",
-                                "/error"
+                                "/solips/auth/check-email",
+                                "/error",
+                                "/actuator/health"
                         ).permitAll()
+                        .requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS")
+                        .requestMatchers("/solips/auth/introspect").hasAnyRole("ADMIN", "INTROSPECT")
+                        .requestMatchers("/solips/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
 
                 .addFilterBefore(jwtAuthenticationFilter,
-                        UsernamePasswordAuthenticationFilter.class);
+                        UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(concurrencyLimitFilter,
+                        JwtAuthenticationFilter.class);
         return http.build();
     }
+
+    // 시큐리티 필터 체인에서만 실행되도록 서블릿 컨테이너 자동 등록 해제
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration() {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
 }
@@ -0,0 +1,67 @@
+package signup.solips.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.datasource.GuardedDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드 설정 (spring.threads.virtual.enabled=true)
+ *
+ * <p>스프링 부트가 Tomcat 요청 처리, {@code @Async}, {@code @Scheduled} 실행기를 가상 스레드로 바꾸고,
+ * 이 설정은 그때 필요한 보조 장치를 등록합니다.
+ * <ul>
+ *   <li>DataSource 를 {@link GuardedDataSource}로 감싸 커넥션 동시 사용을 풀 크기로 제한
+ *       (app.auth.virtual-threads.db-guard.*)</li>
+ *   <li>캐리어 스레드 고정 감지는 {@link signup.solips.global.profiling.VirtualThreadPinningMonitor} 참고</li>
+ * </ul>
+ *
+ * <p>동시 요청 수는 Tomcat 스레드 수 대신 app.auth.concurrency-limit 이 제한합니다.
+ * 비밀번호 해시처럼 CPU 를 쓰는 작업은 가상 스레드로 얻는 것이 없으므로 기존 전용 플랫폼 스레드에서 실행합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Hikari maximum-pool-size 기본값
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.auth.virtual-threads.db-guard", name = "enabled", matchIfMissing = true)
+    static BeanPostProcessor guardedDataSourcePostProcessor(ObjectProvider<AuthProperties> authProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof GuardedDataSource) {
+                    return bean;
+                }
+                AuthProperties.DbGuard guard = authProperties.getObject().getVirtualThreads().getDbGuard();
+                int maxConcurrency = guard.getMaxConcurrency() > 0 ? guard.getMaxConcurrency() : poolSize(dataSource);
+                log.info("DB 커넥션 동시 사용 한도 적용: dataSource={}, maxConcurrency={}, acquireTimeout={}",
+                        beanName, maxConcurrency, guard.getAcquireTimeout());
+                return new GuardedDataSource(dataSource, maxConcurrency, guard.getAcquireTimeout());
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        // 풀이 아직 시작되지 않았으면 설정하지 않은 값이 -1 로 남아 있음
+        if (dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
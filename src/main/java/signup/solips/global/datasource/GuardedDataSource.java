@@ -0,0 +1,162 @@
+package signup.solips.global.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import signup.solips.global.exception.DatabaseBusyException;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 동시 사용 한도를 거는 DataSource
+ *
+ * <p>가상 스레드 모드에서는 요청마다 스레드가 생기므로 Tomcat 스레드 수가 더 이상 DB 동시 접근을 제한하지 않습니다.
+ * 수천 개의 요청이 한꺼번에 커넥션 풀에 몰리면 모두 Hikari connection-timeout(기본 30초)까지 기다리다 실패하므로,
+ * 풀 크기만큼의 허가(permit)를 먼저 얻은 요청만 커넥션을 빌리게 하고 나머지는 acquire-timeout 안에
+ * 차례가 오지 않으면 {@link DatabaseBusyException}(503)으로 빠르게 실패시킵니다.
+ *
+ * <p>허가는 빌린 커넥션을 닫을 때 반납합니다. 같은 커넥션을 여러 번 닫아도 한 번만 반납합니다.
+ *
+ * <p>지표: auth.db.guard.active, auth.db.guard.waiting, auth.db.guard.rejected
+ *
+ * @author Jeongjunyun777
+ */
+
+public class GuardedDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutNanos;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public GuardedDataSource(DataSource target, int maxConcurrency, Duration acquireTimeout) {
+        super(target);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.permits = new Semaphore(this.maxConcurrency, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getActive() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.db.guard.active", this, GuardedDataSource::getActive)
+                .description("허가를 얻어 커넥션을 사용 중인 요청 수")
+                .register(registry);
+        Gauge.builder("auth.db.guard.waiting", this, GuardedDataSource::getWaiting)
+                .description("커넥션 허가를 기다리는 요청 수")
+                .register(registry);
+        FunctionCounter.builder("auth.db.guard.rejected", rejected, LongAdder::sum)
+                .description("대기 시간 초과로 거절된 커넥션 요청 수")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        waiting.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new DatabaseBusyException("DB 커넥션 대기 시간 초과: maxConcurrency=" + maxConcurrency);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> invoke(connection, released, proxy, method, args));
+    }
+
+    private Object invoke(Connection connection, AtomicBoolean released,
+                          Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+                return "Guarded[" + connection + "]";
+            }
+            case "close" -> {
+                try {
+                    connection.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            default -> {
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package signup.solips.global.exception;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * DB 커넥션 동시 사용 한도 초과 예외
+ *
+ * <p>JDBC 계층에서 던지므로 {@link SQLTransientConnectionException}을 상속하며,
+ * 스프링/하이버네이트 예외에 감싸여 올라와도 응답은 503({@link ErrorCode#SERVER_BUSY})으로 변환됩니다.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -12,19 +12,31 @@ public enum ErrorCode {
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH-003", "만료된 토큰입니다"),
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH-004", "유효하지 않은 리프레시 토큰입니다"),
 
+
+    // 시도 제한 (429 Too Many Requests)
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "AUTH-005", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요"),
+    TOO_MANY_LOOKUPS(HttpStatus.TOO_MANY_REQUESTS, "USER-004", "중복 확인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
+
     // 중복 관련 (409 Conflict)
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "USER-001", "이미 사용 중인 이메일입니다"),
     DUPLICATE_USER_ID(HttpStatus.CONFLICT, "USER-002", "이미 사용 중인 아이디입니다"),
 
     // Not Found (404)
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER-003", "사용자를 찾을 수 없습니다"),
+    RECORDING_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON-006", "JFR 기록이 없습니다"),
+
+    // 상태 충돌 (409 Conflict)
+    RECORDING_IN_PROGRESS(HttpStatus.CONFLICT, "COMMON-005", "이미 진행 중인 JFR 기록이 있습니다"),
 
     // Bad Request (400)
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON-001", "입력값이 올바르지 않습니다"),
     MISSING_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON-002", "필수 입력값이 누락되었습니다"),
 
     // Internal Server Error (500)
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON-003", "서버 오류가 발생했습니다");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON-003", "서버 오류가 발생했습니다"),
+
+    // Service Unavailable (503)
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "COMMON-004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
 
     private final HttpStatus status;
     private final String code;
@@ -1,28 +1,76 @@
 package signup.solips.global.exception;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import signup.solips.global.metrics.AuthMetrics;
 
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final AuthMetrics authMetrics;
+
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
         log.error("CustomException: {} - {}", e.getErrorCode().getCode(), e.getMessage());
         return buildErrorResponse(e.getErrorCode(), e.getMessage());
     }
 
+    // 공격 상황에서는 요청마다 발생하므로 로그를 남기지 않고 지표로만 집계
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        authMetrics.recordError(errorCode);
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(errorCode, e.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
-        Map<String, String> validationErrors = e.getBindingResult()
+        return validationErrorResponse(e.getBindingResult());
+    }
+
+    // reactive 프로필(WebFlux)의 @Valid 검증 실패
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException e) {
+        return validationErrorResponse(e.getBindingResult());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.warn("IllegalArgumentException: {}", e.getMessage());
+        return buildErrorResponse(ErrorCode.INVALID_INPUT_VALUE, e.getMessage());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        // DB 커넥션 한도 초과는 트랜잭션/JPA 예외에 감싸여 올라오므로 원인을 확인해 503 으로 응답
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DatabaseBusyException) {
+                log.warn("DatabaseBusyException: {}", cause.getMessage());
+                return buildErrorResponse(ErrorCode.SERVER_BUSY, ErrorCode.SERVER_BUSY.getMessage());
+            }
+        }
+        log.error("Unexpected error occurred", e);
+        return buildErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
+    }
+
+    private ResponseEntity<ErrorResponse> validationErrorResponse(BindingResult bindingResult) {
+        Map<String, String> validationErrors = bindingResult
                 .getFieldErrors()
                 .stream()
                 .collect(Collectors.toMap(
@@ -35,25 +83,15 @@ public class GlobalExceptionHandler {
 
         // Map 그대로 ErrorResponse에 담도록 수정
         ErrorResponse response = ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, validationErrors.toString());
+        authMetrics.recordError(ErrorCode.INVALID_INPUT_VALUE);
         return ResponseEntity
                 .status(ErrorCode.INVALID_INPUT_VALUE.getStatus())
                 .body(response);
     }
 
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
-        log.warn("IllegalArgumentException: {}", e.getMessage());
-        return buildErrorResponse(ErrorCode.INVALID_INPUT_VALUE, e.getMessage());
-    }
-
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        log.error("Unexpected error occurred", e);
-        return buildErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
-    }
-
     private ResponseEntity<ErrorResponse> buildErrorResponse(ErrorCode errorCode, String message) {
         ErrorResponse response = ErrorResponse.of(errorCode, message);
+        authMetrics.recordError(errorCode);
         return ResponseEntity
                 .status(errorCode.getStatus())
                 .body(response);
@@ -0,0 +1,22 @@
+package signup.solips.global.exception;
+
+/**
+ * 요청 횟수 제한 초과 예외
+ *
+ * <p>다시 시도할 수 있을 때까지의 시간을 함께 전달하며, 응답에 Retry-After 헤더로 기록됩니다.
+ */
+public class RateLimitExceededException extends CustomException {
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(ErrorCode errorCode, long retryAfterMillis) {
+        super(errorCode);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * @return Retry-After 헤더 값(초), 1초 미만은 1초로 올림
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,140 @@
+package signup.solips.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.security.TokenVerification;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 단계별 Micrometer 지표
+ *
+ * <p>로그인 지연이 BCrypt, DB 조회/쓰기, JWT 서명/검증 중 어디서 생기는지 구분할 수 있도록 단계별 타이머와 오류 카운터를 제공합니다.
+ *
+ * 지표:
+ * <ul>
+ *   <li>auth.password.hash{operation} - BCrypt 연산 시간</li>
+ *   <li>auth.password.hash.rejected - 해시 대기열 초과로 거절된 요청 수</li>
+ *   <li>auth.db.query{query} - 인증 경로의 DB 조회/쓰기 시간</li>
+ *   <li>auth.token.sign{type} - 토큰 서명 시간</li>
+ *   <li>auth.token.verify{type, result} - 토큰 검증 시간 (검증 결과별)</li>
+ *   <li>auth.errors{code} - 오류 응답 수 ({@link ErrorCode}별)</li>
+ * </ul>
+ *
+ * <p>모든 미터는 생성 시점에 등록해 두고, 기록 시에는 EnumMap 조회와 {@link System#nanoTime()} 차이만 사용하므로
+ * 요청 경로에서 태그 배열이나 Timer.Sample 을 할당하지 않습니다.
+ * 기록 메서드는 측정한 시간(ns)을 반환하므로 같은 값을 JFR 이벤트 등에 그대로 사용할 수 있습니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+public class AuthMetrics {
+
+    public enum HashOperation { ENCODE, MATCHES }
+
+    public enum TokenType { ACCESS, REFRESH }
+
+    public enum Query {
+        FIND_USER_BY_USER_ID,
+        EXISTS_USER_ID,
+        EXISTS_EMAIL,
+        INSERT_USER,
+        UPDATE_PASSWORD,
+        CREATE_SESSION,
+        ROTATE_SESSION,
+        CLAIM_LEGACY_SESSION,
+        REVOKE_SESSION,
+        FLUSH_SESSIONS
+    }
+
+    private final Map<HashOperation, Timer> hashTimers = new EnumMap<>(HashOperation.class);
+    private final Map<Query, Timer> queryTimers = new EnumMap<>(Query.class);
+    private final Map<TokenType, Timer> signTimers = new EnumMap<>(TokenType.class);
+    private final Map<TokenType, Map<TokenVerification.Status, Timer>> verifyTimers = new EnumMap<>(TokenType.class);
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+    private final Counter hashRejected;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (HashOperation operation : HashOperation.values()) {
+            hashTimers.put(operation, Timer.builder("auth.password.hash")
+                    .description("BCrypt 연산 시간")
+                    .tag("operation", tagValue(operation))
+                    .register(meterRegistry));
+        }
+        for (Query query : Query.values()) {
+            queryTimers.put(query, Timer.builder("auth.db.query")
+                    .description("인증 경로 DB 조회/쓰기 시간")
+                    .tag("query", tagValue(query))
+                    .register(meterRegistry));
+        }
+        for (TokenType type : TokenType.values()) {
+            signTimers.put(type, Timer.builder("auth.token.sign")
+                    .description("JWT 서명 시간")
+                    .tag("type", tagValue(type))
+                    .register(meterRegistry));
+
+            Map<TokenVerification.Status, Timer> byResult = new EnumMap<>(TokenVerification.Status.class);
+            for (TokenVerification.Status status : TokenVerification.Status.values()) {
+                byResult.put(status, Timer.builder("auth.token.verify")
+                        .description("JWT 검증 시간")
+                        .tag("type", tagValue(type))
+                        .tag("result", tagValue(status))
+                        .register(meterRegistry));
+            }
+            verifyTimers.put(type, byResult);
+        }
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder("auth.errors")
+                    .description("ErrorCode 별 오류 응답 수")
+                    .tag("code", errorCode.getCode())
+                    .tag("error", tagValue(errorCode))
+                    .register(meterRegistry));
+        }
+        this.hashRejected = Counter.builder("auth.password.hash.rejected")
+                .description("해시 대기열 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    public long recordHash(HashOperation operation, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        hashTimers.get(operation).record(elapsed, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
+
+    public void recordHashRejected() {
+        hashRejected.increment();
+    }
+
+    public long recordQuery(Query query, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        queryTimers.get(query).record(elapsed, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
+
+    public long recordSign(TokenType type, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        signTimers.get(type).record(elapsed, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
+
+    public long recordVerify(TokenType type, TokenVerification verification, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        verifyTimers.get(type).get(verification.status()).record(elapsed, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
+
+    public void recordError(ErrorCode errorCode) {
+        errorCounters.get(errorCode).increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
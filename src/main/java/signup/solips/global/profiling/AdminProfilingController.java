@@ -0,0 +1,117 @@
+package signup.solips.global.profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 관리자용 JFR 기록 API 컨트롤러
+ *
+ * <p>ROLE_ADMIN 권한이 필요합니다(/solips/admin/**).
+ *
+ * <p>주요 기능:
+ * <ul>
+ *   <li>기록 시작 (최대 시간/크기 제한)</li>
+ *   <li>기록 중지</li>
+ *   <li>기록 상태 조회</li>
+ *   <li>기록 덤프(.jfr 파일 다운로드)</li>
+ *   <li>기록 삭제</li>
+ * </ul>
+ *
+ * <p>각 요청은 {@link JfrRecordingManager}에 위임됩니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/solips/admin/profiling/recording")
+@RequiredArgsConstructor
+public class AdminProfilingController {
+    private final JfrRecordingManager jfrRecordingManager;
+
+    /**
+     * 기록 시작
+     *
+     * @param duration 기록 시간 (예: PT5M, 5m), 생략 시 최대 시간
+     * @param settings JFR 설정 이름 (default 또는 profile)
+     * @return 기록 상태
+     */
+    @PostMapping
+    public ResponseEntity<RecordingStatus> start(@RequestParam(required = false) Duration duration,
+                                                 @RequestParam(required = false) String settings) {
+        return ResponseEntity.ok(jfrRecordingManager.start(duration, settings));
+    }
+
+    /**
+     * 기록 중지
+     *
+     * @return 기록 상태
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<RecordingStatus> stop() {
+        return ResponseEntity.ok(jfrRecordingManager.stop());
+    }
+
+    /**
+     * 기록 상태 조회
+     *
+     * @return 기록 상태, 기록이 없으면 NONE
+     */
+    @GetMapping
+    public ResponseEntity<RecordingStatus> status() {
+        return ResponseEntity.ok(jfrRecordingManager.status());
+    }
+
+    /**
+     * 기록 덤프
+     *
+     * <p>진행 중인 기록은 지금까지의 내용이, 중지된 기록은 전체 내용이 .jfr 파일로 내려갑니다.
+     *
+     * @return .jfr 파일
+     */
+    @GetMapping("/dump")
+    public ResponseEntity<StreamingResponseBody> dump() throws IOException {
+        Path file = jfrRecordingManager.dump();
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Files.copy(file, outputStream);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        String filename = "solips-" + Instant.now().getEpochSecond() + ".jfr";
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * 기록 삭제
+     *
+     * @return 빈 응답
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> close() {
+        jfrRecordingManager.close();
+        return ResponseEntity.noContent().build();
+    }
+}
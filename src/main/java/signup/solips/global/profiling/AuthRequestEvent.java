@@ -0,0 +1,150 @@
+package signup.solips.global.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import signup.solips.global.exception.CustomException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 인증 요청(회원가입/로그인/토큰 갱신) JFR 이벤트
+ *
+ * <p>요청 하나의 전체 시간과 단계별(해시, DB, 서명, 검증) 소요 시간, 결과를 기록합니다.
+ * 해시 단계는 대기열 대기 시간을 포함합니다.
+ *
+ * <p>사용자 아이디는 원문 대신 HMAC-SHA256 앞 64bit 로만 남깁니다. 키는 프로세스마다 새로 만들고 어디에도 남기지 않으므로,
+ * 같은 실행 안에서는 같은 사용자의 이벤트를 묶을 수 있지만 기록 파일만으로는 학번 같은 짧은 아이디를 대입해 되돌릴 수 없습니다.
+ *
+ * <p>JFR 기록 중이 아니면 {@link #shouldCommit()}이 false 이므로 아이디 해시 계산과 커밋을 모두 건너뜁니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Name("signup.solips.AuthRequest")
+@Label("Auth Request")
+@Category({"Solips", "Auth"})
+@Description("회원가입/로그인/토큰 갱신 요청 하나의 단계별 소요 시간과 결과")
+@StackTrace(false)
+public class AuthRequestEvent extends Event {
+
+    public static final String SIGNUP = "signup";
+    public static final String LOGIN = "login";
+    public static final String REFRESH = "refresh";
+    public static final String SUCCESS = "SUCCESS";
+
+    private static final String USER_ID_MAC = "HmacSHA256";
+    private static final SecretKeySpec USER_ID_KEY = newUserIdKey();
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Outcome")
+    @Description("SUCCESS 또는 ErrorCode 이름, 그 밖의 예외는 클래스 이름")
+    private String outcome;
+
+    @Label("User Id Hash")
+    private String userIdHash;
+
+    @Label("Hash Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long hashNanos;
+
+    @Label("Query Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long queryNanos;
+
+    @Label("Sign Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long signNanos;
+
+    @Label("Verify Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long verifyNanos;
+
+    // transient 필드는 이벤트에 기록되지 않음 (원문 아이디는 남기지 않음)
+    private transient String userId;
+
+    public static AuthRequestEvent begin(String operation, String userId) {
+        AuthRequestEvent event = new AuthRequestEvent();
+        event.operation = operation;
+        event.userId = userId;
+        event.begin();
+        return event;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public void addHash(long nanos) {
+        hashNanos += nanos;
+    }
+
+    public void addQuery(long nanos) {
+        queryNanos += nanos;
+    }
+
+    public void addSign(long nanos) {
+        signNanos += nanos;
+    }
+
+    public void addVerify(long nanos) {
+        verifyNanos += nanos;
+    }
+
+    /**
+     * 요청 종료 시 결과를 채워 커밋합니다.
+     *
+     * @param error 실패 원인, 성공이면 null
+     */
+    public void complete(Throwable error) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        outcome = outcomeOf(error);
+        userIdHash = hashUserId(userId);
+        commit();
+    }
+
+    static String outcomeOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null) {
+            return SUCCESS;
+        }
+        if (cause instanceof CustomException customException) {
+            return customException.getErrorCode().name();
+        }
+        return cause.getClass().getSimpleName();
+    }
+
+    static String hashUserId(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            Mac mac = Mac.getInstance(USER_ID_MAC);
+            mac.init(USER_ID_KEY);
+            return Long.toHexString(ByteBuffer.wrap(mac.doFinal(userId.getBytes(StandardCharsets.UTF_8))).getLong());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(USER_ID_MAC + " 를 사용할 수 없습니다", e);
+        }
+    }
+
+    private static SecretKeySpec newUserIdKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return new SecretKeySpec(key, USER_ID_MAC);
+    }
+}
@@ -0,0 +1,164 @@
+package signup.solips.global.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 관리자용 JFR 기록 관리
+ *
+ * <p>서비스를 재시작하지 않고 장애 상황에서 JFR 기록을 시작/중지/덤프할 수 있도록 합니다.
+ * 한 번에 하나의 기록만 허용하며, 모든 기록은 app.auth.profiling.max-duration 이 지나면 자동 중지되고
+ * app.auth.profiling.max-size 를 넘는 오래된 데이터는 버려지므로 켜 둔 채 잊어도 디스크를 채우지 않습니다.
+ *
+ * <p>기록에는 JVM 이벤트(CPU 샘플링, 할당, 잠금 등)와 함께 {@link AuthRequestEvent}, {@link TokenFilterEvent}가 포함됩니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+public class JfrRecordingManager implements DisposableBean {
+
+    private static final String RECORDING_NAME = "solips-admin";
+    private static final Set<String> ALLOWED_SETTINGS = Set.of("default", "profile");
+
+    private final AuthProperties.Profiling properties;
+
+    private Recording recording;
+    private String settings;
+
+    public JfrRecordingManager(AuthProperties authProperties) {
+        this.properties = authProperties.getProfiling();
+    }
+
+    /**
+     * 새 기록을 시작합니다. 이전에 중지된 기록이 있으면 닫고 시작합니다.
+     *
+     * @param duration 기록 시간, null 이거나 최대 시간보다 길면 최대 시간
+     * @param settings JFR 설정 이름, null 이면 기본 설정
+     * @throws CustomException 이미 기록 중이거나 설정 이름이 잘못된 경우
+     */
+    public synchronized RecordingStatus start(Duration duration, String settings) {
+        if (recording != null && isActive(recording.getState())) {
+            throw new CustomException(ErrorCode.RECORDING_IN_PROGRESS);
+        }
+        String settingsName = settings != null ? settings : properties.getSettings();
+        if (!ALLOWED_SETTINGS.contains(settingsName)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "JFR 설정은 default 또는 profile 만 사용할 수 있습니다.");
+        }
+        Duration maxDuration = properties.getMaxDuration();
+        Duration bounded = duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0
+                ? maxDuration
+                : duration;
+
+        closeRecording();
+        Recording newRecording = new Recording(loadConfiguration(settingsName));
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setDuration(bounded);
+        newRecording.setMaxAge(bounded);
+        newRecording.setMaxSize(properties.getMaxSize().toBytes());
+        newRecording.enable(AuthRequestEvent.class);
+        newRecording.enable(TokenFilterEvent.class);
+        newRecording.start();
+
+        this.recording = newRecording;
+        this.settings = settingsName;
+        log.info("JFR 기록 시작: duration={}, maxSize={}, settings={}", bounded, properties.getMaxSize(), settingsName);
+        return status();
+    }
+
+    /**
+     * 기록을 중지합니다. 기록된 데이터는 닫기 전까지 덤프할 수 있습니다.
+     */
+    public synchronized RecordingStatus stop() {
+        Recording current = requireRecording();
+        if (isActive(current.getState())) {
+            current.stop();
+            log.info("JFR 기록 중지");
+        }
+        return status();
+    }
+
+    /**
+     * 현재까지의 기록을 임시 파일로 덤프합니다. 호출자가 파일을 삭제해야 합니다.
+     */
+    public synchronized Path dump() throws IOException {
+        Recording current = requireRecording();
+        Path file = Files.createTempFile("solips-", ".jfr");
+        try {
+            current.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return RecordingStatus.NONE;
+        }
+        return new RecordingStatus(
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getDuration(),
+                recording.getMaxSize(),
+                settings
+        );
+    }
+
+    /**
+     * 기록을 닫고 디스크의 기록 데이터를 삭제합니다.
+     */
+    public synchronized void close() {
+        requireRecording();
+        closeRecording();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeRecording();
+    }
+
+    private Recording requireRecording() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new CustomException(ErrorCode.RECORDING_NOT_FOUND);
+        }
+        return recording;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            settings = null;
+        }
+    }
+
+    private static boolean isActive(RecordingState state) {
+        return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+    }
+
+    private static Configuration loadConfiguration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정을 읽을 수 없습니다: " + name, e);
+        }
+    }
+}
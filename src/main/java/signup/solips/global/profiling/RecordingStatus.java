@@ -0,0 +1,29 @@
+package signup.solips.global.profiling;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 관리자 JFR 기록 상태 응답 DTO
+ *
+ * 필드:
+ * <ul>
+ *   <li>state - NONE, NEW, DELAYED, RUNNING, STOPPED, CLOSED</li>
+ *   <li>startedAt - 기록 시작 시각</li>
+ *   <li>duration - 자동 중지까지의 기록 시간</li>
+ *   <li>maxSizeBytes - 기록 최대 크기</li>
+ *   <li>settings - 사용한 JFR 설정 이름</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+public record RecordingStatus(
+        String state,
+        Instant startedAt,
+        Duration duration,
+        long maxSizeBytes,
+        String settings
+) {
+    public static final RecordingStatus NONE = new RecordingStatus("NONE", null, null, 0, null);
+}
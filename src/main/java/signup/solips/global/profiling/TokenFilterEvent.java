@@ -0,0 +1,61 @@
+package signup.solips.global.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JWT 인증 필터 JFR 이벤트
+ *
+ * <p>Bearer 토큰이 있는 요청마다 검증 결과, 캐시 적중 여부, 서명 검증 시간을 기록합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Name("signup.solips.TokenFilter")
+@Label("Token Filter")
+@Category({"Solips", "Auth"})
+@Description("Access Token 검증 결과와 소요 시간")
+@StackTrace(false)
+public class TokenFilterEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Outcome")
+    @Description("TokenVerification 상태")
+    private String outcome;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+
+    @Label("User Id Hash")
+    private String userIdHash;
+
+    @Label("Verify Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long verifyNanos;
+
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+
+    public void addVerify(long nanos) {
+        verifyNanos += nanos;
+    }
+
+    public void complete(String path, String outcome, String userId) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.path = path;
+        this.outcome = outcome;
+        this.userIdHash = AuthRequestEvent.hashUserId(userId);
+        commit();
+    }
+}
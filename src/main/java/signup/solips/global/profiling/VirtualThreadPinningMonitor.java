@@ -0,0 +1,182 @@
+package signup.solips.global.profiling;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드의 캐리어 스레드 고정(pinning) 감지
+ *
+ * <p>가상 스레드가 {@code synchronized} 블록이나 네이티브 호출 안에서 블로킹되면 캐리어 스레드(CPU 코어 수만큼)를
+ * 붙잡은 채 기다리므로, 이런 호출이 많으면 가상 스레드 모드의 처리량이 플랫폼 스레드보다도 떨어집니다.
+ *
+ * <ul>
+ *   <li>기동 시: Java 버전과 등록된 JDBC 드라이버 버전을 확인해, 내부 잠금에 {@code synchronized}를 쓰는
+ *       드라이버(MySQL Connector/J 9.0 미만)면 경고합니다. Java 24 부터는(JEP 491) {@code synchronized}가
+ *       더 이상 고정을 일으키지 않으므로 드라이버는 확인하지 않습니다.</li>
+ *   <li>실행 중: JFR jdk.VirtualThreadPinned 이벤트를 구독해 threshold 보다 오래 고정된 횟수와 시간을
+ *       auth.virtual.thread.pinned 지표로 집계하고, 처음 보는 위치는 스택과 함께 한 번만 경고합니다.</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "app.auth.virtual-threads.pinning", name = "enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements DisposableBean, MeterBinder {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // synchronized 안에서 블로킹해도 캐리어 스레드를 고정하지 않는 첫 Java 버전 (JEP 491)
+    static final int UNPINNED_MONITORS_FEATURE = 24;
+    // 내부 잠금을 ReentrantLock 으로 바꾼 드라이버 버전 {major, minor}
+    private static final Map<String, int[]> PINNING_FREE_DRIVERS = Map.of(
+            "com.mysql.cj.jdbc.Driver", new int[]{9, 0}
+    );
+    private static final List<String> PLATFORM_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+    private static final int MAX_LOGGED_FRAMES = 16;
+
+    private final int maxReportedSites;
+    private final RecordingStream stream;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    public VirtualThreadPinningMonitor(AuthProperties authProperties) {
+        AuthProperties.Pinning pinning = authProperties.getVirtualThreads().getPinning();
+        this.maxReportedSites = Math.max(0, pinning.getMaxReportedSites());
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(pinning.getThreshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감지 시작: threshold={}", pinning.getThreshold());
+    }
+
+    /**
+     * 커넥션 풀이 드라이버를 등록한 뒤 Java/드라이버 버전으로 고정 가능성을 확인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkCompatibility() {
+        int feature = Runtime.version().feature();
+        if (feature >= UNPINNED_MONITORS_FEATURE) {
+            log.info("Java {}: synchronized 블록은 캐리어 스레드를 고정하지 않음", feature);
+            return;
+        }
+        DriverManager.drivers().forEach(driver -> {
+            String driverClass = driver.getClass().getName();
+            String version = driver.getMajorVersion() + "." + driver.getMinorVersion();
+            if (mayPin(feature, driverClass, driver.getMajorVersion(), driver.getMinorVersion())) {
+                log.warn("JDBC 드라이버가 synchronized 로 잠금을 구현해 가상 스레드를 고정할 수 있음: driver={}, version={}, java={}"
+                        + " (드라이버 업그레이드 또는 Java {} 이상 권장)", driverClass, version, feature, UNPINNED_MONITORS_FEATURE);
+            } else {
+                log.info("JDBC 드라이버 확인: driver={}, version={}", driverClass, version);
+            }
+        });
+    }
+
+    /**
+     * 알려진 드라이버 중 고정을 일으키는 버전인지 확인합니다. 목록에 없는 드라이버는 판단하지 않습니다.
+     */
+    static boolean mayPin(int javaFeature, String driverClass, int major, int minor) {
+        if (javaFeature >= UNPINNED_MONITORS_FEATURE) {
+            return false;
+        }
+        int[] fixedIn = PINNING_FREE_DRIVERS.get(driverClass);
+        return fixedIn != null && (major < fixedIn[0] || major == fixedIn[0] && minor < fixedIn[1]);
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    public double getPinnedSeconds() {
+        return pinnedNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("auth.virtual.thread.pinned", this,
+                        VirtualThreadPinningMonitor::getPinnedCount,
+                        VirtualThreadPinningMonitor::getPinnedSeconds, TimeUnit.SECONDS)
+                .description("가상 스레드가 캐리어 스레드를 고정한 채 블로킹된 횟수와 시간")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinnedCount.increment();
+        pinnedNanos.add(duration.toNanos());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = site(stackTrace);
+        if (reportedSites.size() < maxReportedSites && reportedSites.add(site)) {
+            log.warn("가상 스레드가 캐리어 스레드를 고정함: duration={}ms, site={}{}",
+                    duration.toMillis(), site, format(stackTrace));
+        }
+    }
+
+    /**
+     * 고정을 일으킨 위치로 JDK 밖의 첫 프레임(애플리케이션 또는 라이브러리 코드)을 사용합니다.
+     */
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (PLATFORM_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return frameName(frame);
+            }
+        }
+        return frameName(frames.get(0));
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), MAX_LOGGED_FRAMES); i++) {
+            builder.append(System.lineSeparator()).append("\tat ").append(frameName(frames.get(i)));
+        }
+        if (frames.size() > MAX_LOGGED_FRAMES || stackTrace.isTruncated()) {
+            builder.append(System.lineSeparator()).append("\t...");
+        }
+        return builder.toString();
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
@@ -0,0 +1,160 @@
+package signup.solips.global.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import signup.solips.global.JwtProperties;
+import signup.solips.global.util.BoundedMaps;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 Access Token 캐시
+ *
+ * <p>서명 검증에 성공한 Access Token의 subject와 만료 시각을 토큰 다이제스트({@link TokenDigest}) 키로 보관합니다.
+ * 같은 토큰이 다시 들어오면 {@link JwtAuthenticationFilter}가 서명 검증을 생략할 수 있습니다.
+ *
+ * <p>주요 특징:
+ * <ul>
+ *   <li>원본 토큰 대신 SHA-256 다이제스트를 키로 사용</li>
+ *   <li>만료 시각이 지난 항목은 절대 반환하지 않고 조회 시점에 제거</li>
+ *   <li>jwt.cache.max-entries 로 최대 항목 수 제한, 가득 차면 {@link BoundedMaps}로 곧 만료될 항목부터 제거</li>
+ *   <li>hit/miss 횟수 집계, auth.token.cache.* 지표로 노출</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+public class AccessTokenCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Clock clock;
+    private final ConcurrentHashMap<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public AccessTokenCache(JwtProperties jwtProperties) {
+        this(jwtProperties.getCache(), Clock.systemUTC());
+    }
+
+    AccessTokenCache(JwtProperties.Cache cache, Clock clock) {
+        this.enabled = cache.isEnabled();
+        this.maxEntries = Math.max(1, cache.getMaxEntries());
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 검증 결과를 조회합니다.
+     *
+     * @param digest 토큰 다이제스트
+     * @return 만료되지 않은 검증 결과, 없거나 만료된 경우 null
+     */
+    public TokenVerification get(TokenDigest digest) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis() <= clock.millis()) {
+            if (entries.remove(digest, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return TokenVerification.valid(entry.subject(), Instant.ofEpochMilli(entry.expiresAtMillis()));
+    }
+
+    /**
+     * 검증에 성공한 결과만 캐시에 저장합니다.
+     *
+     * @param digest       토큰 다이제스트
+     * @param verification {@link signup.solips.global.config.JwtUtil#verify(String)} 결과
+     */
+    public void put(TokenDigest digest, TokenVerification verification) {
+        if (!enabled || !verification.isValid() || verification.expiresAt() == null) {
+            return;
+        }
+        long expiresAtMillis = verification.expiresAt().toEpochMilli();
+        long now = clock.millis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(digest, new Entry(verification.subject(), expiresAtMillis));
+    }
+
+    /**
+     * 토큰을 캐시에서 제거합니다. 로그아웃 등으로 토큰이 폐기될 때 호출합니다.
+     */
+    public void invalidate(TokenDigest digest) {
+        entries.remove(digest);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.token.cache.requests", hits, LongAdder::sum)
+                .description("Access Token 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.token.cache.requests", misses, LongAdder::sum)
+                .description("Access Token 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("auth.token.cache.evictions", evictions, LongAdder::sum)
+                .description("Access Token 캐시 제거 수")
+                .register(registry);
+        Gauge.builder("auth.token.cache.size", entries, Map::size)
+                .description("Access Token 캐시 항목 수")
+                .register(registry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 먼저 제거하고, 그래도 용량을 넘으면 곧 만료될 항목부터 제거해 상한을 유지합니다.
+     */
+    private void evict(long now) {
+        evictions.add(BoundedMaps.trim(entries, BoundedMaps.trimTarget(maxEntries),
+                entry -> entry.expiresAtMillis() <= now, entry -> true, Entry::expiresAtMillis));
+    }
+
+    private record Entry(String subject, long expiresAtMillis) {
+    }
+}
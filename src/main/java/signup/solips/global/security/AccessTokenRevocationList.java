@@ -0,0 +1,201 @@
+package signup.solips.global.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import signup.solips.global.JwtProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 폐기된 Access Token 목록
+ *
+ * <p>로그아웃한 Access Token의 다이제스트({@link TokenDigest})를 토큰이 만료될 때까지만 보관합니다.
+ * {@link JwtAuthenticationFilter}가 요청마다 DB 조회 없이 폐기 여부를 확인할 수 있도록,
+ * 먼저 {@link TokenBloomFilter}를 조회하고 "있을 수도 있음"인 경우에만 정확한 집합을 확인합니다.
+ * 폐기되지 않은 대부분의 토큰은 해시 몇 번과 배열 읽기만으로 통과합니다.
+ *
+ * <p>세대(generation) 구조:
+ * <ul>
+ *   <li>토큰은 만료 시각이 속한 구간(jwt.revocation.generation-period)의 세대에 기록</li>
+ *   <li>세대는 고정 크기 링에 보관되며, 구간이 끝난 세대는 통째로 교체되어 메모리가 반환됨</li>
+ *   <li>조회 시 토큰 만료 시각으로 세대 하나만 확인</li>
+ * </ul>
+ *
+ * <p>목록은 인스턴스 메모리에만 보관되므로 여러 인스턴스로 운영할 때는 각 인스턴스가 로그아웃 요청을 받은 경우에만 적용됩니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+public class AccessTokenRevocationList implements MeterBinder {
+
+    private final long periodMillis;
+    private final int expectedPerGeneration;
+    private final double falsePositiveRate;
+    private final Clock clock;
+    private final AtomicReferenceArray<Generation> generations;
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+
+    @Autowired
+    public AccessTokenRevocationList(JwtProperties jwtProperties,
+                                     @Value("${jwt.access-token-expiration}") long accessTokenExpirationMillis) {
+        this(jwtProperties.getRevocation(), Duration.ofMillis(accessTokenExpirationMillis), Clock.systemUTC());
+    }
+
+    AccessTokenRevocationList(JwtProperties.Revocation revocation, Duration tokenLifetime, Clock clock) {
+        this.periodMillis = Math.max(1000, revocation.getGenerationPeriod().toMillis());
+        this.expectedPerGeneration = Math.max(1, revocation.getExpectedInsertions());
+        this.falsePositiveRate = revocation.getFalsePositiveRate();
+        this.clock = clock;
+        // 만료 시각은 최대 now + tokenLifetime 이므로, 살아 있는 세대 수는 lifetime / period + 1 을 넘지 않음
+        int slots = (int) Math.min(1024, tokenLifetime.toMillis() / periodMillis + 2);
+        this.generations = new AtomicReferenceArray<>(slots);
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기 목록에 기록합니다.
+     *
+     * @param digest    토큰 다이제스트
+     * @param expiresAt 토큰 만료 시각, 이미 지났으면 기록하지 않음
+     */
+    public void revoke(TokenDigest digest, Instant expiresAt) {
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        Generation generation = generationFor(expiresAtMillis / periodMillis);
+        if (generation != null) {
+            generation.add(digest);
+        }
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param digest    토큰 다이제스트
+     * @param expiresAt 검증된 토큰의 만료 시각
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(TokenDigest digest, Instant expiresAt) {
+        long epoch = expiresAt.toEpochMilli() / periodMillis;
+        Generation generation = generations.get(slot(epoch));
+        if (generation == null || generation.epoch != epoch || !generation.filter.mightContain(digest)) {
+            negatives.increment();
+            return false;
+        }
+        if (generation.revoked.contains(digest)) {
+            revokedHits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * 구간이 끝난 세대를 비워 메모리를 반환합니다. 새 세대는 기록 시점에 만들어지므로
+     * 로그아웃이 없는 동안에도 오래된 세대가 남지 않도록 주기적으로 호출합니다.
+     */
+    @Scheduled(initialDelayString = "${jwt.revocation.generation-period:PT5M}",
+            fixedDelayString = "${jwt.revocation.generation-period:PT5M}")
+    public void purgeExpired() {
+        long currentEpoch = clock.millis() / periodMillis;
+        for (int i = 0; i < generations.length(); i++) {
+            Generation generation = generations.get(i);
+            if (generation != null && generation.epoch < currentEpoch) {
+                generations.compareAndSet(i, generation, null);
+            }
+        }
+    }
+
+    public int size() {
+        long currentEpoch = clock.millis() / periodMillis;
+        int size = 0;
+        for (int i = 0; i < generations.length(); i++) {
+            Generation generation = generations.get(i);
+            if (generation != null && generation.epoch >= currentEpoch) {
+                size += generation.revoked.size();
+            }
+        }
+        return size;
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.token.revocation.checks", negatives, LongAdder::sum)
+                .description("Access Token 폐기 확인 수")
+                .tag("result", "negative")
+                .register(registry);
+        FunctionCounter.builder("auth.token.revocation.checks", falsePositives, LongAdder::sum)
+                .description("Access Token 폐기 확인 수")
+                .tag("result", "false_positive")
+                .register(registry);
+        FunctionCounter.builder("auth.token.revocation.checks", revokedHits, LongAdder::sum)
+                .description("Access Token 폐기 확인 수")
+                .tag("result", "revoked")
+                .register(registry);
+        Gauge.builder("auth.token.revocation.size", this, AccessTokenRevocationList::size)
+                .description("폐기 목록에 있는 Access Token 수")
+                .register(registry);
+    }
+
+    private Generation generationFor(long epoch) {
+        int slot = slot(epoch);
+        while (true) {
+            Generation current = generations.get(slot);
+            if (current != null && current.epoch == epoch) {
+                return current;
+            }
+            if (current != null && current.epoch > epoch) {
+                // 링 크기보다 먼 과거 구간, 이미 만료된 토큰이므로 기록할 필요 없음
+                return null;
+            }
+            Generation created = new Generation(epoch, expectedPerGeneration, falsePositiveRate);
+            if (generations.compareAndSet(slot, current, created)) {
+                return created;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) generations.length());
+    }
+
+    /**
+     * 만료 시각 구간 하나에 속한 폐기 토큰.
+     * 정확한 집합에 먼저 기록한 뒤 Bloom 필터 비트를 켜므로, 필터에서 보이는 항목은 항상 집합에도 있습니다.
+     */
+    private static final class Generation {
+        private final long epoch;
+        private final TokenBloomFilter filter;
+        private final Set<TokenDigest> revoked = ConcurrentHashMap.newKeySet();
+
+        private Generation(long epoch, int expectedInsertions, double falsePositiveRate) {
+            this.epoch = epoch;
+            this.filter = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        private void add(TokenDigest digest) {
+            revoked.add(digest);
+            filter.add(digest);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package signup.solips.global.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.config.JwtUtil;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.global.profiling.TokenFilterEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Access Token 검증 파이프라인
+ *
+ * <p>서블릿 필터({@link JwtAuthenticationFilter})와 WebFlux 필터({@link ReactiveJwtAuthenticationFilter})가
+ * 같은 순서로 토큰을 확인하도록 공통 단계를 모아 둡니다.
+ * <ol>
+ *   <li>{@link AccessTokenCache}가 활성화되어 있으면 이미 검증된 토큰은 서명 검증 생략
+ *       (만료된 항목은 반환하지 않으므로 만료된 토큰은 항상 다시 검증되어 거부됨)</li>
+ *   <li>캐시에 없으면 {@link JwtUtil#verify(String)}로 한 번만 파싱/검증하고 결과를 캐시</li>
+ *   <li>리프레시 토큰도 같은 키로 서명되므로 family 클레임이 있는 토큰은 UNSUPPORTED 로 거부</li>
+ *   <li>유효한 토큰은 {@link AccessTokenRevocationList}로 로그아웃 여부를 확인해 폐기된 토큰은 REVOKED 로 변환</li>
+ * </ol>
+ *
+ * <p>서명 검증 시간과 결과는 {@link AuthMetrics}에 기록합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+@RequiredArgsConstructor
+public class AccessTokenVerifier {
+
+    private static final GrantedAuthority ADMIN = new SimpleGrantedAuthority("ROLE_ADMIN");
+    private static final GrantedAuthority INTROSPECT = new SimpleGrantedAuthority("ROLE_INTROSPECT");
+    private static final GrantedAuthority METRICS = new SimpleGrantedAuthority("ROLE_METRICS");
+
+    private final JwtUtil jwtUtil;
+    private final AccessTokenCache accessTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final AuthProperties authProperties;
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 토큰을 검증합니다.
+     *
+     * @param token Bearer 접두사를 뗀 Access Token
+     * @param event 캐시 적중 여부와 검증 시간을 기록할 JFR 이벤트, 없으면 null
+     */
+    public TokenVerification verify(String token, TokenFilterEvent event) {
+        TokenDigest digest = TokenDigest.of(token);
+        TokenVerification verification = verifyCached(token, digest, event);
+        if (verification.isValid() && accessTokenRevocationList.isRevoked(digest, verification.expiresAt())) {
+            return TokenVerification.revoked(verification.subject(), verification.expiresAt());
+        }
+        return verification;
+    }
+
+    /**
+     * app.auth.admin.user-ids 에 등록된 사용자에게 ROLE_ADMIN,
+     * app.auth.introspection.client-user-ids 에 등록된 사용자에게 ROLE_INTROSPECT,
+     * app.auth.metrics.scraper-user-ids 에 등록된 사용자에게 ROLE_METRICS 권한을 부여합니다.
+     */
+    public List<GrantedAuthority> authoritiesFor(String userId) {
+        List<GrantedAuthority> authorities = null;
+        if (authProperties.getAdmin().getUserIds().contains(userId)) {
+            authorities = withAuthority(authorities, ADMIN);
+        }
+        if (authProperties.getIntrospection().getClientUserIds().contains(userId)) {
+            authorities = withAuthority(authorities, INTROSPECT);
+        }
+        if (authProperties.getMetrics().getScraperUserIds().contains(userId)) {
+            authorities = withAuthority(authorities, METRICS);
+        }
+        return authorities != null ? authorities : Collections.emptyList();
+    }
+
+    /**
+     * 인증 필터가 토큰을 확인하지 않는 경로인지 확인합니다.
+     *
+     * <p>"/solips/auth/**"는 인증 없이 호출하므로 건너뛰지만, 모든 기기 로그아웃("/solips/auth/logout")과
+     * 권한이 필요한 토큰 일괄 확인("/solips/auth/introspect")은 호출자 토큰을 확인합니다.
+     */
+    static boolean skipsAuthentication(String path) {
+        return path.startsWith("/solips/auth/")
+                && !path.equals("/solips/auth/logout")
+                && !path.equals("/solips/auth/introspect");
+    }
+
+    // 권한이 없는 대부분의 사용자는 목록을 만들지 않음
+    private static List<GrantedAuthority> withAuthority(List<GrantedAuthority> authorities, GrantedAuthority authority) {
+        List<GrantedAuthority> result = authorities != null ? authorities : new ArrayList<>(3);
+        result.add(authority);
+        return result;
+    }
+
+    private TokenVerification verifyCached(String token, TokenDigest digest, TokenFilterEvent event) {
+        if (!accessTokenCache.isEnabled()) {
+            return verifySignature(token, event);
+        }
+        TokenVerification cached = accessTokenCache.get(digest);
+        if (cached != null) {
+            if (event != null) {
+                event.setCacheHit(true);
+            }
+            return cached;
+        }
+        TokenVerification verification = verifySignature(token, event);
+        accessTokenCache.put(digest, verification);
+        return verification;
+    }
+
+    private TokenVerification verifySignature(String token, TokenFilterEvent event) {
+        long start = System.nanoTime();
+        TokenVerification verification = jwtUtil.verify(token);
+        // 캐시는 family 를 보관하지 않으므로 캐시에 넣기 전에 거부
+        if (verification.isValid() && verification.familyId() != null) {
+            verification = TokenVerification.failure(TokenVerification.Status.UNSUPPORTED);
+        }
+        long elapsed = authMetrics.recordVerify(AuthMetrics.TokenType.ACCESS, verification, start);
+        if (event != null) {
+            event.addVerify(elapsed);
+        }
+        return verification;
+    }
+}
@@ -0,0 +1,133 @@
+package signup.solips.global.security;
+
+import signup.solips.global.AuthProperties;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD 방식 동시 처리 한도
+ *
+ * <p>처리 중인 요청 수를 한도 이하로 유지하고, 응답 시간에 따라 한도를 자동으로 조절합니다.
+ * <ul>
+ *   <li>응답이 latency-threshold 안에 끝나고 한도의 절반 이상을 사용 중이면 한도를 1/한도 만큼 증가
+ *       (한도만큼의 응답이 끝날 때마다 약 1 증가)</li>
+ *   <li>응답이 느리거나 과부하(503/504)로 끝나면 한도에 backoff-ratio 를 곱해 감소</li>
+ *   <li>감소는 직전 감소 이후 시작된 요청의 결과로만 일어나므로, 이미 느려진 요청들이 한꺼번에 끝나도 한 번만 감소</li>
+ * </ul>
+ *
+ * <p>모든 상태는 원자 변수로 관리하여 잠금 없이 동작합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+final class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // double 한도를 비트로 보관
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime());
+
+    private final LongAdder rejected = new LongAdder();
+
+    AdaptiveConcurrencyLimit(AuthProperties.ConcurrencyGroup group, double backoffRatio) {
+        this.minLimit = Math.max(1, group.getMinLimit());
+        this.maxLimit = Math.max(minLimit, group.getMaxLimit());
+        this.latencyThresholdNanos = group.getLatencyThreshold().toNanos();
+        this.backoffRatio = Math.min(0.99, Math.max(0.1, backoffRatio));
+        int initial = Math.min(maxLimit, Math.max(minLimit, group.getInitialLimit()));
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initial));
+    }
+
+    /**
+     * @return 허가, 한도에 도달했으면 null
+     */
+    Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void onRelease(Permit permit, boolean overloaded) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        if (overloaded || now - permit.startNanos > latencyThresholdNanos) {
+            long lastDecrease = lastDecreaseNanos.get();
+            if (permit.startNanos - lastDecrease >= 0 && lastDecreaseNanos.compareAndSet(lastDecrease, now)) {
+                decrease();
+            }
+        } else if (permit.inFlightAtStart * 2 >= Double.longBitsToDouble(limitBits.get())) {
+            increase();
+        }
+    }
+
+    private void decrease() {
+        while (true) {
+            long bits = limitBits.get();
+            double next = Math.max(minLimit, Double.longBitsToDouble(bits) * backoffRatio);
+            if (limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private void increase() {
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = Math.min(maxLimit, limit + 1.0 / limit);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 요청 하나의 허가. 비동기 요청의 완료/오류/타임아웃 콜백이 겹쳐도 한 번만 반환됩니다.
+     */
+    final class Permit {
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * @param overloaded 과부하 응답(503/504 또는 처리 실패)이면 true
+         */
+        void release(boolean overloaded) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(this, overloaded);
+            }
+        }
+    }
+}
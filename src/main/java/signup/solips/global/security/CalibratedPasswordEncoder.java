@@ -0,0 +1,107 @@
+package signup.solips.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import signup.solips.global.AuthProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비용(cost) 보정 BCrypt 비밀번호 인코더
+ *
+ * <p>app.auth.password.bcrypt-strength 를 BCrypt 비용으로 사용하는 {@link BCryptPasswordEncoder} 위임 인코더입니다.
+ * app.auth.password.calibration.enabled 가 true이면 기동 시 실제 해시 시간을 측정하여,
+ * 한 번의 해시가 target-millis 이내로 끝나는 가장 높은 비용을 bcrypt-strength ~ max-strength 범위에서 선택합니다.
+ *
+ * <p>{@link #upgradeEncoding(String)}은 저장된 해시의 비용이 현재 비용보다 낮으면 true를 반환하며,
+ * 로그인 성공 시 기존 해시를 백그라운드에서 재해시하는 데 사용됩니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final String CALIBRATION_PASSWORD = "Calibration1!";
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public CalibratedPasswordEncoder(AuthProperties.Password password) {
+        int configured = clamp(password.getBcryptStrength());
+        AuthProperties.Calibration calibration = password.getCalibration();
+
+        this.strength = calibration.isEnabled()
+                ? calibrate(configured, clamp(calibration.getMaxStrength()), calibration.getTargetMillis())
+                : configured;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        log.info("BCrypt 비용 설정: strength={} (configured={}, calibration={})", strength, configured, calibration.isEnabled());
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        try {
+            return delegate.upgradeEncoding(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            // BCrypt 형식이 아닌 해시는 재해시 대상이 아님
+            return false;
+        }
+    }
+
+    /**
+     * 최소 비용에서 시작하여, 다음 비용(소요 시간 약 2배)이 목표 시간 안에 들어오는 동안 비용을 올립니다.
+     * 최소 비용만으로도 목표 시간을 넘으면 보안 하한인 최소 비용을 그대로 사용합니다.
+     */
+    private static int calibrate(int minStrength, int maxStrength, long targetMillis) {
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        int cost = minStrength;
+        long elapsed = measure(cost);
+
+        while (cost < maxStrength && elapsed * 2 <= targetNanos) {
+            cost++;
+            elapsed = measure(cost);
+        }
+        if (elapsed > targetNanos) {
+            log.warn("BCrypt 비용 {}의 해시 시간({}ms)이 목표 시간({}ms)을 초과합니다",
+                    cost, TimeUnit.NANOSECONDS.toMillis(elapsed), targetMillis);
+        } else {
+            log.info("BCrypt 비용 보정 완료: cost={}, hash={}ms, target={}ms",
+                    cost, TimeUnit.NANOSECONDS.toMillis(elapsed), targetMillis);
+        }
+        return cost;
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        encoder.encode(CALIBRATION_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static int clamp(int strength) {
+        return Math.max(MIN_BCRYPT_STRENGTH, Math.min(MAX_BCRYPT_STRENGTH, strength));
+    }
+}
@@ -0,0 +1,168 @@
+package signup.solips.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.exception.ErrorResponse;
+import signup.solips.global.metrics.AuthMetrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 적응형 동시 처리 한도 필터
+ *
+ * <p>DB나 CPU가 포화되었을 때 요청을 대기열에 쌓아 두다 타임아웃으로 실패시키는 대신,
+ * 처리 중인 요청 수가 한도({@link AdaptiveConcurrencyLimit})에 도달하면 새 요청을 즉시 503(COMMON-004)으로 거절합니다.
+ * 한도는 응답 시간에 따라 AIMD 방식으로 자동 조절됩니다.
+ *
+ * <p>요청 그룹:
+ * <ul>
+ *   <li>AUTH - 회원가입/로그인/토큰 갱신 (BCrypt 비용이 있어 느리므로 별도 한도)</li>
+ *   <li>API - 그 외 모든 요청</li>
+ *   <li>헬스 체크/지표 수집("/actuator/**")과 "/error"는 제한하지 않음</li>
+ * </ul>
+ *
+ * <p>비동기로 처리되는 요청(로그인/회원가입)은 응답이 완료될 때 허가를 반환합니다.
+ *
+ * <p>지표: http.concurrency.limit{group}, http.concurrency.inflight{group}, http.concurrency.rejected{group}
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+@Profile("!reactive")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    public enum Group { AUTH, API }
+
+    private static final Set<String> AUTH_PATHS = Set.of(
+            "/solips/auth/signup",
+            "/solips/auth/login",
+            "/solips/auth/refresh"
+    );
+
+    private final boolean enabled;
+    private final Map<Group, AdaptiveConcurrencyLimit> limits = new EnumMap<>(Group.class);
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+
+    public ConcurrencyLimitFilter(AuthProperties authProperties, ObjectMapper objectMapper, AuthMetrics authMetrics) {
+        AuthProperties.ConcurrencyLimit properties = authProperties.getConcurrencyLimit();
+        this.enabled = properties.isEnabled();
+        this.limits.put(Group.AUTH, new AdaptiveConcurrencyLimit(properties.getAuth(), properties.getBackoffRatio()));
+        this.limits.put(Group.API, new AdaptiveConcurrencyLimit(properties.getApi(), properties.getBackoffRatio()));
+        this.objectMapper = objectMapper;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !enabled || path.startsWith("/actuator/") || path.equals("/error");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimit.Permit permit = limits.get(groupOf(request)).tryAcquire();
+        if (permit == null) {
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.release(true);
+            throw e;
+        }
+
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new PermitReleasingListener(permit, response));
+        } else {
+            permit.release(isOverloaded(response.getStatus()));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limits.forEach((group, limit) -> {
+            String tag = group.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("http.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("동시 처리 한도")
+                    .tag("group", tag)
+                    .register(registry);
+            Gauge.builder("http.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("처리 중인 요청 수")
+                    .tag("group", tag)
+                    .register(registry);
+            FunctionCounter.builder("http.concurrency.rejected", limit, AdaptiveConcurrencyLimit::getRejectedCount)
+                    .description("동시 처리 한도 초과로 거절된 요청 수")
+                    .tag("group", tag)
+                    .register(registry);
+        });
+    }
+
+    static Group groupOf(HttpServletRequest request) {
+        return AUTH_PATHS.contains(request.getRequestURI()) ? Group.AUTH : Group.API;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        authMetrics.recordError(ErrorCode.SERVER_BUSY);
+        response.setStatus(ErrorCode.SERVER_BUSY.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(ErrorCode.SERVER_BUSY));
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private record PermitReleasingListener(AdaptiveConcurrencyLimit.Permit permit,
+                                           HttpServletResponse response) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release(isOverloaded(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -5,15 +5,15 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import signup.solips.global.config.JwtUtil;
+import signup.solips.global.profiling.TokenFilterEvent;
 
 import java.io.IOException;
-import java.util.ArrayList;
 
 /**
  * JWT 인증 필터
@@ -22,24 +22,32 @@ import java.util.ArrayList;
  * Spring Security 컨텍스트에 인증 정보를 설정합니다.
  *
  * <p>특정 인증 불필요 경로("/solips/auth/**")는 필터를 스킵합니다.
+ * 단, 모든 기기 로그아웃에 사용자 정보가 필요한 "/solips/auth/logout"과
+ * 호출자 권한이 필요한 "/solips/auth/introspect"는 토큰을 확인합니다.
  *
  * <p>주요 기능:
  * <ul>
  *   <li>인증 불필요 경로 필터 스킵</li>
  *   <li>Authorization 헤더에서 Bearer 토큰 추출</li>
  *   <li>토큰 유효성 검증 후 SecurityContext에 인증 정보 설정</li>
+ *   <li>app.auth.admin.user-ids 에 등록된 사용자에게 ROLE_ADMIN, app.auth.introspection.client-user-ids 에 등록된 사용자에게 ROLE_INTROSPECT 권한 부여</li>
  * </ul>
  *
+ * <p>토큰 검증(캐시, 서명, 폐기 목록)은 {@link AccessTokenVerifier}에 위임하며, 결과는 JFR 이벤트({@link TokenFilterEvent})에 기록합니다.
+ * reactive 프로필에서는 같은 역할을 {@link ReactiveJwtAuthenticationFilter}가 맡습니다.
+ *
  * @author Jeongjunyun777
  */
 
 
 
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -47,43 +55,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String path = request.getRequestURI();
-        if (path.startsWith("/solips/auth/")) {
+        if (AccessTokenVerifier.skipsAuthentication(path)) {
             filterChain.doFilter(request, response);
             return;
         }
 
         String authorizationHeader = request.getHeader("Authorization");
 
-        String token = null;
-        String userId = null;
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            token = authorizationHeader.substring(7);
-
-            try {
-                userId = jwtUtil.getUserIdFromToken(token);
-            } catch (Exception e) {
-                logger.error("JWT 토큰 파싱 실패", e);
-            }
-        }
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = authorizationHeader.substring(7);
+            TokenFilterEvent event = new TokenFilterEvent();
+            event.begin();
+            TokenVerification verification = accessTokenVerifier.verify(token, event);
 
-        if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validateToken(token)) {
+            if (verification.isValid() && verification.subject() != null) {
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
+                                verification.subject(),
                                 null,
-                                new ArrayList<>()
+                                accessTokenVerifier.authoritiesFor(verification.subject())
                         );
 
                 authenticationToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
+                        authenticationDetailsSource.buildDetails(request)
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("JWT 토큰 검증 실패: " + verification.status());
             }
+            event.complete(path, verification.status().name(), verification.subject());
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,284 @@
+package signup.solips.global.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.exception.RateLimitExceededException;
+import signup.solips.global.util.BoundedMaps;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한
+ *
+ * <p>아이디별, 클라이언트 IP별 토큰 버킷으로 로그인 시도 횟수를 제한합니다.
+ * 로그인 요청은 DB 조회와 BCrypt 비교 전에 {@link #acquire(String, String)}를 거치므로,
+ * 대량 대입 공격(credential stuffing)이 들어와도 제한을 넘은 요청은 해시 비용 없이 429로 거절됩니다.
+ * 아이디/이메일 중복 확인도 {@link #acquireLookup(String)}로 별도의 IP별 버킷을 거치므로,
+ * 중복 확인 API 로 가입된 아이디/이메일 목록을 모으는 요청은 DB 조회 전에 거절됩니다.
+ *
+ * <p>버킷 구현:
+ * <ul>
+ *   <li>버킷 상태는 GCRA 방식의 "다음 허용 시각" long 하나이며, CAS 로 갱신하므로 잠금이 없음</li>
+ *   <li>키는 해시값으로 나눈 여러 조각(stripe)에 나누어 보관하며, 조각마다 최대 항목 수를 둠</li>
+ *   <li>가득 찬 버킷과 같은 상태가 된(유휴) 항목은 주기적으로, 또 조각이 가득 찼을 때 제거</li>
+ *   <li>유휴 항목을 지워도 조각이 가득 차 있으면 다음 허용 시각이 가장 이른 항목부터 제거하며,
+ *       지금 거절 중인 항목은 지우지 않음 (지우면 가득 찬 버킷으로 다시 시작해 제한이 풀리므로)</li>
+ * </ul>
+ *
+ * <p>아이디 제한은 다른 사람이 특정 아이디로 시도를 반복하면 그 사용자의 로그인도 잠시 막히는 한계가 있으므로,
+ * IP 제한보다 느슨하게 설정합니다. IP는 {@code request.getRemoteAddr()} 기준이므로
+ * 프록시 뒤에서 운영할 때는 server.forward-headers-strategy 를 설정해야 합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    // 아이디가 매우 긴 요청으로 메모리를 쓰지 않도록 키 길이 제한
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final boolean enabled;
+    private final Clock clock;
+    private final BucketTable userBuckets;
+    private final BucketTable ipBuckets;
+    private final BucketTable lookupBuckets;
+
+    @Autowired
+    public LoginThrottle(AuthProperties authProperties) {
+        this(authProperties.getLoginThrottle(), Clock.systemUTC());
+    }
+
+    LoginThrottle(AuthProperties.LoginThrottle properties, Clock clock) {
+        this.enabled = properties.isEnabled();
+        this.clock = clock;
+        int stripes = Integer.highestOneBit(Math.max(1, properties.getStripes()));
+        int maxEntriesPerStripe = Math.max(1, properties.getMaxEntries() / stripes);
+        this.userBuckets = new BucketTable(properties.getPerUser(), stripes, maxEntriesPerStripe);
+        this.ipBuckets = new BucketTable(properties.getPerIp(), stripes, maxEntriesPerStripe);
+        this.lookupBuckets = new BucketTable(properties.getPerIpLookup(), stripes, maxEntriesPerStripe);
+    }
+
+    /**
+     * 로그인 시도 하나를 허용할지 확인합니다.
+     * 두 버킷을 모두 확인한 뒤에만 토큰을 소모하므로, 어느 한쪽 제한에 걸린 요청은 다른 쪽 버킷도 소모하지 않습니다.
+     * 확인과 소모 사이에 다른 요청이 아이디 버킷을 먼저 소모해 거절되면 소모한 IP 토큰을 돌려줍니다.
+     *
+     * @param userId   로그인 아이디
+     * @param clientIp 클라이언트 IP
+     * @throws RateLimitExceededException 제한을 넘은 경우, 다시 시도할 수 있을 때까지의 시간 포함
+     */
+    public void acquire(String userId, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        String ipKey = normalize(clientIp);
+        String userKey = normalize(userId);
+        long now = clock.millis();
+        long waitMillis = Math.max(ipBuckets.waitMillis(ipKey, now), userBuckets.waitMillis(userKey, now));
+        if (waitMillis == 0) {
+            waitMillis = ipBuckets.tryAcquire(ipKey, now);
+            if (waitMillis == 0) {
+                waitMillis = userBuckets.tryAcquire(userKey, now);
+                if (waitMillis > 0) {
+                    ipBuckets.refund(ipKey);
+                }
+            }
+        }
+        if (waitMillis > 0) {
+            throw new RateLimitExceededException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, waitMillis);
+        }
+    }
+
+    /**
+     * 아이디/이메일 중복 확인 요청 하나를 허용할지 확인합니다. 로그인 버킷과는 따로 소모됩니다.
+     *
+     * @param clientIp 클라이언트 IP
+     * @throws RateLimitExceededException 제한을 넘은 경우, 다시 시도할 수 있을 때까지의 시간 포함
+     */
+    public void acquireLookup(String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long waitMillis = lookupBuckets.tryAcquire(normalize(clientIp), clock.millis());
+        if (waitMillis > 0) {
+            throw new RateLimitExceededException(ErrorCode.TOO_MANY_LOOKUPS, waitMillis);
+        }
+    }
+
+    /**
+     * 유휴 항목(가득 찬 버킷과 같은 상태)을 제거합니다. 유휴 항목은 지워도 다음 시도 결과가 같습니다.
+     */
+    @Scheduled(initialDelayString = "${app.auth.login-throttle.idle-eviction-interval:PT1M}",
+            fixedDelayString = "${app.auth.login-throttle.idle-eviction-interval:PT1M}")
+    public void evictIdle() {
+        long now = clock.millis();
+        userBuckets.evictIdle(now);
+        ipBuckets.evictIdle(now);
+        lookupBuckets.evictIdle(now);
+    }
+
+    public int size() {
+        return userBuckets.size() + ipBuckets.size() + lookupBuckets.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        userBuckets.bindTo(registry, "user");
+        ipBuckets.bindTo(registry, "ip");
+        lookupBuckets.bindTo(registry, "lookup-ip");
+    }
+
+    private static String normalize(String key) {
+        if (key == null) {
+            return "";
+        }
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * 한 종류(아이디 또는 IP)의 버킷 모음
+     */
+    private static final class BucketTable {
+        private final long intervalMillis;
+        private final long burstMillis;
+        private final int maxEntriesPerStripe;
+        private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder evicted = new LongAdder();
+
+        @SuppressWarnings("unchecked")
+        private BucketTable(AuthProperties.Limit limit, int stripeCount, int maxEntriesPerStripe) {
+            this.intervalMillis = Math.max(1, limit.getRefillPeriod().toMillis());
+            this.burstMillis = intervalMillis * Math.max(0, limit.getCapacity() - 1);
+            this.maxEntriesPerStripe = maxEntriesPerStripe;
+            this.stripes = new ConcurrentHashMap[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new ConcurrentHashMap<>();
+            }
+        }
+
+        /**
+         * 토큰을 소모하지 않고 지금 시도하면 기다려야 하는 시간을 확인합니다. 버킷이 없으면 만들지 않습니다.
+         *
+         * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지의 시간(ms)
+         */
+        private long waitMillis(String key, long now) {
+            AtomicLong bucket = stripeOf(key).get(key);
+            if (bucket == null) {
+                return 0;
+            }
+            long wait = Math.max(bucket.get(), now) - burstMillis - now;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            return 0;
+        }
+
+        /**
+         * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지의 시간(ms)
+         */
+        private long tryAcquire(String key, long now) {
+            ConcurrentHashMap<String, AtomicLong> stripe = stripeOf(key);
+            AtomicLong bucket = stripe.get(key);
+            if (bucket == null) {
+                if (stripe.size() >= maxEntriesPerStripe && !makeRoom(stripe, now)) {
+                    // 조각이 거절 중인 항목으로만 차 있으면 새 키는 기록하지 않고 허용 (다른 종류의 제한은 그대로 적용)
+                    return 0;
+                }
+                bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+            }
+            while (true) {
+                long allowedAt = bucket.get();
+                long start = Math.max(allowedAt, now);
+                long wait = start - burstMillis - now;
+                if (wait > 0) {
+                    rejected.increment();
+                    return wait;
+                }
+                if (bucket.compareAndSet(allowedAt, start + intervalMillis)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * {@link #tryAcquire}에서 소모한 토큰 하나를 돌려줍니다.
+         */
+        private void refund(String key) {
+            AtomicLong bucket = stripeOf(key).get(key);
+            if (bucket != null) {
+                bucket.addAndGet(-intervalMillis);
+            }
+        }
+
+        private ConcurrentHashMap<String, AtomicLong> stripeOf(String key) {
+            return stripes[(key.hashCode() ^ (key.hashCode() >>> 16)) & (stripes.length - 1)];
+        }
+
+        /**
+         * 유휴 항목을 먼저 제거하고, 그래도 가득 차 있으면 거절 중이 아닌 항목을 다음 허용 시각이 이른 순서로 제거합니다.
+         * 제거된 항목은 가득 찬 버킷에 가까운 상태였으므로 다시 시작해도 허용 횟수가 거의 늘지 않습니다.
+         *
+         * @return 새 항목을 넣을 자리가 생겼으면 true
+         */
+        private boolean makeRoom(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+            evicted.add(BoundedMaps.trim(stripe, BoundedMaps.trimTarget(maxEntriesPerStripe),
+                    bucket -> bucket.get() <= now, bucket -> bucket.get() - burstMillis <= now, AtomicLong::get));
+            return stripe.size() < maxEntriesPerStripe;
+        }
+
+        private void evictIdle(long now) {
+            for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+                evictIdle(stripe, now);
+            }
+        }
+
+        private void evictIdle(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+            Iterator<Map.Entry<String, AtomicLong>> iterator = stripe.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getValue().get() <= now) {
+                    iterator.remove();
+                    evicted.increment();
+                }
+            }
+        }
+
+        private int size() {
+            int size = 0;
+            for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+                size += stripe.size();
+            }
+            return size;
+        }
+
+        private void bindTo(MeterRegistry registry, String keyType) {
+            FunctionCounter.builder("auth.login.throttled", rejected, LongAdder::sum)
+                    .description("시도 제한으로 거절된 로그인 수")
+                    .tag("key", keyType)
+                    .register(registry);
+            FunctionCounter.builder("auth.login.throttle.evictions", evicted, LongAdder::sum)
+                    .description("시도 제한 버킷 제거 수")
+                    .tag("key", keyType)
+                    .register(registry);
+            Gauge.builder("auth.login.throttle.entries", this, BucketTable::size)
+                    .description("시도 제한 버킷 수")
+                    .tag("key", keyType)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package signup.solips.global.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.metrics.AuthMetrics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * <p>BCrypt 연산을 Tomcat 요청 스레드가 아닌 CPU 코어 수만큼의 전용 스레드에서 수행합니다.
+ * 대기열은 app.auth.password.hashing.queue-capacity 로 제한되며,
+ * 대기열이 가득 차면 작업을 쌓지 않고 즉시 {@link ErrorCode#SERVER_BUSY}로 실패시킵니다.
+ *
+ * <p>주요 기능:
+ * <ul>
+ *   <li>비밀번호 암호화(encode) 비동기 실행</li>
+ *   <li>비밀번호 비교(matches) 비동기 실행</li>
+ *   <li>대기열 초과 시 503 응답으로 빠른 실패(backpressure)</li>
+ *   <li>연산 시간({@link AuthMetrics}), 대기열 길이/작업 중 스레드 수 지표</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean, MeterBinder {
+
+    private final PasswordEncoder passwordEncoder;
+    private final AuthMetrics authMetrics;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, AuthProperties authProperties, AuthMetrics authMetrics) {
+        AuthProperties.Hashing hashing = authProperties.getPassword().getHashing();
+        int threads = hashing.getThreads() > 0 ? hashing.getThreads() : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.authMetrics = authMetrics;
+        this.queueCapacity = Math.max(1, hashing.getQueueCapacity());
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        log.info("비밀번호 해시 실행기 초기화: threads={}, queueCapacity={}", threads, hashing.getQueueCapacity());
+    }
+
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } finally {
+                authMetrics.recordHash(AuthMetrics.HashOperation.ENCODE, start);
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            } finally {
+                authMetrics.recordHash(AuthMetrics.HashOperation.MATCHES, start);
+            }
+        });
+    }
+
+    /**
+     * 해시 작업을 전용 스레드에 제출합니다.
+     *
+     * @return 작업 결과, 대기열이 가득 찬 경우 {@link ErrorCode#SERVER_BUSY}로 실패한 future
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 대기열 초과: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            authMetrics.recordHashRejected();
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.SERVER_BUSY));
+        }
+    }
+
+    /**
+     * 대기 중인 작업이 대기열의 절반 미만인지 확인합니다 (대기열 크기 1이면 비어 있을 때만 true).
+     * 해시 비용 업그레이드처럼 미뤄도 되는 작업이 로그인 요청의 대기열 자리를 빼앗지 않도록 할 때 사용합니다.
+     */
+    public boolean hasSpareCapacity() {
+        return executor.getQueue().size() * 2 < queueCapacity;
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해시 대기열 길이")
+                .register(registry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 중인 스레드 수")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
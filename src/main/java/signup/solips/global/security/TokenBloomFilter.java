@@ -0,0 +1,72 @@
+package signup.solips.global.security;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 토큰 다이제스트용 Bloom 필터
+ *
+ * <p>폐기된 Access Token 목록({@link AccessTokenRevocationList})과, 다이제스트로 변환한 아이디/이메일 사용 여부 색인에서 사용합니다.
+ *
+ * <p>{@link TokenDigest}는 이미 균등 분포인 SHA-256 값이므로 별도 해시 함수를 계산하지 않고,
+ * 다이제스트의 두 long 값으로 이중 해싱(h1 + i * h2)하여 비트 위치를 구합니다.
+ * 비트 배열은 2의 거듭제곱 크기의 long[] 이며, 조회는 k번의 배열 읽기와 비트 연산뿐입니다.
+ *
+ * <p>추가는 {@link VarHandle#getAndBitwiseOr}로 원자적으로 비트를 켜므로 잠금 없이 여러 스레드에서 사용할 수 있습니다.
+ * 오탐(false positive)은 있을 수 있지만 추가된 값을 놓치는 경우(false negative)는 없습니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+public final class TokenBloomFilter {
+
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final long mask;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions    예상 항목 수
+     * @param falsePositiveRate     예상 항목 수에서의 목표 오탐률
+     */
+    public TokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+        long optimalBits = (long) Math.ceil(-n * Math.log(p) / (LN2 * LN2));
+        long bitCount = Math.max(Long.SIZE, Long.highestOneBit(Math.max(1, optimalBits - 1)) << 1);
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, bitCount / Long.SIZE)];
+        this.mask = (long) bits.length * Long.SIZE - 1;
+        this.hashCount = Math.max(1, Math.min(16, (int) Math.round((double) mask / n * LN2)));
+    }
+
+    public void add(TokenDigest digest) {
+        long hash = digest.h1();
+        long step = digest.h2() | 1;
+        for (int i = 0; i < hashCount; i++, hash += step) {
+            long index = hash & mask;
+            BITS.getAndBitwiseOr(bits, (int) (index >>> 6), 1L << index);
+        }
+    }
+
+    public boolean mightContain(TokenDigest digest) {
+        long hash = digest.h1();
+        long step = digest.h2() | 1;
+        for (int i = 0; i < hashCount; i++, hash += step) {
+            long index = hash & mask;
+            if (((long) BITS.getAcquire(bits, (int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return (long) bits.length * Long.SIZE;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+}
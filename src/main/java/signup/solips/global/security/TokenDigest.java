@@ -0,0 +1,73 @@
+package signup.solips.global.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 SHA-256 다이제스트
+ *
+ * <p>원본 토큰 문자열 대신 고정 길이(256bit) 다이제스트를 키로 사용하기 위한 값 객체입니다.
+ * 4개의 long 필드로 보관하므로 해시맵 키로 사용할 때 바이트 배열 복사나 문자열 비교가 필요 없습니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+public record TokenDigest(long h0, long h1, long h2, long h3) {
+
+    private static final MessageDigest SHA_256_PROTOTYPE = newSha256();
+
+    public static TokenDigest of(String token) {
+        byte[] hash = sha256().digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * {@link #toHex()}로 만든 64자리 16진수 문자열을 다이제스트로 되돌립니다.
+     *
+     * @throws IllegalArgumentException 16진수 문자열이 아니거나 길이가 맞지 않는 경우
+     */
+    public static TokenDigest fromHex(String hex) {
+        byte[] bytes = HexFormat.of().parseHex(hex);
+        if (bytes.length != 32) {
+            throw new IllegalArgumentException("다이제스트 길이가 올바르지 않습니다: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * @return 64자리 소문자 16진수 문자열
+     */
+    public String toHex() {
+        return HexFormat.of().formatHex(toBytes());
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(32)
+                .putLong(h0)
+                .putLong(h1)
+                .putLong(h2)
+                .putLong(h3)
+                .array();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return (MessageDigest) SHA_256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return newSha256();
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package signup.solips.global.security;
+
+import signup.solips.global.exception.ErrorCode;
+
+import java.time.Instant;
+
+/**
+ * JWT 검증 결과
+ *
+ * <p>토큰을 한 번만 파싱/서명 검증한 결과를 담습니다.
+ * 검증에 성공하면 subject와 만료 시각을, 실패하면 실패 사유를 제공합니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>status - 검증 결과 상태</li>
+ *   <li>subject - 토큰 subject(사용자 ID), 서명 검증에 실패한 경우 null</li>
+ *   <li>expiresAt - 토큰 만료 시각, 서명 검증에 실패한 경우 null</li>
+ *   <li>familyId - 리프레시 토큰 계열(family) ID, 액세스 토큰이나 이전 형식 토큰은 null</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+public record TokenVerification(
+        Status status,
+        String subject,
+        Instant expiresAt,
+        String familyId
+) {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        MALFORMED,
+        INVALID_SIGNATURE,
+        UNSUPPORTED,
+        EMPTY,
+        REVOKED
+    }
+
+    public static TokenVerification valid(String subject, Instant expiresAt) {
+        return valid(subject, expiresAt, null);
+    }
+
+    public static TokenVerification valid(String subject, Instant expiresAt, String familyId) {
+        return new TokenVerification(Status.VALID, subject, expiresAt, familyId);
+    }
+
+    public static TokenVerification expired(String subject, Instant expiresAt) {
+        return new TokenVerification(Status.EXPIRED, subject, expiresAt, null);
+    }
+
+    /**
+     * 서명과 만료는 유효하지만 로그아웃으로 폐기된 토큰
+     */
+    public static TokenVerification revoked(String subject, Instant expiresAt) {
+        return new TokenVerification(Status.REVOKED, subject, expiresAt, null);
+    }
+
+    public static TokenVerification failure(Status status) {
+        return new TokenVerification(status, null, null, null);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    /**
+     * 실패 사유를 API 에러 코드로 변환합니다.
+     *
+     * @return 만료된 토큰은 {@link ErrorCode#EXPIRED_TOKEN}, 그 외 실패는 {@link ErrorCode#INVALID_TOKEN}
+     */
+    public ErrorCode toErrorCode() {
+        return status == Status.EXPIRED ? ErrorCode.EXPIRED_TOKEN : ErrorCode.INVALID_TOKEN;
+    }
+}
@@ -0,0 +1,85 @@
+package signup.solips.global.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 최대 항목 수가 있는 ConcurrentMap 정리
+ *
+ * <p>Access Token 캐시, 사용자 정보 캐시, 로그인 시도 제한 버킷처럼 가득 찼을 때 항목을 비워야 하는 표가
+ * 같은 방식으로 정리하도록 모은 도구입니다.
+ *
+ * <ul>
+ *   <li>만료된(지워도 결과가 같은) 항목을 먼저 모두 제거</li>
+ *   <li>그래도 목표 크기를 넘으면 제거해도 되는 항목만, 순위 값이 작은 것(곧 만료될 것)부터 제거</li>
+ *   <li>가득 찬 상태에서 추가마다 전체 순회가 일어나지 않도록 목표 크기는 용량의 7/8 ({@link #trimTarget})</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+public final class BoundedMaps {
+
+    private BoundedMaps() {
+    }
+
+    /**
+     * 용량의 1/8(최소 1)만큼 여유를 남긴 정리 목표 크기
+     */
+    public static int trimTarget(int capacity) {
+        return capacity - Math.max(1, capacity / 8);
+    }
+
+    /**
+     * 만료된 항목을 제거하고, 그래도 target 보다 크면 evictable 인 항목을 rank 가 작은 순서로 제거합니다.
+     * 순위를 매긴 뒤 값이 바뀐 항목은 다시 확인하며, 그 사이 다른 값으로 교체된 키는 제거하지 않습니다.
+     *
+     * @param map       정리할 표
+     * @param target    정리 후 목표 크기
+     * @param expired   지워도 되는(만료/유휴) 항목
+     * @param evictable 용량 때문에 지워도 되는 항목
+     * @param rank      제거 순서, 작은 값부터 제거
+     * @return 제거한 항목 수
+     */
+    public static <K, V> int trim(ConcurrentMap<K, V> map, int target, Predicate<? super V> expired,
+                                  Predicate<? super V> evictable, ToLongFunction<? super V> rank) {
+        int removed = 0;
+        Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (expired.test(iterator.next().getValue())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        int excess = map.size() - target;
+        if (excess <= 0) {
+            return removed;
+        }
+        // 순위가 가장 큰 후보가 맨 앞에 오는 힙에 순위가 작은 후보 excess 개만 남김
+        PriorityQueue<Candidate<K, V>> lowest = new PriorityQueue<>(excess + 1, (a, b) -> Long.compare(b.rank(), a.rank()));
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            V value = entry.getValue();
+            if (!evictable.test(value)) {
+                continue;
+            }
+            lowest.add(new Candidate<>(entry.getKey(), value, rank.applyAsLong(value)));
+            if (lowest.size() > excess) {
+                lowest.poll();
+            }
+        }
+        for (Candidate<K, V> candidate : lowest) {
+            if (evictable.test(candidate.value()) && map.remove(candidate.key(), candidate.value())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private record Candidate<K, V>(K key, V value, long rank) {
+    }
+}
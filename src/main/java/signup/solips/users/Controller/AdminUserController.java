@@ -0,0 +1,105 @@
+package signup.solips.users.Controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import signup.solips.users.dto.response.UserImportSummary;
+import signup.solips.users.service.UserImportService;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리자용 사용자 관리 API 컨트롤러
+ *
+ * <p>ROLE_ADMIN 권한이 필요합니다(app.auth.admin.user-ids).
+ *
+ * <p>주요 기능:
+ * <ul>
+ *   <li>명단 일괄 가입 (CSV / NDJSON)</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/solips/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+    private static final String TEXT_CSV = "text/csv";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 명단 일괄 가입
+     *
+     * <p>요청 본문(text/csv 또는 application/x-ndjson)을 스트리밍으로 읽고,
+     * 행별 결과를 처리되는 대로 NDJSON 한 줄씩 응답하며 마지막 줄에 요약({@link UserImportSummary})을 기록합니다.
+     * 요청/응답 모두 명단 전체를 메모리에 올리지 않습니다.
+     *
+     * @param request  명단 본문을 가진 요청
+     * @param response 행별 결과를 기록할 응답
+     */
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        UserImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.NDJSON;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        NdjsonWriter writer = new NdjsonWriter(response);
+        try (Reader roster = new InputStreamReader(request.getInputStream(), charset)) {
+            UserImportSummary summary = userImportService.importRoster(roster, format, writer::writeLine);
+            writer.writeLine(summary);
+            writer.flush();
+        }
+    }
+
+    /**
+     * 첫 줄을 쓸 때 응답 형식을 정하는 NDJSON 기록기.
+     * 명단 헤더 오류처럼 아무 결과도 쓰기 전에 실패하면 일반 오류 응답(JSON)으로 처리됩니다.
+     */
+    private final class NdjsonWriter {
+        private final HttpServletResponse response;
+        private PrintWriter writer;
+
+        private NdjsonWriter(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        private void writeLine(Object value) {
+            try {
+                if (writer == null) {
+                    response.setContentType(APPLICATION_NDJSON);
+                    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                    writer = response.getWriter();
+                }
+                writer.write(objectMapper.writeValueAsString(value));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void flush() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+    }
+}
@@ -1,20 +1,34 @@
 package signup.solips.users.Controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.security.LoginThrottle;
+import signup.solips.users.dto.request.LogoutRequestDto;
 import signup.solips.users.dto.request.RefreshTokenRequestDto;
+import signup.solips.users.dto.request.TokenIntrospectionRequestDto;
 import signup.solips.users.dto.request.UserLoginRequestDto;
 import signup.solips.users.dto.request.UserSignupRequestDto;
+import signup.solips.users.dto.response.AvailabilityResponse;
+import signup.solips.users.dto.response.TokenIntrospectionResponse;
 import signup.solips.users.dto.response.TokenResponse;
 import signup.solips.users.dto.response.UserLoginResponseDto;
 import signup.solips.users.dto.response.UserInfo;
 import signup.solips.users.service.AuthService;
+import signup.solips.users.service.TokenIntrospectionService;
 import signup.solips.users.service.impl.AuthServiceImpl;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 관련 API 컨트롤러
  *
@@ -27,18 +41,24 @@ import signup.solips.users.service.impl.AuthServiceImpl;
  *   <li>로그아웃</li>
  *   <li>리프레시 토큰 갱신</li>
  *   <li>사용자 ID/이메일 중복 체크</li>
+ *   <li>내부 서비스용 Access Token 일괄 확인</li>
  * </ul>
  *
  * <p>각 요청은 {@link AuthServiceImpl}에 위임됩니다.
+ * 회원가입/로그인은 비동기로 처리되어 BCrypt 연산 동안 요청 스레드를 반환합니다.
+ * 로그인은 DB 조회와 BCrypt 비교 전에 아이디/IP별 시도 제한({@link LoginThrottle})을 거칩니다.
  *
  * @author Jeongjunyun777
  */
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/solips/auth")
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
 
     /**
@@ -46,34 +66,51 @@ public class AuthController {
      *
      * @param request 회원가입 요청 DTO
      * @return 생성된 사용자 정보
-     * @throws IllegalAccessException 회원가입 실패 시
      */
     @PostMapping("/signup")
-    public ResponseEntity<UserInfo> signup(@Valid @RequestBody UserSignupRequestDto request) throws IllegalAccessException {
-        UserInfo userInfo = authService.signup(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(userInfo);
+    public CompletableFuture<ResponseEntity<UserInfo>> signup(@Valid @RequestBody UserSignupRequestDto request) {
+        return authService.signup(request)
+                .thenApply(userInfo -> ResponseEntity.status(HttpStatus.CREATED).body(userInfo));
     }
     /**
      * 로그인
      *
-     * @param request 로그인 요청 DTO
+     * @param request     로그인 요청 DTO
+     * @param httpRequest 클라이언트 IP 확인용 요청
      * @return 로그인 결과(토큰 + 사용자 정보)
-     * @throws IllegalAccessException 로그인 실패 시
      */
     @PostMapping("/login")
-    public ResponseEntity<UserLoginResponseDto> login(@Valid @RequestBody UserLoginRequestDto request) throws IllegalAccessException {
-        UserLoginResponseDto userLoginResponseDto = authService.login(request);
-        return ResponseEntity.ok(userLoginResponseDto);
+    public CompletableFuture<ResponseEntity<UserLoginResponseDto>> login(@Valid @RequestBody UserLoginRequestDto request,
+                                                                         HttpServletRequest httpRequest) {
+        loginThrottle.acquire(request.getUserId(), httpRequest.getRemoteAddr());
+        return authService.login(request)
+                .thenApply(ResponseEntity::ok);
     }
     /**
      * 로그아웃
      *
-     * @param userId 인증된 사용자 ID
+     * <p>요청 본문에 리프레시 토큰이 있으면 해당 기기의 세션만, 없으면 인증된 사용자의 모든 세션을 로그아웃합니다.
+     * 인증에 사용한 액세스 토큰은 만료 전이라도 더 이상 사용할 수 없도록 폐기합니다.
+     *
+     * @param authentication 인증 정보 (익명 요청이면 null)
+     * @param authorization  Authorization 헤더 (선택)
+     * @param request        로그아웃 요청 DTO (선택)
      * @return 빈 응답
      */
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@AuthenticationPrincipal String userId) {
-        authService.logout(userId);
+    public ResponseEntity<Void> logout(Authentication authentication,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) LogoutRequestDto request) {
+        if (request != null && request.getRefreshToken() != null && !request.getRefreshToken().isBlank()) {
+            authService.logoutSession(request.getRefreshToken());
+        } else if (authentication != null) {
+            authService.logout(authentication.getName());
+        } else {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (authentication != null && authorization != null && authorization.startsWith("Bearer ")) {
+            authService.revokeAccessToken(authorization.substring(7));
+        }
         return ResponseEntity.ok().build();
     }
 
@@ -89,7 +126,70 @@ public class AuthController {
         TokenResponse response = authService.refreshToken(request.getRefreshToken());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 아이디 중복 체크
+     *
+     * <p>가입된 아이디 목록을 모으지 못하도록 DB 조회 전에 IP별 시도 제한({@link LoginThrottle#acquireLookup})을 거칩니다.
+     *
+     * @param userId 확인할 아이디
+     * @return 사용 가능 여부
+     */
+    @GetMapping("/check-userid")
+    public ResponseEntity<AvailabilityResponse> checkUserId(@RequestParam(required = false) String userId,
+                                                            HttpServletRequest httpRequest) {
+        if (userId == null || userId.isBlank()) {
+            throw new CustomException(ErrorCode.MISSING_INPUT_VALUE, "아이디는 필수입니다.");
+        }
+        loginThrottle.acquireLookup(httpRequest.getRemoteAddr());
+        return ResponseEntity.ok(new AvailabilityResponse(userId, authService.isUserIdAvailable(userId)));
+    }
+
+    /**
+     * 이메일 중복 체크
+     *
+     * <p>아이디 중복 체크와 같은 IP별 시도 제한을 거칩니다.
+     *
+     * @param email 확인할 이메일
+     * @return 사용 가능 여부
+     */
+    @GetMapping("/check-email")
+    public ResponseEntity<AvailabilityResponse> checkEmail(@RequestParam(required = false) String email,
+                                                           HttpServletRequest httpRequest) {
+        if (email == null || email.isBlank()) {
+            throw new CustomException(ErrorCode.MISSING_INPUT_VALUE, "이메일은 필수입니다.");
+        }
+        loginThrottle.acquireLookup(httpRequest.getRemoteAddr());
+        return ResponseEntity.ok(new AvailabilityResponse(email, authService.isEmailAvailable(email)));
+    }
+
+    /**
+     * Access Token 일괄 확인
+     *
+     * <p>ROLE_ADMIN 또는 ROLE_INTROSPECT(app.auth.introspection.client-user-ids) 권한이 필요합니다.
+     * 응답에는 결과 내용으로 만든 ETag 와 Cache-Control(private, max-age)을 붙이고,
+     * If-None-Match 가 현재 결과와 같으면 본문 없이 304 로 응답합니다.
+     *
+     * @param request     확인할 토큰 목록
+     * @param ifNoneMatch 호출자가 가진 이전 응답의 ETag (선택)
+     * @return 토큰별 확인 결과
+     */
+    @PostMapping("/introspect")
+    public ResponseEntity<TokenIntrospectionResponse> introspect(@Valid @RequestBody TokenIntrospectionRequestDto request,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TokenIntrospectionService.Introspection introspection = tokenIntrospectionService.introspect(request.getTokens());
+        CacheControl cacheControl = CacheControl.maxAge(introspection.maxAge()).cachePrivate();
+        if (introspection.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(introspection.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(introspection.etag())
+                .cacheControl(cacheControl)
+                .body(introspection.response());
+    }
 }
-// 중복 체크 응답 Record
 
 
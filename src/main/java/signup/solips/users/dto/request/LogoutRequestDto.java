@@ -0,0 +1,26 @@
+package signup.solips.users.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그아웃 요청 DTO
+ *
+ * <p>현재 기기의 세션만 로그아웃할 때 해당 세션의 리프레시 토큰을 전달합니다.
+ * 요청 본문이 없거나 refreshToken이 비어 있으면 모든 기기에서 로그아웃합니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>refreshToken - 로그아웃할 세션의 리프레시 토큰</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequestDto {
+    private String refreshToken;
+}
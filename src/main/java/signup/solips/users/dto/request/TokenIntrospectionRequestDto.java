@@ -0,0 +1,34 @@
+package signup.solips.users.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 확인 요청 DTO
+ *
+ * <p>게이트웨이 등 내부 서비스가 확인할 Access Token 목록을 한 번에 전달합니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>tokens - 확인할 Access Token 목록 (Bearer 접두사 제외), 응답은 같은 순서로 반환</li>
+ * </ul>
+ *
+ * 유효성:
+ * <ul>
+ *   <li>NotEmpty 필수, 최대 개수는 app.auth.introspection.max-tokens</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionRequestDto {
+    @NotEmpty(message = "확인할 토큰은 필수입니다.")
+    private List<String> tokens;
+}
@@ -0,0 +1,21 @@
+package signup.solips.users.dto.response;
+
+/**
+ * 중복 체크 응답 DTO
+ *
+ * <p>아이디 또는 이메일의 사용 가능 여부를 반환합니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>value - 확인한 아이디 또는 이메일</li>
+ *   <li>available - 사용 가능하면 true</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+public record AvailabilityResponse(
+        String value,
+        boolean available
+) {}
@@ -0,0 +1,48 @@
+package signup.solips.users.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 토큰 일괄 확인 응답 DTO
+ *
+ * <p>요청한 토큰 순서대로 각 토큰의 확인 결과를 반환합니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>results - 토큰별 확인 결과</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+public record TokenIntrospectionResponse(
+        List<Result> results
+) {
+
+    /**
+     * 토큰 하나의 확인 결과
+     *
+     * <p>만료, 위조, 로그아웃으로 폐기된 토큰은 사유를 구분하지 않고 active=false 만 반환합니다.
+     *
+     * @param active    Access Token 으로 사용할 수 있으면 true
+     * @param subject   토큰 사용자 아이디 (active 일 때만)
+     * @param expiresAt 토큰 만료 시각 (active 일 때만)
+     */
+    public record Result(
+            boolean active,
+            String subject,
+            Instant expiresAt
+    ) {
+        private static final Result INACTIVE = new Result(false, null, null);
+
+        public static Result active(String subject, Instant expiresAt) {
+            return new Result(true, subject, expiresAt);
+        }
+
+        public static Result inactive() {
+            return INACTIVE;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import lombok.*;
  * 필드:
  * <ul>
  *   <li>accessToken - 발급된 액세스 토큰</li>
+ *   <li>refreshToken - 회전(rotation)으로 새로 발급된 리프레시 토큰</li>
  *   <li>tokenType - 토큰 타입 (예: Bearer)</li>
  *   <li>expiresIn - 액세스 토큰 만료 시간(초)</li>
  * </ul>
@@ -24,6 +25,7 @@ import lombok.*;
 @NoArgsConstructor
 public class TokenResponse {
     private String accessToken;
+    private String refreshToken;
     private String tokenType;
     private Long expiresIn;
 }
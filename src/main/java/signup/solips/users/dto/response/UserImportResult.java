@@ -0,0 +1,45 @@
+package signup.solips.users.dto.response;
+
+/**
+ * 명단 일괄 가입 행별 결과 DTO
+ *
+ * <p>입력 명단의 한 행을 처리한 결과이며, 응답에 NDJSON 한 줄로 기록됩니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>line - 입력 명단의 줄 번호 (1부터, CSV 헤더 포함)</li>
+ *   <li>email - 이메일</li>
+ *   <li>userId - 회원 아이디</li>
+ *   <li>status - 처리 결과</li>
+ *   <li>id - 생성된 사용자 DB 식별자 (CREATED 일 때만)</li>
+ *   <li>message - 실패 사유</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+public record UserImportResult(
+        long line,
+        String email,
+        String userId,
+        Status status,
+        Long id,
+        String message
+) {
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE_EMAIL,
+        DUPLICATE_USER_ID,
+        FAILED
+    }
+
+    public static UserImportResult created(long line, String email, String userId, Long id) {
+        return new UserImportResult(line, email, userId, Status.CREATED, id, null);
+    }
+
+    public static UserImportResult rejected(long line, String email, String userId, Status status, String message) {
+        return new UserImportResult(line, email, userId, status, null, message);
+    }
+}
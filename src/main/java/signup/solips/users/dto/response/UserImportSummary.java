@@ -0,0 +1,29 @@
+package signup.solips.users.dto.response;
+
+/**
+ * 명단 일괄 가입 요약 DTO
+ *
+ * <p>행별 결과를 모두 기록한 뒤 응답의 마지막 줄로 기록됩니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>total - 처리한 행 수</li>
+ *   <li>created - 생성된 계정 수</li>
+ *   <li>invalid - 형식/유효성 오류 행 수</li>
+ *   <li>duplicate - 이메일 또는 아이디 중복 행 수</li>
+ *   <li>failed - 그 밖의 오류로 실패한 행 수</li>
+ *   <li>elapsedMillis - 전체 처리 시간</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+public record UserImportSummary(
+        long total,
+        long created,
+        long invalid,
+        long duplicate,
+        long failed,
+        long elapsedMillis
+) {}
@@ -13,11 +13,13 @@ import java.time.LocalDateTime;
  *
  * 필드:
  * <ul>
- *   <li>id - PK, 자동 생성</li>
- *   <li>email - 고유 이메일</li>
- *   <li>userId - 회원 아이디</li>
+ *   <li>id - PK, {@value #ID_TABLE} 테이블에서 {@value #ID_ALLOCATION_SIZE}개 단위로 할당 (JDBC 배치 INSERT 가능)</li>
+ *   <li>email - 고유 이메일 (유니크 제약 {@value #UK_EMAIL})</li>
+ *   <li>userId - 고유 회원 아이디 (유니크 제약 {@value #UK_USER_ID})</li>
  *   <li>password - 암호화된 비밀번호</li>
- *   <li>refreshToken - 최신 리프레시 토큰</li>
+ *   <li>refreshToken - (레거시) 평문 리프레시 토큰, 조회 시 다이제스트로 이전됨</li>
+ *   <li>refreshTokenHash - 최신 리프레시 토큰의 SHA-256 다이제스트(16진수), 인덱스 조회</li>
+ *   <li>refreshTokenFamily - 최신 리프레시 토큰의 회전 계열(family) ID</li>
  *   <li>refreshTokenExpiresAt - 리프레시 토큰 만료 시간</li>
  *   <li>createdAt - 계정 생성 시간</li>
  * </ul>
@@ -32,13 +34,29 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = UserEntity.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = UserEntity.UK_USER_ID, columnNames = "user_id")
+}, indexes = {
+        @Index(name = "idx_users_refresh_token_hash", columnList = "refresh_token_hash"),
+        @Index(name = "idx_users_refresh_token_expires_at", columnList = "refresh_token_expires_at, id")
+})
 public class UserEntity {
+    public static final String UK_EMAIL = "uk_users_email";
+    public static final String UK_USER_ID = "uk_users_user_id";
+    public static final String ID_TABLE = "id_sequences";
+    public static final String ID_SEQUENCE_NAME = "users";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 전략은 INSERT마다 키를 돌려받아야 해서 Hibernate가 JDBC 배치를 끄므로 테이블 할당기를 사용합니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id_generator")
+    @TableGenerator(name = "users_id_generator", table = ID_TABLE,
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = ID_SEQUENCE_NAME, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(unique = true, nullable = false,length = 100)
+    @Column(nullable = false,length = 100)
     private String email;
 
     @Column(name = "user_id", nullable = false, length = 50)
@@ -50,6 +68,12 @@ public class UserEntity {
     @Column(name = "refresh_token", nullable = true, length = 500)
     private String refreshToken;
 
+    @Column(name = "refresh_token_hash", nullable = true, length = 64)
+    private String refreshTokenHash;
+
+    @Column(name = "refresh_token_family", nullable = true, length = 36)
+    private String refreshTokenFamily;
+
     @Column(name = "refresh_token_expires_at", nullable = true)
     private LocalDateTime refreshTokenExpiresAt;
 
@@ -0,0 +1,85 @@
+package signup.solips.users.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 세션 엔티티
+ *
+ * <p>기기(로그인) 단위로 발급된 리프레시 토큰 세션을 저장하는 JPA 엔티티입니다.
+ * 한 사용자가 여러 기기에서 동시에 로그인할 수 있도록 세션마다 한 행을 사용합니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>sessionId - PK, 리프레시 토큰 계열(family) ID</li>
+ *   <li>userId - 세션 소유자 아이디 (인덱스)</li>
+ *   <li>tokenHash - 현재 리프레시 토큰의 SHA-256 다이제스트 (유니크 인덱스)</li>
+ *   <li>expiresAt - 리프레시 토큰 만료 시간 (만료 세션 정리용 인덱스)</li>
+ *   <li>lastUsedAt - 마지막 토큰 회전 시간</li>
+ *   <li>createdAt - 세션 생성(로그인) 시간</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "user_sessions",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_sessions_token_hash", columnNames = "token_hash")
+        },
+        indexes = {
+                @Index(name = "idx_user_sessions_user_id", columnList = "user_id, created_at"),
+                @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at, session_id")
+        })
+public class UserSessionEntity implements Persistable<String> {
+    @Id
+    @Column(name = "session_id", length = 36)
+    private String sessionId;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 식별자를 직접 할당하므로 save 시 merge(SELECT) 대신 바로 INSERT 되도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    private boolean newSession = true;
+
+    @Override
+    public String getId() {
+        return sessionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSession;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSession = false;
+    }
+}
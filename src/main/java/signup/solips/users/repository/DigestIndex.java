@@ -0,0 +1,142 @@
+package signup.solips.users.repository;
+
+import signup.solips.global.security.TokenDigest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 토큰 다이제스트 → 세션 기록 위치 색인 (힙 밖 open addressing 해시 테이블)
+ *
+ * <p>direct 버퍼에 고정 크기 슬롯을 두고 선형 탐사(linear probing)로 찾습니다. 다이제스트가 SHA-256 이므로
+ * 첫 8바이트를 그대로 해시로 씁니다. 삭제한 슬롯은 표식을 남기고, 사용 중이거나 표식인 슬롯이
+ * 용량의 절반을 넘으면 새 버퍼로 옮겨 담습니다.
+ *
+ * <p>슬롯: [상태 4][세션 생성 기록 위치 4][만료 시각 8][다이제스트 32]
+ *
+ * <p>스레드 안전하지 않으며, 호출자가 동기화합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+final class DigestIndex {
+
+    private static final int SLOT_SIZE = 48;
+    private static final int EMPTY = 0;
+    private static final int USED = 1;
+    private static final int DELETED = 2;
+
+    private ByteBuffer slots;
+    private int mask;
+    private int size;
+    private int deleted;
+
+    DigestIndex(int initialCapacity) {
+        allocate(Integer.highestOneBit(Math.max(16, initialCapacity) * 2 - 1));
+    }
+
+    /**
+     * @return 슬롯 번호, 없으면 -1
+     */
+    int find(TokenDigest digest) {
+        for (int slot = home(digest), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            int state = slots.getInt(slot * SLOT_SIZE);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == USED && matches(slot, digest)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 없는 다이제스트를 추가합니다.
+     */
+    void put(TokenDigest digest, int recordOffset, long expiresAtMillis) {
+        if ((size + deleted + 1) * 2 > capacity()) {
+            // 삭제 표식이 대부분이면 같은 크기로, 아니면 두 배로 옮김
+            resize(size * 4 > capacity() ? capacity() * 2 : capacity());
+        }
+        int slot = home(digest);
+        while (slots.getInt(slot * SLOT_SIZE) == USED) {
+            slot = (slot + 1) & mask;
+        }
+        if (slots.getInt(slot * SLOT_SIZE) == DELETED) {
+            deleted--;
+        }
+        write(slot, digest, recordOffset, expiresAtMillis);
+        size++;
+    }
+
+    void remove(int slot) {
+        slots.putInt(slot * SLOT_SIZE, DELETED);
+        size--;
+        deleted++;
+    }
+
+    int recordOffset(int slot) {
+        return slots.getInt(slot * SLOT_SIZE + 4);
+    }
+
+    long expiresAtMillis(int slot) {
+        return slots.getLong(slot * SLOT_SIZE + 8);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    private void resize(int newCapacity) {
+        ByteBuffer old = this.slots;
+        int oldCapacity = capacity();
+        allocate(newCapacity);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int base = slot * SLOT_SIZE;
+            if (old.getInt(base) == USED) {
+                TokenDigest digest = new TokenDigest(
+                        old.getLong(base + 16), old.getLong(base + 24), old.getLong(base + 32), old.getLong(base + 40));
+                int target = home(digest);
+                while (slots.getInt(target * SLOT_SIZE) == USED) {
+                    target = (target + 1) & mask;
+                }
+                write(target, digest, old.getInt(base + 4), old.getLong(base + 8));
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        this.mask = capacity - 1;
+        this.size = 0;
+        this.deleted = 0;
+    }
+
+    private void write(int slot, TokenDigest digest, int recordOffset, long expiresAtMillis) {
+        int base = slot * SLOT_SIZE;
+        slots.putInt(base + 4, recordOffset);
+        slots.putLong(base + 8, expiresAtMillis);
+        slots.putLong(base + 16, digest.h0());
+        slots.putLong(base + 24, digest.h1());
+        slots.putLong(base + 32, digest.h2());
+        slots.putLong(base + 40, digest.h3());
+        slots.putInt(base, USED);
+    }
+
+    private boolean matches(int slot, TokenDigest digest) {
+        int base = slot * SLOT_SIZE;
+        return slots.getLong(base + 16) == digest.h0()
+                && slots.getLong(base + 24) == digest.h1()
+                && slots.getLong(base + 32) == digest.h2()
+                && slots.getLong(base + 40) == digest.h3();
+    }
+
+    private int home(TokenDigest digest) {
+        return (int) (digest.h0() ^ (digest.h0() >>> 32)) & mask;
+    }
+}
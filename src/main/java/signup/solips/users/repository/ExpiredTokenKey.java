@@ -0,0 +1,16 @@
+package signup.solips.users.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 토큰 정리용 키셋(keyset) 커서
+ *
+ * <p>(만료 시간, 식별자) 순으로 정렬된 배치의 마지막 행을 가리키며, 다음 배치는 이 키 이후부터 조회합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+public record ExpiredTokenKey<ID>(
+        ID id,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,131 @@
+package signup.solips.users.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import signup.solips.global.AuthProperties;
+import signup.solips.users.entity.UserSessionEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * user_sessions 테이블 기반 리프레시 토큰 저장소 (app.auth.session.store=jpa, 기본값)
+ *
+ * <p>세션마다 한 행을 저장하고, 토큰 회전은 조건부 UPDATE 한 번으로 처리합니다.
+ * users 테이블에 남은 레거시 토큰의 이전과 삭제도 담당합니다.
+ *
+ * <p>app.auth.session.write-behind.enabled 이면 세션 생성과 모든 세션 폐기는 {@link SessionWriteBuffer}를 거쳐
+ * 배치로 반영되고, 나머지 메서드는 실행 전에 해당 사용자의 반영 대기 중인 쓰기를 먼저 반영합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.auth.session", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+    private final UserSessionRepository userSessionRepository;
+    private final UserRepository userRepository;
+    private final SessionWriteBuffer sessionWriteBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthProperties authProperties;
+
+    /**
+     * 새 세션을 저장한 뒤, 사용자의 세션 수가 최대치를 넘으면 가장 오래된 세션부터 제거합니다.
+     */
+    @Override
+    public void create(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt) {
+        if (bufferOrDrain(userId, sessionWriteBuffer.offerCreate(userId, sessionId, tokenHash, expiresAt))) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> insertSession(userId, sessionId, tokenHash, expiresAt));
+    }
+
+    @Override
+    public boolean rotate(String userId, String sessionId, String tokenHash, String newTokenHash, LocalDateTime newExpiresAt) {
+        sessionWriteBuffer.awaitVisible(userId);
+        return userSessionRepository.rotateToken(sessionId, tokenHash, newTokenHash, newExpiresAt, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * users 테이블에 남은 기존 리프레시 토큰을 회수하고, 같은 트랜잭션에서 새 세션으로 이전합니다.
+     */
+    @Override
+    public boolean claimLegacy(String userId, String refreshToken, String tokenHash,
+                               String sessionId, String newTokenHash, LocalDateTime newExpiresAt) {
+        sessionWriteBuffer.awaitVisible(userId);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (userRepository.claimLegacyRefreshToken(userId, tokenHash, refreshToken, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            insertSession(userId, sessionId, newTokenHash, newExpiresAt);
+            return true;
+        }));
+    }
+
+    @Override
+    public void revoke(String userId, String sessionId) {
+        sessionWriteBuffer.awaitVisible(userId);
+        userSessionRepository.deleteBySessionIdAndUserId(sessionId, userId);
+    }
+
+    @Override
+    public boolean revokeByToken(String userId, String tokenHash) {
+        sessionWriteBuffer.awaitVisible(userId);
+        return userSessionRepository.deleteByTokenHash(tokenHash) > 0;
+    }
+
+    /**
+     * 사용자의 모든 세션과 users 테이블에 남은 레거시 토큰을 함께 삭제합니다.
+     */
+    @Override
+    public void revokeAll(String userId) {
+        if (bufferOrDrain(userId, sessionWriteBuffer.offerRevokeAll(userId))) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            userSessionRepository.deleteAllByUserId(userId);
+            userRepository.clearRefreshToken(userId);
+        });
+    }
+
+    // 버퍼가 받지 않았으면 직접 저장하기 전에 같은 사용자의 쓰기를 반영해, 앞서 들어간 쓰기보다 먼저 반영되지 않도록 함
+    private boolean bufferOrDrain(String userId, boolean buffered) {
+        if (!buffered && sessionWriteBuffer.isEnabled()) {
+            sessionWriteBuffer.awaitVisible(userId);
+        }
+        return buffered;
+    }
+
+    private void insertSession(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt) {
+        userSessionRepository.save(UserSessionEntity.builder()
+                .sessionId(sessionId)
+                .userId(userId)
+                .tokenHash(tokenHash)
+                .expiresAt(expiresAt)
+                .build());
+        userSessionRepository.flush();
+
+        evictOldestSessions(userId, sessionId);
+    }
+
+    // 방금 만든 세션은 생성 시각이 같은 세션이 있어도 제거 대상에서 제외
+    private void evictOldestSessions(String userId, String newSessionId) {
+        int maxOthers = Math.max(1, authProperties.getSession().getMaxPerUser()) - 1;
+        List<String> others = userSessionRepository.findSessionIdsNewestFirst(userId).stream()
+                .filter(id -> !id.equals(newSessionId))
+                .toList();
+        if (others.size() <= maxOthers) {
+            return;
+        }
+        List<String> evicted = others.subList(maxOthers, others.size());
+        userSessionRepository.deleteAllBySessionIdIn(evicted);
+        log.info("최대 세션 수 초과로 오래된 세션 제거: userId={}, evicted={}", userId, evicted.size());
+    }
+}
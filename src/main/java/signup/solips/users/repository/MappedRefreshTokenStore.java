@@ -0,0 +1,507 @@
+package signup.solips.users.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.security.TokenDigest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 매핑 파일 기반 리프레시 토큰 저장소 (app.auth.session.store=mapped)
+ *
+ * <p>세션 변경을 {@link SessionLog}에 기록하고, 토큰 다이제스트로 세션을 찾는 {@link DigestIndex}를 힙 밖에 둡니다.
+ * 토큰 회전과 로그아웃이 DB 왕복 없이 메모리에서 끝나며, 재시작하면 로그를 다시 읽어 세션을 복원합니다.
+ * 힙에는 사용자별 세션 목록(세션 ID, 현재 다이제스트)만 둡니다.
+ *
+ * <p>로그 기록: 세션 생성, 토큰 회전, 세션 폐기, 사용자의 모든 세션 폐기.
+ * 사용자당 최대 세션 수 초과분 제거는 기록하지 않고 생성 기록을 다시 읽을 때 같은 규칙으로 재현합니다.
+ *
+ * <p>압축: 로그가 가득 차거나 app.auth.session.mapped.compaction-interval 마다 폐기/만료된 기록이 있으면
+ * 살아 있는 세션만 새 파일에 쓰고 디스크에 반영한 뒤 원자적 이름 변경으로 교체합니다.
+ * 도중에 죽으면 기존 로그가 그대로 남고, 남은 임시 파일은 다음 시작 때 지웁니다.
+ *
+ * <p>users 테이블의 레거시 토큰은 다루지 않으므로, 이전이 끝난 뒤(legacy-lookup-enabled=false) 사용하는 것을 전제로 합니다.
+ * 여러 인스턴스가 세션을 공유해야 하면 jpa 저장소를 사용해야 합니다.
+ *
+ * <p>지표: auth.session.store.sessions, auth.session.store.log.bytes, auth.session.store.compactions
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "app.auth.session", name = "store", havingValue = "mapped")
+public class MappedRefreshTokenStore implements RefreshTokenStore, DisposableBean, MeterBinder {
+
+    static final String LOG_FILE = "sessions.log";
+    private static final String COMPACT_FILE = "sessions.log.compact";
+
+    private static final byte CREATE = 1;
+    private static final byte ROTATE = 2;
+    private static final byte REVOKE = 3;
+    private static final byte REVOKE_ALL = 4;
+
+    private final Path directory;
+    private final long logSize;
+    private final int initialIndexCapacity;
+    private final int maxPerUser;
+    private final Clock clock;
+    private final ZoneId zone = ZoneId.systemDefault();
+    // synchronized 는 디스크 동기화(force) 동안 기다리는 가상 스레드의 캐리어 스레드를 붙잡으므로 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private SessionLog sessionLog;
+    private DigestIndex index;
+    private Map<String, List<Session>> sessionsByUser;
+    // 압축하면 사라질 기록 수 (회전, 폐기, 최대 세션 수 초과로 제거된 생성)
+    private long garbage;
+    private boolean dirty;
+    private final AtomicLong compactions = new AtomicLong();
+
+    @Autowired
+    public MappedRefreshTokenStore(AuthProperties authProperties) throws IOException {
+        this(authProperties.getSession(), Clock.systemUTC());
+    }
+
+    MappedRefreshTokenStore(AuthProperties.Session session, Clock clock) throws IOException {
+        AuthProperties.Mapped mapped = session.getMapped();
+        this.directory = mapped.getDirectory();
+        this.logSize = Math.max(SessionLog.HEADER_SIZE * 64L, mapped.getLogSize().toBytes());
+        this.initialIndexCapacity = mapped.getInitialIndexCapacity();
+        this.maxPerUser = Math.max(1, session.getMaxPerUser());
+        this.clock = clock;
+        load();
+        log.info("세션 저장소 열기: path={}, sessions={}, logBytes={}",
+                sessionLog.path(), index.size(), sessionLog.position());
+    }
+
+    @Override
+    public void create(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt) {
+        lock.lock();
+        try {
+            TokenDigest digest = TokenDigest.fromHex(tokenHash);
+            long expiresAtMillis = toMillis(expiresAt);
+            long createdAtMillis = clock.millis();
+            int offset = append(CREATE, createBody(sessionId, userId, digest, expiresAtMillis, createdAtMillis));
+            applyCreate(offset, sessionId, userId, digest, expiresAtMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean rotate(String userId, String sessionId, String tokenHash,
+                          String newTokenHash, LocalDateTime newExpiresAt) {
+        lock.lock();
+        try {
+            TokenDigest digest = TokenDigest.fromHex(tokenHash);
+            int slot = index.find(digest);
+            if (slot < 0 || index.expiresAtMillis(slot) <= clock.millis()
+                    || !sessionId.equals(readCreate(index.recordOffset(slot)).sessionId())) {
+                return false;
+            }
+            TokenDigest newDigest = TokenDigest.fromHex(newTokenHash);
+            long expiresAtMillis = toMillis(newExpiresAt);
+            append(ROTATE, ByteBuffer.allocate(72).put(digestBytes(digest)).put(digestBytes(newDigest))
+                    .putLong(expiresAtMillis).flip());
+            return applyRotate(digest, newDigest, expiresAtMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * users 테이블의 레거시 토큰은 이 저장소에서 다루지 않습니다.
+     */
+    @Override
+    public boolean claimLegacy(String userId, String refreshToken, String tokenHash,
+                               String sessionId, String newTokenHash, LocalDateTime newExpiresAt) {
+        return false;
+    }
+
+    @Override
+    public void revoke(String userId, String sessionId) {
+        lock.lock();
+        try {
+            for (Session session : sessionsByUser.getOrDefault(userId, List.of())) {
+                if (session.sessionId.equals(sessionId)) {
+                    revokeDigest(session.digest);
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean revokeByToken(String userId, String tokenHash) {
+        lock.lock();
+        try {
+            TokenDigest digest = TokenDigest.fromHex(tokenHash);
+            if (index.find(digest) < 0) {
+                return false;
+            }
+            revokeDigest(digest);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void revokeAll(String userId) {
+        lock.lock();
+        try {
+            if (!sessionsByUser.containsKey(userId)) {
+                return;
+            }
+            append(REVOKE_ALL, stringBody(userId));
+            applyRevokeAll(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후의 기록을 디스크에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.session.mapped.sync-interval:PT1S}")
+    public void sync() {
+        lock.lock();
+        try {
+            if (dirty && sessionLog != null) {
+                sessionLog.force();
+                dirty = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 폐기되었거나 만료된 기록이 있으면 로그를 압축합니다.
+     */
+    @Scheduled(initialDelayString = "${app.auth.session.mapped.compaction-interval:PT10M}",
+            fixedDelayString = "${app.auth.session.mapped.compaction-interval:PT10M}")
+    public void compactIfNeeded() {
+        lock.lock();
+        try {
+            if (garbage > 0 || hasExpiredSessions()) {
+                compact(0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int logBytes() {
+        lock.lock();
+        try {
+            return sessionLog.position();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.session.store.sessions", this, MappedRefreshTokenStore::size)
+                .description("저장된 세션 수")
+                .register(registry);
+        Gauge.builder("auth.session.store.log.bytes", this, MappedRefreshTokenStore::logBytes)
+                .description("세션 로그 사용량")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("auth.session.store.compactions", compactions, AtomicLong::get)
+                .description("세션 로그 압축 횟수")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        lock.lock();
+        try {
+            if (sessionLog != null) {
+                sessionLog.close();
+                sessionLog = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        Files.createDirectories(directory);
+        // 압축 도중 중단된 파일은 교체되지 않았으므로 버림
+        Files.deleteIfExists(directory.resolve(COMPACT_FILE));
+        sessionLog = SessionLog.open(directory.resolve(LOG_FILE), logSize);
+        index = new DigestIndex(initialIndexCapacity);
+        sessionsByUser = new HashMap<>();
+        garbage = 0;
+        if (sessionLog.replay(this::applyRecord)) {
+            log.warn("세션 로그의 온전한 기록 뒤에 남은 바이트를 지움: path={}, validBytes={}",
+                    sessionLog.path(), sessionLog.position());
+        }
+    }
+
+    private int append(byte type, ByteBuffer body) {
+        int offset = sessionLog.append(type, body.duplicate());
+        if (offset < 0) {
+            compact(body.remaining());
+            offset = sessionLog.append(type, body.duplicate());
+            if (offset < 0) {
+                throw new IllegalStateException("세션 로그에 기록할 공간이 없습니다");
+            }
+        }
+        dirty = true;
+        return offset;
+    }
+
+    private void revokeDigest(TokenDigest digest) {
+        append(REVOKE, ByteBuffer.wrap(digestBytes(digest)));
+        applyRevoke(digest);
+    }
+
+    /**
+     * 살아 있는 세션만 새 로그에 옮겨 쓰고 교체합니다. 살아 있는 세션이 로그 크기의 절반을 넘으면 크기를 두 배로 늘립니다.
+     */
+    private void compact(int reserve) {
+        long startedAt = System.nanoTime();
+        long now = clock.millis();
+        List<ByteBuffer> live = new ArrayList<>();
+        long liveBytes = 0;
+        for (Map.Entry<String, List<Session>> entry : sessionsByUser.entrySet()) {
+            for (Session session : entry.getValue()) {
+                int slot = index.find(session.digest);
+                if (index.expiresAtMillis(slot) <= now) {
+                    continue;
+                }
+                CreateRecord created = readCreate(index.recordOffset(slot));
+                ByteBuffer body = createBody(session.sessionId, entry.getKey(), session.digest,
+                        index.expiresAtMillis(slot), created.createdAtMillis());
+                live.add(body);
+                liveBytes += body.remaining() + 9;
+            }
+        }
+        long size = Math.max(logSize, sessionLog.capacity());
+        while ((SessionLog.HEADER_SIZE + liveBytes + reserve + 9) * 2 > size) {
+            size *= 2;
+        }
+
+        Path target = directory.resolve(COMPACT_FILE);
+        try {
+            Files.deleteIfExists(target);
+            try (SessionLog compacted = SessionLog.open(target, size)) {
+                for (ByteBuffer body : live) {
+                    compacted.append(CREATE, body);
+                }
+            }
+            Files.move(target, directory.resolve(LOG_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+            sessionLog.close();
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 로그 압축 실패: " + directory, e);
+        }
+        dirty = false;
+        compactions.incrementAndGet();
+        log.info("세션 로그 압축: sessions={}, logBytes={}, capacity={}, elapsedMs={}",
+                index.size(), sessionLog.position(), sessionLog.capacity(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 이름 변경이 정전 후에도 남도록 디렉터리를 동기화 (지원하지 않는 플랫폼은 무시)
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("세션 디렉터리 동기화 생략: {}", e.getMessage());
+        }
+    }
+
+    private boolean hasExpiredSessions() {
+        long now = clock.millis();
+        for (List<Session> sessions : sessionsByUser.values()) {
+            for (Session session : sessions) {
+                if (index.expiresAtMillis(index.find(session.digest)) <= now) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void applyRecord(int offset, byte type, ByteBuffer body) {
+        switch (type) {
+            case CREATE -> {
+                CreateRecord created = CreateRecord.read(body);
+                applyCreate(offset, created.sessionId(), created.userId(), created.digest(), created.expiresAtMillis());
+            }
+            case ROTATE -> {
+                TokenDigest digest = readDigest(body);
+                TokenDigest newDigest = readDigest(body);
+                applyRotate(digest, newDigest, body.getLong());
+            }
+            case REVOKE -> applyRevoke(readDigest(body));
+            case REVOKE_ALL -> applyRevokeAll(readString(body));
+            default -> log.warn("알 수 없는 세션 로그 기록 무시: offset={}, type={}", offset, type);
+        }
+    }
+
+    private void applyCreate(int offset, String sessionId, String userId, TokenDigest digest, long expiresAtMillis) {
+        if (index.find(digest) >= 0) {
+            applyRevoke(digest);
+        }
+        index.put(digest, offset, expiresAtMillis);
+        List<Session> sessions = sessionsByUser.computeIfAbsent(userId, key -> new ArrayList<>(2));
+        sessions.add(new Session(sessionId, digest));
+        while (sessions.size() > maxPerUser) {
+            Session oldest = sessions.remove(0);
+            index.remove(index.find(oldest.digest));
+            garbage++;
+        }
+    }
+
+    private boolean applyRotate(TokenDigest digest, TokenDigest newDigest, long expiresAtMillis) {
+        int slot = index.find(digest);
+        if (slot < 0) {
+            return false;
+        }
+        int offset = index.recordOffset(slot);
+        index.remove(slot);
+        index.put(newDigest, offset, expiresAtMillis);
+        for (Session session : sessionsByUser.getOrDefault(readCreate(offset).userId(), List.of())) {
+            if (session.digest.equals(digest)) {
+                session.digest = newDigest;
+            }
+        }
+        garbage++;
+        return true;
+    }
+
+    private void applyRevoke(TokenDigest digest) {
+        int slot = index.find(digest);
+        if (slot < 0) {
+            return;
+        }
+        String userId = readCreate(index.recordOffset(slot)).userId();
+        index.remove(slot);
+        List<Session> sessions = sessionsByUser.get(userId);
+        if (sessions != null) {
+            sessions.removeIf(session -> session.digest.equals(digest));
+            if (sessions.isEmpty()) {
+                sessionsByUser.remove(userId);
+            }
+        }
+        garbage++;
+    }
+
+    private void applyRevokeAll(String userId) {
+        List<Session> sessions = sessionsByUser.remove(userId);
+        if (sessions == null) {
+            return;
+        }
+        for (Session session : sessions) {
+            index.remove(index.find(session.digest));
+        }
+        garbage += sessions.size();
+    }
+
+    private CreateRecord readCreate(int offset) {
+        return CreateRecord.read(sessionLog.body(offset));
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private static ByteBuffer createBody(String sessionId, String userId, TokenDigest digest,
+                                         long expiresAtMillis, long createdAtMillis) {
+        byte[] session = sessionId.getBytes(StandardCharsets.UTF_8);
+        byte[] user = userId.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(4 + session.length + user.length + 32 + 16)
+                .putShort((short) session.length).put(session)
+                .putShort((short) user.length).put(user)
+                .put(digestBytes(digest))
+                .putLong(expiresAtMillis)
+                .putLong(createdAtMillis)
+                .flip();
+    }
+
+    private static ByteBuffer stringBody(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(2 + bytes.length).putShort((short) bytes.length).put(bytes).flip();
+    }
+
+    private static byte[] digestBytes(TokenDigest digest) {
+        return digest.toBytes();
+    }
+
+    private static TokenDigest readDigest(ByteBuffer body) {
+        return new TokenDigest(body.getLong(), body.getLong(), body.getLong(), body.getLong());
+    }
+
+    private static String readString(ByteBuffer body) {
+        byte[] bytes = new byte[Short.toUnsignedInt(body.getShort())];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 세션 생성 기록. 세션 ID, 사용자, 생성 시각은 회전해도 바뀌지 않으므로 색인은 이 기록의 위치를 가리킵니다.
+     */
+    private record CreateRecord(String sessionId, String userId, TokenDigest digest,
+                                long expiresAtMillis, long createdAtMillis) {
+        static CreateRecord read(ByteBuffer body) {
+            return new CreateRecord(readString(body), readString(body), readDigest(body), body.getLong(), body.getLong());
+        }
+    }
+
+    private static final class Session {
+        private final String sessionId;
+        private TokenDigest digest;
+
+        private Session(String sessionId, TokenDigest digest) {
+            this.sessionId = sessionId;
+            this.digest = digest;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package signup.solips.users.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 세션 저장소 SPI
+ *
+ * <p>기기(로그인)별 세션의 현재 리프레시 토큰 다이제스트와 만료 시간을 보관합니다.
+ * app.auth.session.store 설정으로 구현체를 고릅니다.
+ * <ul>
+ *   <li>jpa - user_sessions 테이블 ({@link JpaRefreshTokenStore}, 기본값)</li>
+ *   <li>mapped - 메모리 매핑 파일 ({@link MappedRefreshTokenStore}), DB 없이 재시작 후에도 세션 유지</li>
+ * </ul>
+ *
+ * <p>모든 구현체는 같은 동작을 보장해야 하며, 테스트의 RefreshTokenStoreContract 로 검증합니다.
+ * <ul>
+ *   <li>세션을 만들 때 사용자의 세션 수가 app.auth.session.max-per-user 를 넘으면 가장 오래된 세션부터 제거</li>
+ *   <li>회전은 제시된 다이제스트가 세션의 현재 값이고 만료 전일 때만 성공</li>
+ *   <li>메서드가 반환한 뒤의 호출은 그 결과를 봄 (지연 반영하는 구현체도 마찬가지)</li>
+ * </ul>
+ *
+ * 메서드:
+ * <ul>
+ *   <li>create - 세션 생성</li>
+ *   <li>rotate - 리프레시 토큰 회전</li>
+ *   <li>claimLegacy - users 테이블에 남은 기존 토큰을 세션으로 이전</li>
+ *   <li>revoke - 세션 하나 폐기</li>
+ *   <li>revokeByToken - 리프레시 토큰 다이제스트로 세션 폐기</li>
+ *   <li>revokeAll - 사용자의 모든 세션 폐기</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+public interface RefreshTokenStore {
+    // 세션 생성
+    void create(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt);
+
+    // 토큰 회전
+    boolean rotate(String userId, String sessionId, String tokenHash, String newTokenHash, LocalDateTime newExpiresAt);
+
+    // 레거시 토큰 이전 (지원하지 않는 저장소는 false)
+    boolean claimLegacy(String userId, String refreshToken, String tokenHash,
+                        String sessionId, String newTokenHash, LocalDateTime newExpiresAt);
+
+    // 세션 하나 폐기
+    void revoke(String userId, String sessionId);
+
+    // 토큰으로 세션 폐기
+    boolean revokeByToken(String userId, String tokenHash);
+
+    // 모든 세션 폐기
+    void revokeAll(String userId);
+}
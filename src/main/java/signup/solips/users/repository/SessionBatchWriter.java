@@ -0,0 +1,108 @@
+package signup.solips.users.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 세션 쓰기 일괄 반영기
+ *
+ * <p>{@link SessionWriteBuffer}가 모은 세션 쓰기를 한 트랜잭션에서 JDBC 배치로 반영합니다.
+ * 순서는 다음과 같으며, 같은 사용자의 "모든 기기 로그아웃"은 그 뒤에 버퍼에 들어온 로그인보다 먼저 적용됩니다.
+ * <ol>
+ *   <li>모든 기기 로그아웃 사용자의 세션과 users 테이블의 레거시 토큰 삭제 (배치 DELETE/UPDATE)</li>
+ *   <li>새 세션 저장 (배치 INSERT)</li>
+ *   <li>세션을 만든 사용자들의 세션을 한 번에 조회해 app.auth.session.max-per-user 초과분 삭제</li>
+ * </ol>
+ *
+ * <p>반영은 호출한 스레드의 트랜잭션에 참여하지 않고 항상 별도 트랜잭션으로 커밋됩니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "app.auth.session", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class SessionBatchWriter {
+
+    private static final String DELETE_USER_SESSIONS = "DELETE FROM user_sessions WHERE user_id = ?";
+    private static final String CLEAR_LEGACY_TOKEN = "UPDATE users SET refresh_token = NULL, refresh_token_hash = NULL, " +
+            "refresh_token_family = NULL, refresh_token_expires_at = NULL WHERE user_id = ?";
+    private static final String INSERT_SESSION = "INSERT INTO user_sessions " +
+            "(session_id, user_id, token_hash, expires_at, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_SESSION_IDS = "SELECT user_id, session_id FROM user_sessions " +
+            "WHERE user_id IN (:userIds) ORDER BY user_id, created_at DESC";
+    private static final String DELETE_SESSION = "DELETE FROM user_sessions WHERE session_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SessionBatchWriter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 버퍼에 들어온 새 세션
+     */
+    public record PendingSession(
+            String sessionId,
+            String userId,
+            String tokenHash,
+            LocalDateTime expiresAt,
+            LocalDateTime createdAt
+    ) {}
+
+    /**
+     * @param revokeAllUserIds 모든 세션을 삭제할 사용자
+     * @param sessions 저장할 새 세션
+     * @param maxPerUser 사용자당 최대 세션 수
+     */
+    public void write(Set<String> revokeAllUserIds, List<PendingSession> sessions, int maxPerUser) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!revokeAllUserIds.isEmpty()) {
+                List<Object[]> userIds = revokeAllUserIds.stream().map(userId -> new Object[]{userId}).toList();
+                jdbcTemplate.batchUpdate(DELETE_USER_SESSIONS, userIds);
+                jdbcTemplate.batchUpdate(CLEAR_LEGACY_TOKEN, userIds);
+            }
+            if (!sessions.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SESSION, sessions.stream()
+                        .map(s -> new Object[]{s.sessionId(), s.userId(), s.tokenHash(),
+                                Timestamp.valueOf(s.expiresAt()), Timestamp.valueOf(s.createdAt())})
+                        .toList());
+                evictOldestSessions(sessions.stream().map(PendingSession::userId).distinct().toList(), maxPerUser);
+            }
+        });
+    }
+
+    private void evictOldestSessions(Collection<String> userIds, int maxPerUser) {
+        Map<String, Integer> seen = new HashMap<>();
+        List<Object[]> evicted = new ArrayList<>();
+        namedParameterJdbcTemplate.query(SELECT_SESSION_IDS, Map.of("userIds", userIds), rs -> {
+            if (seen.merge(rs.getString(1), 1, Integer::sum) > maxPerUser) {
+                evicted.add(new Object[]{rs.getString(2)});
+            }
+        });
+        if (!evicted.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SESSION, evicted);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package signup.solips.users.repository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 세션 저장소의 추가 전용(append-only) 로그 파일
+ *
+ * <p>파일 전체를 메모리에 매핑해 두고 기록을 뒤에 이어 씁니다. 힙 대신 페이지 캐시에 있으므로 세션 수가 늘어도 GC 부담이 없습니다.
+ *
+ * <p>형식: 16바이트 헤더(magic, version) 뒤에 기록이 이어지며, 기록은 [길이 4][CRC32C 4][종류 1][본문] 입니다.
+ * <ul>
+ *   <li>본문과 CRC를 먼저 쓰고 길이를 마지막에 써서, 길이가 0 인 곳을 로그의 끝으로 봄</li>
+ *   <li>열 때 길이가 0 이거나 CRC가 맞지 않는 기록에서 읽기를 멈추고, 그 뒤에 남은 바이트가 있으면 0으로 지워
+ *       새로 쓴 기록 뒤에서 옛 기록이 되살아나지 않도록 함 (정전 시 길이만 디스크에 남지 않고 뒤쪽 페이지는 기록될 수 있음)</li>
+ *   <li>{@link #force()} 전에는 운영체제 페이지 캐시에만 있으므로 프로세스가 죽어도 남지만 정전에는 잃을 수 있음</li>
+ * </ul>
+ *
+ * <p>스레드 안전하지 않으며, 호출자가 동기화합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+final class SessionLog implements Closeable {
+
+    static final int HEADER_SIZE = 16;
+    private static final int MAGIC = 0x534C4F47;
+    private static final int VERSION = 1;
+    private static final int FRAME_SIZE = 8;
+
+    /**
+     * 로그를 처음부터 읽을 때 기록마다 호출됩니다.
+     */
+    @FunctionalInterface
+    interface Visitor {
+        void visit(int offset, byte type, ByteBuffer body);
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private int position = HEADER_SIZE;
+
+    private SessionLog(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * 로그 파일을 열거나 만듭니다. 파일이 size 보다 작으면 늘립니다.
+     *
+     * @throws IOException 다른 형식의 파일이거나 2GB 를 넘는 경우
+     */
+    static SessionLog open(Path path, long size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean fresh = channel.size() < HEADER_SIZE;
+            long mappedSize = Math.max(channel.size(), size);
+            if (mappedSize > Integer.MAX_VALUE) {
+                throw new IOException("세션 로그는 2GB 를 넘을 수 없습니다: " + mappedSize);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+            if (fresh) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("세션 로그 형식이 아닙니다: " + path);
+            }
+            return new SessionLog(path, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 기록을 처음부터 차례로 읽고, 다음 기록을 쓸 위치를 마지막 온전한 기록 뒤로 맞춥니다.
+     *
+     * @return 읽기를 멈춘 위치 뒤에 남은 기록(쓰다 만 기록이나 옛 기록)을 발견해 지웠으면 true
+     */
+    boolean replay(Visitor visitor) {
+        int offset = HEADER_SIZE;
+        while (offset + FRAME_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + FRAME_SIZE + length > buffer.capacity()
+                    || checksum(offset + FRAME_SIZE, length) != buffer.getInt(offset + 4)) {
+                break;
+            }
+            visitor.visit(offset, buffer.get(offset + FRAME_SIZE), buffer.slice(offset + FRAME_SIZE + 1, length - 1));
+            offset += FRAME_SIZE + length;
+        }
+        position = offset;
+        int end = lastNonZero(offset) + 1;
+        for (int i = offset; i < end; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        return end > offset;
+    }
+
+    /**
+     * 기록을 추가합니다.
+     *
+     * @return 기록 위치, 남은 공간이 부족하면 -1
+     */
+    int append(byte type, ByteBuffer body) {
+        int length = 1 + body.remaining();
+        if ((long) position + FRAME_SIZE + length > buffer.capacity()) {
+            return -1;
+        }
+        int offset = position;
+        buffer.put(offset + FRAME_SIZE, type);
+        buffer.put(offset + FRAME_SIZE + 1, body, body.position(), body.remaining());
+        buffer.putInt(offset + 4, checksum(offset + FRAME_SIZE, length));
+        buffer.putInt(offset, length);
+        position = offset + FRAME_SIZE + length;
+        return offset;
+    }
+
+    /**
+     * {@link #append}가 돌려준 위치의 기록 본문을 읽습니다.
+     */
+    ByteBuffer body(int offset) {
+        return buffer.slice(offset + FRAME_SIZE + 1, buffer.getInt(offset) - 1);
+    }
+
+    byte type(int offset) {
+        return buffer.get(offset + FRAME_SIZE);
+    }
+
+    int position() {
+        return position;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    // 정상 종료한 로그는 끝까지 0 이므로 쓰지 않고 읽기만 함
+    private int lastNonZero(int from) {
+        for (int i = buffer.capacity() - 1; i >= from; i--) {
+            if (buffer.get(i) != 0) {
+                return i;
+            }
+        }
+        return from - 1;
+    }
+
+    private int checksum(int offset, int length) {
+        crc.reset();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,345 @@
+package signup.solips.users.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.metrics.AuthMetrics;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 세션 쓰기 지연 반영(write-behind) 버퍼
+ *
+ * <p>app.auth.session.write-behind.enabled 가 true 이면 로그인(세션 생성)과 모든 기기 로그아웃을 바로 커밋하지 않고
+ * 사용자별로 모았다가 flush-interval 마다, 또는 batch-size 건이 쌓이면 {@link SessionBatchWriter}로 한 번에 반영합니다.
+ * 수업 시작처럼 로그인이 몰리는 시간에 건별 커밋 대신 배치 커밋 몇 번으로 줄이기 위한 선택 기능이며,
+ * {@link JpaRefreshTokenStore}에서만 사용합니다.
+ *
+ * <p>같은 사용자의 쓰기는 합쳐집니다. 모든 기기 로그아웃은 그 전에 버퍼에 들어온 새 세션을 지우고 DELETE 하나로 남습니다.
+ *
+ * <p>반영 전 값이 보이지 않도록:
+ * <ul>
+ *   <li>토큰 회전, 세션 폐기 등 세션을 읽거나 고치는 경로는 {@link #awaitVisible}로 해당 사용자의 쓰기가 커밋될 때까지 기다림</li>
+ *   <li>버퍼가 max-pending 건으로 가득 차면 쓰기를 받지 않으며, 호출자는 버퍼를 비운 뒤 직접 저장</li>
+ *   <li>반영 중 일시적인 DB 오류(커넥션/트랜잭션을 얻지 못한 경우 포함)가 나면 버퍼에 되돌려 다음에 다시 시도하며,
+ *       반영을 기다리던 해당 사용자의 요청만 503(COMMON-004)으로 실패</li>
+ *   <li>여러 사용자의 배치가 제약 조건 위반으로 실패하면 사용자별로 다시 반영해 위반한 사용자의 쓰기만 버림</li>
+ *   <li>종료 시 남은 쓰기를 모두 반영</li>
+ * </ul>
+ *
+ * <p>지표: auth.session.buffer.depth, auth.session.buffer.writes{op}, auth.session.buffer.overflows,
+ * auth.session.buffer.failures, 반영 지연은 auth.db.query{query=flush_sessions}
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "app.auth.session", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class SessionWriteBuffer implements DisposableBean, MeterBinder {
+
+    private final SessionBatchWriter writer;
+    private final AuthMetrics authMetrics;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPending;
+    private final int maxPerUser;
+    private final ScheduledExecutorService executor;
+
+    private final ConcurrentHashMap<String, PendingWrites> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 버퍼에서 꺼냈지만 아직 커밋되지 않은 사용자
+    private volatile Set<String> inFlight = Set.of();
+
+    private final LongAdder createdSessions = new LongAdder();
+    private final LongAdder revokedUsers = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @Autowired
+    public SessionWriteBuffer(SessionBatchWriter writer, AuthMetrics authMetrics, AuthProperties authProperties) {
+        this(writer, authMetrics, authProperties.getSession(), true);
+    }
+
+    SessionWriteBuffer(SessionBatchWriter writer, AuthMetrics authMetrics, AuthProperties.Session session,
+                       boolean scheduleFlushes) {
+        AuthProperties.WriteBehind writeBehind = session.getWriteBehind();
+        this.writer = writer;
+        this.authMetrics = authMetrics;
+        this.enabled = writeBehind.isEnabled();
+        this.batchSize = Math.max(1, writeBehind.getBatchSize());
+        this.maxPending = Math.max(batchSize, writeBehind.getMaxPending());
+        this.maxPerUser = Math.max(1, session.getMaxPerUser());
+
+        if (enabled && scheduleFlushes) {
+            long interval = Math.max(1, writeBehind.getFlushInterval().toMillis());
+            this.executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("session-flush-"));
+            executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+            log.info("세션 쓰기 지연 반영 사용: flushInterval={}ms, batchSize={}, maxPending={}", interval, batchSize, maxPending);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새 세션을 버퍼에 넣습니다.
+     *
+     * @return 버퍼가 가득 찼거나 비활성화되어 받지 않았으면 false
+     */
+    public boolean offerCreate(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt) {
+        SessionBatchWriter.PendingSession session = new SessionBatchWriter.PendingSession(
+                sessionId, userId, tokenHash, expiresAt, LocalDateTime.now());
+        return offer(userId, writes -> writes.sessions.put(sessionId, session));
+    }
+
+    /**
+     * 사용자의 모든 세션 삭제를 버퍼에 넣습니다. 아직 반영되지 않은 새 세션은 버립니다.
+     *
+     * @return 버퍼가 가득 찼거나 비활성화되어 받지 않았으면 false
+     */
+    public boolean offerRevokeAll(String userId) {
+        return offer(userId, writes -> {
+            writes.sessions.clear();
+            writes.revokeAll = true;
+        });
+    }
+
+    /**
+     * 사용자의 쓰기가 버퍼에 남아 있거나 반영 중이면 커밋될 때까지 버퍼를 비웁니다.
+     * 세션을 읽거나 고치기 전에 호출해 반영 전 상태를 보지 않도록 합니다.
+     *
+     * @throws CustomException 일시적인 DB 오류로 이 사용자의 쓰기를 반영하지 못한 경우 ({@link ErrorCode#SERVER_BUSY})
+     */
+    public void awaitVisible(String userId) {
+        if ((pending.containsKey(userId) || inFlight.contains(userId)) && drain().contains(userId)) {
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    /**
+     * 버퍼의 쓰기를 모두 반영합니다. 다른 스레드가 반영 중이면 끝날 때까지 기다린 뒤 남은 쓰기를 반영합니다.
+     * 반영 실패는 기록만 하고 호출자에게 던지지 않습니다.
+     */
+    public void flush() {
+        drain();
+    }
+
+    public int getDepth() {
+        return depth.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.session.buffer.depth", depth, AtomicInteger::get)
+                .description("반영 대기 중인 세션 쓰기 수")
+                .register(registry);
+        FunctionCounter.builder("auth.session.buffer.writes", createdSessions, LongAdder::sum)
+                .description("일괄 반영된 세션 쓰기 수")
+                .tag("op", "create")
+                .register(registry);
+        FunctionCounter.builder("auth.session.buffer.writes", revokedUsers, LongAdder::sum)
+                .description("일괄 반영된 세션 쓰기 수")
+                .tag("op", "revoke_all")
+                .register(registry);
+        FunctionCounter.builder("auth.session.buffer.overflows", overflows, LongAdder::sum)
+                .description("버퍼가 가득 차 직접 저장한 쓰기 수")
+                .register(registry);
+        FunctionCounter.builder("auth.session.buffer.failures", failures, LongAdder::sum)
+                .description("일괄 반영 실패 수")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        flush();
+        if (depth.get() > 0) {
+            log.error("종료 중 세션 쓰기를 반영하지 못함: pending={}", depth.get());
+        }
+    }
+
+    private boolean offer(String userId, Consumer<PendingWrites> change) {
+        if (!enabled) {
+            return false;
+        }
+        if (depth.get() >= maxPending) {
+            overflows.increment();
+            return false;
+        }
+        pending.compute(userId, (key, writes) -> {
+            PendingWrites target = writes != null ? writes : new PendingWrites();
+            int before = target.size();
+            change.accept(target);
+            depth.addAndGet(target.size() - before);
+            return target;
+        });
+        if (depth.get() >= batchSize && executor != null && flushRequested.compareAndSet(false, true)) {
+            executor.execute(this::flushQuietly);
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼를 비우고, 일시적인 오류로 버퍼에 되돌린 사용자를 반환합니다.
+     */
+    private Set<String> drain() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return Set.of();
+            }
+            // 꺼내기 전에 반영 중 표시를 해야 awaitVisible 이 그 사이의 사용자를 놓치지 않음
+            Set<String> userIds = new HashSet<>(pending.keySet());
+            inFlight = userIds;
+            Map<String, PendingWrites> drained = new LinkedHashMap<>();
+            for (String userId : userIds) {
+                PendingWrites writes = pending.remove(userId);
+                if (writes != null) {
+                    depth.addAndGet(-writes.size());
+                    drained.put(userId, writes);
+                }
+            }
+            return write(drained);
+        } finally {
+            inFlight = Set.of();
+            flushLock.unlock();
+        }
+    }
+
+    // 반영하지 못한 채 버퍼에 되돌린 사용자를 반환
+    private Set<String> write(Map<String, PendingWrites> drained) {
+        try {
+            writeBatch(drained);
+            return Set.of();
+        } catch (RuntimeException e) {
+            failures.increment();
+            if (isTransient(e)) {
+                drained.forEach(this::restore);
+                log.warn("세션 쓰기 반영 실패, 다음에 다시 시도: users={}, reason={}", drained.size(), e.getMessage());
+                return drained.keySet();
+            }
+            if (e instanceof DataIntegrityViolationException && drained.size() > 1) {
+                log.warn("세션 쓰기 일괄 반영 실패, 사용자별로 다시 반영: users={}, reason={}", drained.size(), e.getMessage());
+                Set<String> restored = new HashSet<>();
+                drained.forEach((userId, writes) -> restored.addAll(write(Map.of(userId, writes))));
+                return restored;
+            }
+            log.error("세션 쓰기 반영 실패, 버림: users={}", drained.keySet(), e);
+            return Set.of();
+        }
+    }
+
+    private void writeBatch(Map<String, PendingWrites> drained) {
+        Set<String> revokeAll = new HashSet<>();
+        List<SessionBatchWriter.PendingSession> sessions = new ArrayList<>();
+        drained.forEach((userId, writes) -> {
+            if (writes.revokeAll) {
+                revokeAll.add(userId);
+            }
+            sessions.addAll(writes.sessions.values());
+        });
+
+        long start = System.nanoTime();
+        try {
+            writer.write(revokeAll, sessions, maxPerUser);
+        } finally {
+            authMetrics.recordQuery(AuthMetrics.Query.FLUSH_SESSIONS, start);
+        }
+        createdSessions.add(sessions.size());
+        revokedUsers.add(revokeAll.size());
+    }
+
+    /**
+     * 반영하지 못한 쓰기를 그 뒤에 들어온 쓰기보다 앞에 오도록 되돌립니다.
+     */
+    private void restore(String userId, PendingWrites failed) {
+        pending.compute(userId, (key, newer) -> {
+            int before = newer != null ? newer.size() : 0;
+            PendingWrites merged = failed;
+            if (newer != null) {
+                if (newer.revokeAll) {
+                    merged = newer;
+                } else {
+                    merged.sessions.putAll(newer.sessions);
+                }
+            }
+            depth.addAndGet(merged.size() - before);
+            return merged;
+        });
+    }
+
+    private void flushQuietly() {
+        flushRequested.set(false);
+        flush();
+    }
+
+    // 커넥션을 얻지 못한 경우는 트랜잭션 시작 단계에서 CannotCreateTransactionException 으로 감싸여 올라옴
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 사용자의 반영 대기 중인 쓰기. {@link ConcurrentHashMap#compute} 안에서만 수정합니다.
+     */
+    private static final class PendingWrites {
+        private final Map<String, SessionBatchWriter.PendingSession> sessions = new LinkedHashMap<>();
+        private boolean revokeAll;
+
+        private int size() {
+            return sessions.size() + (revokeAll ? 1 : 0);
+        }
+    }
+}
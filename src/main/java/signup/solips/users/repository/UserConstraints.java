@@ -0,0 +1,82 @@
+package signup.solips.users.repository;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.ClassUtils;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.users.entity.UserEntity;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * users 테이블 유니크 제약 위반 해석
+ *
+ * <p>INSERT 시 발생한 {@link DataIntegrityViolationException}에서 위반된 제약 이름을 찾아
+ * {@link ErrorCode#DUPLICATE_EMAIL} 또는 {@link ErrorCode#DUPLICATE_USER_ID}로 변환합니다.
+ * DB마다 제약 이름에 테이블명이나 인덱스 접미사가 붙을 수 있으므로 포함 여부로 비교합니다.
+ * reactive 실행 파일에는 Hibernate 가 없으므로 그때는 드라이버 오류 메시지만 봅니다.
+ * 메시지에는 중복된 값도 들어 있으므로, 아는 형식(MySQL, H2)이면 제약 이름 부분만 잘라 비교합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+public final class UserConstraints {
+
+    // MySQL: Duplicate entry 'kim' for key 'users.uk_users_user_id'
+    private static final Pattern MYSQL_KEY = Pattern.compile("for key '([^']+)'");
+    // H2: Unique index or primary key violation: "PUBLIC.UK_USERS_USER_ID_INDEX_4 ON PUBLIC.USERS(USER_ID ...) VALUES ..."
+    private static final Pattern H2_INDEX = Pattern.compile("violation: \"([^\" ]+)");
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+            "org.hibernate.exception.ConstraintViolationException", UserConstraints.class.getClassLoader());
+
+    private UserConstraints() {
+    }
+
+    public static Optional<ErrorCode> duplicateErrorCode(DataIntegrityViolationException e) {
+        String violated = violatedConstraint(e).toLowerCase(Locale.ROOT);
+        if (violated.contains(UserEntity.UK_USER_ID)) {
+            return Optional.of(ErrorCode.DUPLICATE_USER_ID);
+        }
+        if (violated.contains(UserEntity.UK_EMAIL)) {
+            return Optional.of(ErrorCode.DUPLICATE_EMAIL);
+        }
+        return Optional.empty();
+    }
+
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        if (HIBERNATE_PRESENT) {
+            String constraintName = HibernateConstraints.constraintName(e);
+            if (constraintName != null) {
+                return constraintName;
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        if (message == null) {
+            return "";
+        }
+        for (Pattern pattern : new Pattern[]{MYSQL_KEY, H2_INDEX}) {
+            Matcher matcher = pattern.matcher(message);
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+        }
+        return message;
+    }
+
+    // Hibernate 타입은 이 클래스에서만 참조해, Hibernate 가 없을 때는 로드되지 않게 함
+    private static final class HibernateConstraints {
+
+        static String constraintName(DataIntegrityViolationException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                    return violation.getConstraintName();
+                }
+            }
+            return null;
+        }
+    }
+}
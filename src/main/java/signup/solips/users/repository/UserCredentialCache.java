@@ -0,0 +1,197 @@
+package signup.solips.users.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.global.util.BoundedMaps;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인용 사용자 정보 캐시 (read-through)
+ *
+ * <p>같은 학생이 짧은 시간에 여러 번 로그인해도 매번 users 를 조회하지 않도록, 아이디별 {@link UserCredentials}를
+ * app.auth.user-cache.ttl 동안 보관합니다. 항목 수는 app.auth.user-cache.max-entries 로 제한합니다.
+ *
+ * <p>오래된 비밀번호 해시를 쓰지 않도록 다음을 보장합니다.
+ * <ul>
+ *   <li>비밀번호 변경은 {@link #updatePassword}를 거치며, DB 반영 후 반환 전에 항목을 무효화</li>
+ *   <li>무효화는 항목을 지우는 대신 새 무효화 표식으로 교체하며, 조회한 값은 조회 시작 시점의 항목이
+ *       그대로일 때만 저장하므로, 변경 전 값을 읽은 조회가 무효화 이후에 캐시에 다시 넣지 못함</li>
+ *   <li>없는 아이디는 캐시하지 않으므로 가입 직후 로그인에 영향이 없음</li>
+ * </ul>
+ *
+ * <p>캐시는 인스턴스 메모리에 있으므로 다른 인스턴스에서의 변경은 TTL 이 지나야 반영됩니다.
+ *
+ * <p>지표: auth.user.cache.requests{result}, auth.user.cache.evictions, auth.user.cache.invalidations, auth.user.cache.size
+ *
+ * @author Jeongjunyun777
+ */
+
+@Component
+@Profile("!reactive")
+public class UserCredentialCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public UserCredentialCache(UserRepository userRepository, AuthMetrics authMetrics, AuthProperties authProperties) {
+        this(userRepository, authMetrics, authProperties.getUserCache(), Clock.systemUTC());
+    }
+
+    UserCredentialCache(UserRepository userRepository, AuthMetrics authMetrics,
+                        AuthProperties.UserCache properties, Clock clock) {
+        this.userRepository = userRepository;
+        this.authMetrics = authMetrics;
+        this.enabled = properties.isEnabled();
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.maxEntries = Math.max(1, properties.getMaxEntries());
+        this.clock = clock;
+    }
+
+    /**
+     * 아이디로 사용자 정보를 조회합니다. 캐시에 없거나 만료되었으면 DB에서 읽어 저장합니다.
+     *
+     * @param userId 사용자 아이디
+     * @return 사용자 정보, 없는 아이디면 empty
+     */
+    public Optional<UserCredentials> findByUserId(String userId) {
+        if (!enabled) {
+            return load(userId);
+        }
+        long now = clock.millis();
+        Entry before = entries.get(userId);
+        if (before != null && before.credentials != null && before.expiresAtMillis > now) {
+            hits.increment();
+            return Optional.of(before.credentials);
+        }
+        misses.increment();
+
+        Optional<UserCredentials> loaded = load(userId);
+        loaded.ifPresent(credentials -> install(userId, before, new Entry(credentials, now + ttlMillis)));
+        return loaded;
+    }
+
+    /**
+     * 저장된 해시가 그대로일 때만 비밀번호 해시를 교체하고 캐시 항목을 무효화합니다.
+     *
+     * @return 반영된 행 수
+     */
+    public int updatePassword(String userId, String currentPassword, String newPassword) {
+        try {
+            return userRepository.updatePassword(userId, currentPassword, newPassword);
+        } finally {
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * 사용자 항목을 무효화합니다. 진행 중인 조회가 무효화 이전 값을 저장하지 못하도록 무효화 표식을 남깁니다.
+     */
+    public void invalidate(String userId) {
+        if (!enabled) {
+            return;
+        }
+        entries.put(userId, new Entry(null, clock.millis() + ttlMillis));
+        invalidations.increment();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.user.cache.requests", hits, LongAdder::sum)
+                .description("사용자 정보 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.requests", misses, LongAdder::sum)
+                .description("사용자 정보 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.evictions", evictions, LongAdder::sum)
+                .description("사용자 정보 캐시 제거 수")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.invalidations", invalidations, LongAdder::sum)
+                .description("사용자 정보 캐시 무효화 수")
+                .register(registry);
+        Gauge.builder("auth.user.cache.size", entries, Map::size)
+                .description("사용자 정보 캐시 항목 수")
+                .register(registry);
+    }
+
+    private Optional<UserCredentials> load(String userId) {
+        long start = System.nanoTime();
+        Optional<UserCredentials> loaded = userRepository.findCredentialsByUserId(userId);
+        authMetrics.recordQuery(AuthMetrics.Query.FIND_USER_BY_USER_ID, start);
+        return loaded;
+    }
+
+    /**
+     * 조회를 시작할 때 본 항목(before)이 그대로일 때만 저장합니다.
+     * 항목 비교는 동일성 비교이므로, 그 사이 무효화되었다면 같은 내용이어도 저장하지 않습니다.
+     */
+    private void install(String userId, Entry before, Entry loaded) {
+        if (before == null) {
+            if (entries.size() >= maxEntries) {
+                evict(clock.millis());
+            }
+            entries.putIfAbsent(userId, loaded);
+        } else {
+            entries.replace(userId, before, loaded);
+        }
+    }
+
+    /**
+     * 만료된 항목을 먼저 제거하고, 그래도 용량을 넘으면 곧 만료될 항목부터 제거해 상한을 유지합니다.
+     * 만료 전 무효화 표식은 진행 중인 조회를 막아야 하므로 용량 때문에 제거하지 않습니다.
+     */
+    private void evict(long now) {
+        evictions.add(BoundedMaps.trim(entries, BoundedMaps.trimTarget(maxEntries),
+                entry -> entry.expiresAtMillis <= now, entry -> entry.credentials != null, entry -> entry.expiresAtMillis));
+    }
+
+    /**
+     * 캐시 항목. credentials 가 null 이면 무효화 표식입니다.
+     * equals 를 재정의하지 않으므로 {@link ConcurrentHashMap#replace(Object, Object, Object)}는 동일성으로 비교합니다.
+     */
+    private static final class Entry {
+        private final UserCredentials credentials;
+        private final long expiresAtMillis;
+
+        private Entry(UserCredentials credentials, long expiresAtMillis) {
+            this.credentials = credentials;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
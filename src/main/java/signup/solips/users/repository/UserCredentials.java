@@ -0,0 +1,25 @@
+package signup.solips.users.repository;
+
+/**
+ * 로그인 검증에 필요한 사용자 정보
+ *
+ * <p>{@link UserRepository#findCredentialsByUserId}가 생성자 표현식으로 필요한 컬럼만 읽어 만들며,
+ * {@link UserCredentialCache}에 보관됩니다. 리프레시 토큰 관련 컬럼은 포함하지 않습니다.
+ *
+ * 필드:
+ * <ul>
+ *   <li>id - 사용자 DB 식별자</li>
+ *   <li>userId - 사용자 아이디</li>
+ *   <li>email - 사용자 이메일</li>
+ *   <li>passwordHash - BCrypt 비밀번호 해시</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+public record UserCredentials(
+        Long id,
+        String userId,
+        String email,
+        String passwordHash
+) {}
@@ -0,0 +1,63 @@
+package signup.solips.users.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import signup.solips.users.entity.UserEntity;
+
+/**
+ * users.id 할당 테이블 초기화
+ *
+ * <p>UserEntity 의 ID 전략을 IDENTITY 에서 테이블 할당기로 바꾸면서, 기존 AUTO_INCREMENT 로 발급된 id와
+ * 겹치지 않도록 기동 시 {@value UserEntity#ID_TABLE} 의 다음 값을 max(users.id) 이후로 맞춥니다.
+ * 이미 더 큰 값이면 건드리지 않으므로 여러 인스턴스가 동시에 기동해도 안전합니다.
+ *
+ * <p>스키마 생성(ddl-auto) 이후에 실행되도록 entityManagerFactory 에 의존합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("!reactive")
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class UserIdSequenceInitializer {
+
+    private static final String TABLE = UserEntity.ID_TABLE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignWithExistingIds() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        // 할당 블록의 경계 해석과 무관하게 기존 id 이후에서 시작하도록 한 블록만큼 여유를 둡니다.
+        long floor = (maxId != null ? maxId : 0L) + UserEntity.ID_ALLOCATION_SIZE + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + TABLE + " SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                floor, UserEntity.ID_SEQUENCE_NAME, floor);
+        if (updated > 0) {
+            log.info("users id 할당 값 보정: next_val={}", floor);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " WHERE sequence_name = ?", Integer.class, UserEntity.ID_SEQUENCE_NAME);
+        if (rows == null || rows == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + TABLE + " (sequence_name, next_val) VALUES (?, ?)",
+                        UserEntity.ID_SEQUENCE_NAME, floor);
+                log.info("users id 할당 값 생성: next_val={}", floor);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 생성한 경우, 다음 기동 시 보정됩니다.
+                log.debug("users id 할당 행이 이미 생성됨");
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package signup.solips.users.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.security.TokenBloomFilter;
+import signup.solips.global.security.TokenDigest;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아이디/이메일 사용 여부 색인
+ *
+ * <p>users.user_id, users.email 을 Bloom 필터({@link TokenBloomFilter})로 보관하여,
+ * 중복 체크 요청 대부분("확실히 사용 가능")을 DB 조회 없이 응답할 수 있게 합니다.
+ * 필터가 "있을 수도 있음"이라고 답한 경우에만 호출 측에서 DB로 확인합니다.
+ *
+ * <p>동작:
+ * <ul>
+ *   <li>기동 완료 후 users 테이블 전체를 한 번 읽어 색인을 만들고, 그 전까지는 모든 조회를 DB로 확인</li>
+ *   <li>회원가입/일괄 가입 성공 시 {@link #add(String, String)}로 즉시 반영</li>
+ *   <li>app.auth.membership-index.rebuild-interval 마다 다시 만들어 용량을 늘리고,
+ *       다른 인스턴스의 가입이나 삭제된 사용자를 반영</li>
+ * </ul>
+ *
+ * <p>유니크 인덱스의 대소문자/악센트/뒤쪽 공백을 구분하지 않는 비교(MySQL 기본 collation)와 맞추기 위해
+ * 정규화한 값의 다이제스트를 기록합니다. 색인은 가입 화면의 안내용이며, 실제 중복은 가입 시 유니크 제약으로 판단합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("!reactive")
+public class UserMembershipIndex implements MeterBinder {
+
+    public enum Field { USER_ID, EMAIL }
+
+    private enum Result { ABSENT, PRESENT, FALSE_POSITIVE, NOT_READY }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthProperties.MembershipIndex properties;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Map<Field, Map<Result, LongAdder>> lookups = new EnumMap<>(Field.class);
+
+    // 기동 직후 색인을 만들기 전에는 null
+    private volatile Snapshot current;
+    // 재구성 중인 색인, 재구성 동안의 가입도 함께 기록
+    private volatile Snapshot building;
+
+    public UserMembershipIndex(JdbcTemplate jdbcTemplate, AuthProperties authProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = authProperties.getMembershipIndex();
+        for (Field field : Field.values()) {
+            Map<Result, LongAdder> byResult = new EnumMap<>(Result.class);
+            for (Result result : Result.values()) {
+                byResult.put(result, new LongAdder());
+            }
+            lookups.put(field, byResult);
+        }
+    }
+
+    /**
+     * 값이 이미 사용 중일 수 있는지 확인합니다.
+     *
+     * @return false 면 확실히 사용 중이 아님, true 면 DB 확인 필요
+     */
+    public boolean mightContain(Field field, String value) {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            lookups.get(field).get(Result.NOT_READY).increment();
+            return true;
+        }
+        if (!snapshot.filter(field).mightContain(digest(value))) {
+            lookups.get(field).get(Result.ABSENT).increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@link #mightContain}가 true 였던 값의 DB 확인 결과를 기록합니다 (오탐률 지표).
+     */
+    public void recordConfirmed(Field field, boolean present) {
+        lookups.get(field).get(present ? Result.PRESENT : Result.FALSE_POSITIVE).increment();
+    }
+
+    /**
+     * 가입에 성공한 사용자를 색인에 추가합니다.
+     */
+    public void add(String userId, String email) {
+        TokenDigest userIdDigest = digest(userId);
+        TokenDigest emailDigest = digest(email);
+        Snapshot snapshot = current;
+        while (true) {
+            if (snapshot != null) {
+                snapshot.add(userIdDigest, emailDigest);
+            }
+            Snapshot next = building;
+            if (next != null) {
+                next.add(userIdDigest, emailDigest);
+            }
+            // 재구성이 끝나 색인이 교체되었으면 새 색인에도 기록
+            Snapshot latest = current;
+            if (latest == snapshot) {
+                return;
+            }
+            snapshot = latest;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * users 테이블을 읽어 색인을 새로 만듭니다. 이미 재구성 중이면 건너뜁니다.
+     */
+    @Scheduled(initialDelayString = "${app.auth.membership-index.rebuild-interval:PT1H}",
+            fixedDelayString = "${app.auth.membership-index.rebuild-interval:PT1H}")
+    public void rebuild() {
+        if (!properties.isEnabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            // 다음 재구성까지의 가입을 감안해 현재 행 수의 두 배로 크기를 잡음
+            long expected = Math.max(properties.getMinExpectedInsertions(), (rows != null ? rows : 0L) * 2);
+            Snapshot next = new Snapshot((int) Math.min(Integer.MAX_VALUE / 2, expected), properties.getFalsePositiveRate());
+            building = next;
+            jdbcTemplate.query("SELECT user_id, email FROM users", resultSet -> {
+                next.add(digest(resultSet.getString(1)), digest(resultSet.getString(2)));
+            });
+            current = next;
+            log.info("아이디/이메일 색인 구성: users={}, capacity={}, elapsed={}ms",
+                    next.size(), next.capacity, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("아이디/이메일 색인 구성 실패, 기존 색인 유지: {}", e.getMessage());
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    public long size() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot.size() : 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        lookups.forEach((field, byResult) -> byResult.forEach((result, counter) ->
+                FunctionCounter.builder("auth.membership.lookups", counter, LongAdder::sum)
+                        .description("아이디/이메일 중복 체크 색인 조회 수")
+                        .tag("field", field.name().toLowerCase(Locale.ROOT))
+                        .tag("result", result.name().toLowerCase(Locale.ROOT))
+                        .register(registry)));
+        Gauge.builder("auth.membership.entries", this, UserMembershipIndex::size)
+                .description("아이디/이메일 색인에 기록된 사용자 수")
+                .register(registry);
+    }
+
+    static TokenDigest digest(String value) {
+        return TokenDigest.of(normalize(value));
+    }
+
+    /**
+     * 대소문자, 악센트, 뒤쪽 공백을 구분하지 않도록 정규화합니다.
+     */
+    static String normalize(String value) {
+        String lower = value.stripTrailing().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) > 0x7F) {
+                return Normalizer.normalize(lower, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+            }
+        }
+        return lower;
+    }
+
+    private static final class Snapshot {
+        private final int capacity;
+        private final TokenBloomFilter userIds;
+        private final TokenBloomFilter emails;
+        private final AtomicLong count = new AtomicLong();
+
+        private Snapshot(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.userIds = new TokenBloomFilter(capacity, falsePositiveRate);
+            this.emails = new TokenBloomFilter(capacity, falsePositiveRate);
+        }
+
+        private TokenBloomFilter filter(Field field) {
+            return field == Field.USER_ID ? userIds : emails;
+        }
+
+        private void add(TokenDigest userId, TokenDigest email) {
+            userIds.add(userId);
+            emails.add(email);
+            count.incrementAndGet();
+        }
+
+        private long size() {
+            return count.get();
+        }
+    }
+}
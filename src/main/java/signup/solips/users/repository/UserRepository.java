@@ -1,14 +1,17 @@
 package signup.solips.users.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import signup.solips.users.entity.UserEntity;
 
-import java.beans.Transient;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,11 +23,20 @@ import java.util.Optional;
  * <ul>
  *   <li>findByEmail - 이메일로 사용자 조회</li>
  *   <li>findByUserId - 아이디로 사용자 조회</li>
- *   <li>findByRefreshToken - 리프레시 토큰으로 사용자 조회</li>
- *   <li>updateRefreshToken - 리프레시 토큰과 만료 시간 업데이트</li>
- *   <li>clearRefreshToken - 리프레시 토큰 삭제</li>
+ *   <li>findCredentialsByUserId - 로그인 검증에 필요한 컬럼만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)</li>
+ *   <li>existsByUserId / existsByEmail - 중복 체크 (색인이 "있을 수도 있음"이라고 답한 경우에만 사용)</li>
+ *   <li>findExistingEmails / findExistingUserIds - 일괄 가입 시 이미 사용 중인 이메일/아이디를 IN 조회</li>
+ *   <li>claimLegacyRefreshToken - users 테이블에 남은 (레거시) 리프레시 토큰 회수</li>
+ *   <li>clearRefreshToken - (레거시) 리프레시 토큰 삭제</li>
+ *   <li>findExpiredRefreshTokenKeys / clearExpiredRefreshTokens - (레거시) 만료 토큰을 키셋 페이지 단위로 정리</li>
+ *   <li>updatePassword - 저장된 해시가 그대로일 때만 비밀번호 해시 교체</li>
  * </ul>
  *
+ * <p>리프레시 토큰 세션은 {@link UserSessionRepository}에서 관리하며, users 테이블의 토큰 컬럼은 이전용으로만 남아 있습니다.
+ *
+ * <p>수정 쿼리는 각자 짧은 트랜잭션에서 실행되어, 서비스 계층이 BCrypt 연산 동안 커넥션을 점유하지 않습니다.
+ * 조회 쿼리는 읽기 전용 트랜잭션으로 실행되어 플러시와 변경 감지를 건너뜁니다.
+ *
  * @author Jeongjunyun777
  */
 
@@ -34,21 +46,70 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByEmail(String email);
     Optional<UserEntity> findByUserId(String userid);
-    Optional<UserEntity> findByRefreshToken(String refreshToken);
 
+    @Transactional(readOnly = true)
+    @Query("SELECT new signup.solips.users.repository.UserCredentials(u.id, u.userId, u.email, u.password) " +
+            "FROM UserEntity u WHERE u.userId = :userId")
+    Optional<UserCredentials> findCredentialsByUserId(@Param("userId") String userId);
 
+    @Transactional(readOnly = true)
+    boolean existsByUserId(String userId);
+    @Transactional(readOnly = true)
+    boolean existsByEmail(String email);
 
-    @Modifying
-    @Query("UPDATE UserEntity u SET u.refreshToken = :token, u.refreshTokenExpiresAt = :expiresAt WHERE u.userId = :userId")
-    void updateRefreshToken(@Param("token") String token,
-                            @Param("userId") String userId,
-                            @Param("expiresAt") LocalDateTime expiresAt);
+    @Transactional(readOnly = true)
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 
+    @Transactional(readOnly = true)
+    @Query("SELECT u.userId FROM UserEntity u WHERE u.userId IN :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+
+    /**
+     * 세션 테이블 도입 이전에 users 테이블에 저장된 리프레시 토큰을 회수합니다.
+     * 다이제스트 또는 평문이 일치하고 만료 전일 때만 컬럼을 비우며, 반영된 행 수로 성공 여부를 판단합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.refreshToken = NULL, u.refreshTokenHash = NULL, u.refreshTokenFamily = NULL, " +
+            "u.refreshTokenExpiresAt = NULL " +
+            "WHERE u.userId = :userId AND (u.refreshTokenHash = :tokenHash OR u.refreshToken = :token) " +
+            "AND u.refreshTokenExpiresAt > :now")
+    int claimLegacyRefreshToken(@Param("userId") String userId,
+                                @Param("tokenHash") String tokenHash,
+                                @Param("token") String token,
+                                @Param("now") LocalDateTime now);
 
     @Modifying
-    @Transient
-    @Query("UPDATE UserEntity u SET u.refreshToken = NULL, u.refreshTokenExpiresAt = NULL WHERE u.userId = :userId")
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.refreshToken = NULL, u.refreshTokenHash = NULL, u.refreshTokenFamily = NULL, " +
+            "u.refreshTokenExpiresAt = NULL WHERE u.userId = :userId")
     void clearRefreshToken(@Param("userId") String userId);
 
+    @Transactional(readOnly = true)
+    @Query("SELECT new signup.solips.users.repository.ExpiredTokenKey(u.id, u.refreshTokenExpiresAt) FROM UserEntity u " +
+            "WHERE u.refreshTokenExpiresAt < :now " +
+            "AND (u.refreshTokenExpiresAt > :afterExpiresAt OR (u.refreshTokenExpiresAt = :afterExpiresAt AND u.id > :afterId)) " +
+            "ORDER BY u.refreshTokenExpiresAt, u.id")
+    List<ExpiredTokenKey<Long>> findExpiredRefreshTokenKeys(@Param("now") LocalDateTime now,
+                                                            @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+                                                            @Param("afterId") Long afterId,
+                                                            Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.refreshToken = NULL, u.refreshTokenHash = NULL, u.refreshTokenFamily = NULL, " +
+            "u.refreshTokenExpiresAt = NULL WHERE u.id IN :ids AND u.refreshTokenExpiresAt < :now")
+    int clearExpiredRefreshTokens(@Param("ids") Collection<Long> ids,
+                                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.password = :newPassword WHERE u.userId = :userId AND u.password = :currentPassword")
+    int updatePassword(@Param("userId") String userId,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
+
 
 }
@@ -0,0 +1,92 @@
+package signup.solips.users.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import signup.solips.users.entity.UserSessionEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 세션 Repository
+ *
+ * <p>기기별 리프레시 토큰 세션의 생성, 회전, 폐기 쿼리를 제공합니다.
+ *
+ * 주요 기능:
+ * <ul>
+ *   <li>findSessionIdsNewestFirst - 사용자의 세션 ID를 최신순으로 조회(user_id 인덱스)</li>
+ *   <li>rotateToken - 제시된 토큰이 세션의 현재 토큰이고 만료 전일 때만 새 토큰으로 교체</li>
+ *   <li>deleteBySessionIdAndUserId - 세션 하나 폐기</li>
+ *   <li>deleteByTokenHash - 토큰 다이제스트로 세션 폐기(token_hash 인덱스)</li>
+ *   <li>deleteAllByUserId - 사용자의 모든 세션 폐기</li>
+ *   <li>findExpiredKeys / deleteExpired - 만료 세션을 키셋 페이지 단위로 정리(expires_at 인덱스)</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+@Repository
+public interface UserSessionRepository extends JpaRepository<UserSessionEntity, String> {
+
+    @Transactional(readOnly = true)
+    @Query("SELECT s.sessionId FROM UserSessionEntity s WHERE s.userId = :userId ORDER BY s.createdAt DESC")
+    List<String> findSessionIdsNewestFirst(@Param("userId") String userId);
+
+    /**
+     * 조건부 UPDATE 한 번으로 세션의 리프레시 토큰을 회전합니다.
+     *
+     * @return 1이면 회전 성공, 0이면 현재 토큰이 아니거나(재사용) 만료되었거나 폐기된 세션
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserSessionEntity s SET s.tokenHash = :newTokenHash, s.expiresAt = :newExpiresAt, s.lastUsedAt = :now " +
+            "WHERE s.sessionId = :sessionId AND s.tokenHash = :tokenHash AND s.expiresAt > :now")
+    int rotateToken(@Param("sessionId") String sessionId,
+                    @Param("tokenHash") String tokenHash,
+                    @Param("newTokenHash") String newTokenHash,
+                    @Param("newExpiresAt") LocalDateTime newExpiresAt,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserSessionEntity s WHERE s.sessionId = :sessionId AND s.userId = :userId")
+    int deleteBySessionIdAndUserId(@Param("sessionId") String sessionId,
+                                   @Param("userId") String userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserSessionEntity s WHERE s.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserSessionEntity s WHERE s.sessionId IN :sessionIds")
+    int deleteAllBySessionIdIn(@Param("sessionIds") Collection<String> sessionIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserSessionEntity s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") String userId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new signup.solips.users.repository.ExpiredTokenKey(s.sessionId, s.expiresAt) FROM UserSessionEntity s " +
+            "WHERE s.expiresAt < :now AND (s.expiresAt > :afterExpiresAt OR (s.expiresAt = :afterExpiresAt AND s.sessionId > :afterSessionId)) " +
+            "ORDER BY s.expiresAt, s.sessionId")
+    List<ExpiredTokenKey<String>> findExpiredKeys(@Param("now") LocalDateTime now,
+                                                  @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+                                                  @Param("afterSessionId") String afterSessionId,
+                                                  Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserSessionEntity s WHERE s.sessionId IN :sessionIds AND s.expiresAt < :now")
+    int deleteExpired(@Param("sessionIds") Collection<String> sessionIds,
+                      @Param("now") LocalDateTime now);
+}
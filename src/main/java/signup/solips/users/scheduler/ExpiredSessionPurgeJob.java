@@ -0,0 +1,157 @@
+package signup.solips.users.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import signup.solips.global.AuthProperties;
+import signup.solips.users.repository.ExpiredTokenKey;
+import signup.solips.users.repository.UserRepository;
+import signup.solips.users.repository.UserSessionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 리프레시 토큰 정리 작업
+ *
+ * <p>만료된 세션(user_sessions)과 users 테이블에 남은 만료 레거시 토큰을 주기적으로 정리합니다.
+ * 만료 시간 인덱스를 (만료 시간, 식별자) 키셋으로 페이지 단위 조회하고, 작은 배치마다 별도의 짧은 트랜잭션으로 삭제하여
+ * 긴 잠금을 잡거나 로그인 트래픽과 경쟁하지 않도록 합니다.
+ *
+ * <p>설정 (app.auth.session.purge.*):
+ * <ul>
+ *   <li>enabled - 작업 사용 여부</li>
+ *   <li>interval - 실행 간격</li>
+ *   <li>batch-size - 배치당 최대 행 수</li>
+ *   <li>batch-pause - 배치 사이 대기 시간 (정리 속도 제한)</li>
+ *   <li>max-batches-per-run - 한 번 실행할 때 처리할 최대 배치 수</li>
+ * </ul>
+ *
+ * <p>메트릭: auth.sessions.purged(정리된 행 수), auth.sessions.purge.batch(배치당 소요 시간)
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "app.auth.session.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredSessionPurgeJob {
+
+    // 키셋 커서 시작값 (DB DATETIME 범위 안의 충분히 과거 시각)
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserSessionRepository userSessionRepository;
+    private final UserRepository userRepository;
+    private final AuthProperties.Purge purge;
+
+    private final Counter purgedSessions;
+    private final Counter purgedLegacyTokens;
+    private final Timer sessionBatchTimer;
+    private final Timer legacyBatchTimer;
+
+    public ExpiredSessionPurgeJob(UserSessionRepository userSessionRepository,
+                                  UserRepository userRepository,
+                                  AuthProperties authProperties,
+                                  MeterRegistry meterRegistry) {
+        this.userSessionRepository = userSessionRepository;
+        this.userRepository = userRepository;
+        this.purge = authProperties.getSession().getPurge();
+
+        this.purgedSessions = Counter.builder("auth.sessions.purged")
+                .description("정리된 만료 리프레시 토큰 수")
+                .tag("table", "user_sessions")
+                .register(meterRegistry);
+        this.purgedLegacyTokens = Counter.builder("auth.sessions.purged")
+                .description("정리된 만료 리프레시 토큰 수")
+                .tag("table", "users")
+                .register(meterRegistry);
+        this.sessionBatchTimer = Timer.builder("auth.sessions.purge.batch")
+                .description("만료 리프레시 토큰 정리 배치 소요 시간")
+                .tag("table", "user_sessions")
+                .register(meterRegistry);
+        this.legacyBatchTimer = Timer.builder("auth.sessions.purge.batch")
+                .description("만료 리프레시 토큰 정리 배치 소요 시간")
+                .tag("table", "users")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.auth.session.purge.initial-delay:PT1M}",
+            fixedDelayString = "${app.auth.session.purge.interval:PT10M}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int sessions = purgeExpiredSessions(now);
+            int legacy = purgeExpiredLegacyTokens(now);
+            if (sessions + legacy > 0) {
+                log.info("만료 리프레시 토큰 정리: sessions={}, legacy={}", sessions, legacy);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int purgeExpiredSessions(LocalDateTime now) throws InterruptedException {
+        ExpiredTokenKey<String> cursor = new ExpiredTokenKey<>("", KEYSET_START);
+        int total = 0;
+
+        for (int batch = 0; batch < purge.getMaxBatchesPerRun(); batch++) {
+            long start = System.nanoTime();
+            List<ExpiredTokenKey<String>> keys = userSessionRepository.findExpiredKeys(
+                    now, cursor.expiresAt(), cursor.id(), Limit.of(purge.getBatchSize()));
+            if (keys.isEmpty()) {
+                break;
+            }
+            int deleted = userSessionRepository.deleteExpired(keys.stream().map(ExpiredTokenKey::id).toList(), now);
+            sessionBatchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            purgedSessions.increment(deleted);
+            total += deleted;
+
+            if (keys.size() < purge.getBatchSize()) {
+                break;
+            }
+            cursor = keys.get(keys.size() - 1);
+            pause();
+        }
+        return total;
+    }
+
+    int purgeExpiredLegacyTokens(LocalDateTime now) throws InterruptedException {
+        ExpiredTokenKey<Long> cursor = new ExpiredTokenKey<>(0L, KEYSET_START);
+        int total = 0;
+
+        for (int batch = 0; batch < purge.getMaxBatchesPerRun(); batch++) {
+            long start = System.nanoTime();
+            List<ExpiredTokenKey<Long>> keys = userRepository.findExpiredRefreshTokenKeys(
+                    now, cursor.expiresAt(), cursor.id(), Limit.of(purge.getBatchSize()));
+            if (keys.isEmpty()) {
+                break;
+            }
+            int cleared = userRepository.clearExpiredRefreshTokens(keys.stream().map(ExpiredTokenKey::id).toList(), now);
+            legacyBatchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            purgedLegacyTokens.increment(cleared);
+            total += cleared;
+
+            if (keys.size() < purge.getBatchSize()) {
+                break;
+            }
+            cursor = keys.get(keys.size() - 1);
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() throws InterruptedException {
+        long pauseMillis = purge.getBatchPause().toMillis();
+        if (pauseMillis > 0) {
+            Thread.sleep(pauseMillis);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import signup.solips.users.dto.response.TokenResponse;
 import signup.solips.users.dto.response.UserLoginResponseDto;
 import signup.solips.users.dto.response.UserInfo;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 서비스 인터페이스
  *
@@ -15,27 +17,44 @@ import signup.solips.users.dto.response.UserInfo;
  * <ul>
  *   <li>signup - 신규 회원가입</li>
  *   <li>login - 로그인 및 토큰 발급</li>
- *   <li>logout - 리프레시 토큰 삭제</li>
+ *   <li>logout - 모든 기기의 세션 삭제</li>
+ *   <li>logoutSession - 리프레시 토큰에 해당하는 세션 하나 삭제</li>
+ *   <li>revokeAccessToken - 로그아웃한 액세스 토큰을 만료 전까지 사용할 수 없도록 폐기</li>
  *   <li>refreshToken - 리프레시 토큰으로 새로운 액세스 토큰 발급</li>
  *   <li>isUserIdAvailable - 사용자 ID 중복 여부 확인</li>
+ *   <li>isEmailAvailable - 이메일 중복 여부 확인</li>
  * </ul>
  *
+ * <p>signup/login은 BCrypt 연산을 전용 실행기에서 수행하므로 {@link CompletableFuture}를 반환합니다.
+ *
  * @author Jeongjunyun777
  */
 
 
 public interface AuthService {
     // 회원가입
-    UserInfo signup(UserSignupRequestDto request) throws IllegalAccessException;
+    CompletableFuture<UserInfo> signup(UserSignupRequestDto request);
 
     // 로그인
-    UserLoginResponseDto login(UserLoginRequestDto request);
+    CompletableFuture<UserLoginResponseDto> login(UserLoginRequestDto request);
 
-    // 로그아웃
+    // 로그아웃 (모든 기기)
     void logout(String userId);
 
+    // 로그아웃 (현재 기기)
+    void logoutSession(String refreshToken);
+
+    // 액세스 토큰 폐기
+    void revokeAccessToken(String accessToken);
+
     // 토큰 갱신
     TokenResponse refreshToken(String refreshToken) throws IllegalAccessException;
 
+    // 아이디 중복 체크
+    boolean isUserIdAvailable(String userId);
+
+    // 이메일 중복 체크
+    boolean isEmailAvailable(String email);
+
 }
 
@@ -0,0 +1,56 @@
+package signup.solips.users.service;
+
+import org.springframework.http.ETag;
+import signup.solips.users.dto.response.TokenIntrospectionResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 토큰 일괄 확인 서비스 인터페이스
+ *
+ * <p>내부 서비스가 JWT 서명 키 없이 Solips Access Token 을 확인할 수 있도록,
+ * 인증 필터와 같은 검증 단계(캐시, 서명, 로그아웃 폐기 목록)로 여러 토큰을 한 번에 확인합니다.
+ *
+ * 메서드:
+ * <ul>
+ *   <li>introspect - 토큰 목록을 확인하고 결과와 응답 캐시 정보(ETag, max-age)를 반환</li>
+ *   <li>introspect(tokens, parallel) - 공용 ForkJoinPool 사용 여부를 호출자가 정함 (reactor 스레드에서는 false)</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+public interface TokenIntrospectionService {
+
+    /**
+     * 일괄 확인 결과
+     *
+     * @param response 토큰별 확인 결과
+     * @param etag     결과 내용으로 만든 ETag (따옴표 포함), 결과가 같으면 요청이 달라도 같은 값
+     * @param maxAge   호출자가 결과를 캐시해도 되는 시간
+     */
+    record Introspection(TokenIntrospectionResponse response, String etag, Duration maxAge) {
+
+        /**
+         * If-None-Match 헤더에 현재 결과의 ETag 가 있는지 확인합니다 (약한 비교, "*" 포함).
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            ETag current = ETag.create(etag);
+            return ETag.parse(ifNoneMatch).stream()
+                    .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+        }
+    }
+
+    // 토큰 일괄 확인
+    default Introspection introspect(List<String> tokens) {
+        return introspect(tokens, true);
+    }
+
+    // 토큰 일괄 확인, parallel 이 false 면 개수와 관계없이 호출 스레드에서만 확인
+    Introspection introspect(List<String> tokens, boolean parallel);
+}
@@ -0,0 +1,33 @@
+package signup.solips.users.service;
+
+import signup.solips.users.dto.response.UserImportResult;
+import signup.solips.users.dto.response.UserImportSummary;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * 명단 일괄 가입 서비스 인터페이스
+ *
+ * <p>학기 초 학급 단위 계정 생성을 위해 CSV/NDJSON 명단을 스트리밍으로 읽어 계정을 생성합니다.
+ *
+ * 메서드:
+ * <ul>
+ *   <li>importRoster - 명단을 읽어 행별 결과를 sink 로 전달하고 요약을 반환</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+public interface UserImportService {
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    // 명단 일괄 가입
+    UserImportSummary importRoster(Reader roster, Format format, Consumer<UserImportResult> sink) throws IOException;
+}
@@ -0,0 +1,45 @@
+package signup.solips.users.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 세션 서비스 인터페이스
+ *
+ * <p>기기(로그인)별 리프레시 토큰 세션의 생성, 회전, 폐기 기능을 정의합니다.
+ * 세션 ID는 리프레시 토큰의 계열(family) ID와 같습니다.
+ * 세션을 읽거나 고치는 메서드는 사용자 아이디를 함께 받아, 지연 반영 중인 같은 사용자의 쓰기를 먼저 반영합니다.
+ *
+ * 메서드:
+ * <ul>
+ *   <li>createSession - 세션 생성, 사용자당 최대 세션 수 초과 시 가장 오래된 세션 제거</li>
+ *   <li>rotate - 세션의 리프레시 토큰 회전</li>
+ *   <li>claimLegacySession - users 테이블에 남은 기존 토큰을 세션으로 이전</li>
+ *   <li>revokeSession - 세션 하나 폐기</li>
+ *   <li>revokeSessionByToken - 리프레시 토큰으로 세션 폐기</li>
+ *   <li>revokeAllSessions - 모든 기기에서 로그아웃</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+
+public interface UserSessionService {
+    // 세션 생성
+    void createSession(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt);
+
+    // 토큰 회전
+    boolean rotate(String userId, String sessionId, String tokenHash, String newTokenHash, LocalDateTime newExpiresAt);
+
+    // 레거시 토큰 이전
+    boolean claimLegacySession(String userId, String refreshToken, String tokenHash,
+                               String sessionId, String newTokenHash, LocalDateTime newExpiresAt);
+
+    // 세션 하나 폐기
+    void revokeSession(String userId, String sessionId);
+
+    // 토큰으로 세션 폐기
+    boolean revokeSessionByToken(String userId, String tokenHash);
+
+    // 모든 세션 폐기
+    void revokeAllSessions(String userId);
+}
@@ -3,22 +3,40 @@ package signup.solips.users.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import signup.solips.global.AuthProperties;
 import signup.solips.global.config.JwtUtil;
 import signup.solips.global.exception.CustomException;
 import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.global.profiling.AuthRequestEvent;
+import signup.solips.global.security.AccessTokenCache;
+import signup.solips.global.security.AccessTokenRevocationList;
+import signup.solips.global.security.PasswordHashingExecutor;
+import signup.solips.global.security.TokenDigest;
+import signup.solips.global.security.TokenVerification;
 import signup.solips.users.dto.request.UserLoginRequestDto;
 import signup.solips.users.dto.request.UserSignupRequestDto;
 import signup.solips.users.dto.response.TokenResponse;
 import signup.solips.users.dto.response.UserLoginResponseDto;
 import signup.solips.users.dto.response.UserInfo;
 import signup.solips.users.entity.UserEntity;
+import signup.solips.users.repository.UserConstraints;
+import signup.solips.users.repository.UserCredentialCache;
+import signup.solips.users.repository.UserCredentials;
+import signup.solips.users.repository.UserMembershipIndex;
 import signup.solips.users.repository.UserRepository;
 import signup.solips.users.service.AuthService;
+import signup.solips.users.service.UserSessionService;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 인증 서비스 구현체
@@ -27,63 +45,96 @@ import java.time.LocalDateTime;
  *
  * 주요 기능:
  * <ul>
- *   <li>회원가입 시 이메일/아이디 중복 체크 및 비밀번호 암호화 후 저장</li>
+ *   <li>회원가입 시 비밀번호 암호화 후 저장, 이메일/아이디 중복은 유니크 제약 위반으로 판단</li>
  *   <li>로그인 시 아이디/비밀번호 검증 및 토큰 발급</li>
- *   <li>로그아웃 시 리프레시 토큰 삭제</li>
- *   <li>리프레시 토큰 검증 후 새로운 액세스 토큰 발급</li>
- *   <li>사용자 ID 중복 여부 확인</li>
+ *   <li>로그인 성공 시 현재 비용보다 낮은 비밀번호 해시를 백그라운드에서 재해시</li>
+ *   <li>로그인마다 기기별 세션 생성({@link UserSessionService})</li>
+ *   <li>로그아웃 시 세션 하나 또는 모든 세션 삭제, 사용 중인 액세스 토큰 폐기</li>
+ *   <li>리프레시 토큰 검증 후 새로운 액세스 토큰 발급 및 리프레시 토큰 회전</li>
+ *   <li>이미 회전된 리프레시 토큰 재사용 시 해당 세션(토큰 계열) 폐기</li>
+ *   <li>리프레시 토큰은 평문 대신 SHA-256 다이제스트로 저장/조회</li>
+ *   <li>사용자 ID/이메일 중복 여부 확인, 사용 여부 색인({@link UserMembershipIndex})에 없으면 DB 조회 없이 응답</li>
  * </ul>
  *
+ * <p>BCrypt 연산은 {@link PasswordHashingExecutor}에서 수행되고, 이후 DB 쓰기는 애플리케이션 작업 실행기에서 이어집니다.
+ * 서비스 전체를 감싸는 트랜잭션을 두지 않으므로 해시 계산 동안 DB 커넥션을 점유하지 않습니다.
+ *
+ * <p>DB 조회/쓰기와 토큰 서명/검증 시간은 단계별로 {@link AuthMetrics}에 기록하고,
+ * 회원가입/로그인/토큰 갱신 요청 하나의 단계별 시간과 결과는 JFR 이벤트({@link AuthRequestEvent})로 남깁니다.
+ *
  * @author Jeongjunyun777
  */
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
+    private final UserCredentialCache userCredentialCache;
+    private final UserSessionService userSessionService;
+    private final UserMembershipIndex userMembershipIndex;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final AsyncTaskExecutor applicationTaskExecutor;
     private final JwtUtil jwtUtil;
-    @Override
+    private final AccessTokenCache accessTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final AuthProperties authProperties;
+    private final AuthMetrics authMetrics;
 
     /**
      * 회원가입 처리
      *
-     * <p>이메일과 사용자 아이디 중복을 체크하고, 비밀번호를 암호화한 후 사용자 정보를 DB에 저장합니다.
+     * <p>비밀번호를 암호화한 후 사용자 정보를 DB에 바로 INSERT 합니다.
+     * 중복 확인용 SELECT 없이 email/user_id 유니크 제약 위반을 중복 오류로 변환하므로,
+     * 일반적인 경우 DB 왕복은 한 번이며 동시에 같은 아이디로 가입해도 한 건만 성공합니다.
      *
      * @param request 회원가입 요청 DTO
      * @return 생성된 사용자 정보(UserInfo)
-     * @throws CustomException 이메일 또는 아이디가 이미 존재할 경우 발생
+     * @throws CustomException 이메일 또는 아이디가 이미 존재할 경우, 해시 대기열이 가득 찬 경우 발생
      */
 
-    public UserInfo signup(UserSignupRequestDto request) throws IllegalAccessException {
+    @Override
+    public CompletableFuture<UserInfo> signup(UserSignupRequestDto request) {
         log.info("회원가입 시도: userId={}, email={}", request.getUserId(), request.getEmail());
 
-        if(userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
-        }
-        if(userRepository.findByUserId(request.getUserId()).isPresent()) {
-            throw new CustomException(ErrorCode.DUPLICATE_USER_ID);
-        }
-
-        String password = passwordEncoder.encode(request.getPassword());
+        AuthRequestEvent event = AuthRequestEvent.begin(AuthRequestEvent.SIGNUP, request.getUserId());
+        long hashStart = System.nanoTime();
+        return passwordHashingExecutor.encode(request.getPassword())
+                .thenApplyAsync(password -> {
+                    event.addHash(System.nanoTime() - hashStart);
+                    UserEntity user = UserEntity.builder()
+                            .email(request.getEmail())
+                            .userId(request.getUserId())
+                            .password(password)
+                            .build();
 
-        UserEntity user = UserEntity.builder()
-                .email(request.getEmail())
-                .userId(request.getUserId())
-                .password(password)
-                .build();
+                    UserEntity userEntity = insertUser(user, event);
 
-        UserEntity userEntity = userRepository.save(user);
+                    log.info("회원가입 성공 : user_id={}, email={}", userEntity.getId(), userEntity.getEmail());
 
-        log.info("회원가입 성공 : user_id={}, email={}", user.getId(), user.getEmail());
+                    return new UserInfo(
+                            userEntity.getId(),
+                            userEntity.getEmail(),
+                            userEntity.getUserId()
+                    );
+                }, applicationTaskExecutor)
+                .whenComplete((userInfo, error) -> event.complete(error));
+    }
 
-        return new UserInfo(
-                userEntity.getId(),
-                userEntity.getEmail(),
-                userEntity.getUserId()
-        );
+    private UserEntity insertUser(UserEntity user, AuthRequestEvent event) {
+        long start = System.nanoTime();
+        try {
+            UserEntity saved = userRepository.saveAndFlush(user);
+            userMembershipIndex.add(saved.getUserId(), saved.getEmail());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            ErrorCode errorCode = UserConstraints.duplicateErrorCode(e).orElseThrow(() -> e);
+            throw new CustomException(errorCode);
+        } finally {
+            event.addQuery(authMetrics.recordQuery(AuthMetrics.Query.INSERT_USER, start));
+        }
     }
 
     /**
@@ -93,33 +144,80 @@ public class AuthServiceImpl implements AuthService {
      *
      * @param request 로그인 요청 DTO
      * @return 로그인 응답 DTO(UserLoginResponseDto) - 액세스 토큰, 리프레시 토큰, 사용자 정보 포함
-     * @throws CustomException 아이디 또는 비밀번호가 잘못된 경우 발생
+     * @throws CustomException 아이디 또는 비밀번호가 잘못된 경우, 해시 대기열이 가득 찬 경우 발생
      */
 
     @Override
-    @Transactional
-    public UserLoginResponseDto login(UserLoginRequestDto request) {
-        UserEntity user = userRepository.findByUserId(request.getUserId())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_CREDENTIALS));
+    public CompletableFuture<UserLoginResponseDto> login(UserLoginRequestDto request) {
+        AuthRequestEvent event = AuthRequestEvent.begin(AuthRequestEvent.LOGIN, request.getUserId());
+        try {
+            long start = System.nanoTime();
+            Optional<UserCredentials> found = userCredentialCache.findByUserId(request.getUserId());
+            event.addQuery(System.nanoTime() - start);
+            UserCredentials user = found.orElseThrow(() -> new CustomException(ErrorCode.INVALID_CREDENTIALS));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
+            long hashStart = System.nanoTime();
+            return passwordHashingExecutor.matches(request.getPassword(), user.passwordHash())
+                    .thenApplyAsync(matched -> {
+                        event.addHash(System.nanoTime() - hashStart);
+                        if (!matched) {
+                            throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
+                        }
+                        upgradePasswordHashIfNeeded(user, request.getPassword());
+                        return issueTokens(user, event);
+                    }, applicationTaskExecutor)
+                    .whenComplete((response, error) -> event.complete(error));
+        } catch (RuntimeException e) {
+            event.complete(e);
+            throw e;
         }
+    }
 
-        String accessToken = jwtUtil.generateAcessToken(user.getUserId());
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮으면 백그라운드에서 재해시합니다.
+     *
+     * <p>재해시와 저장은 로그인 응답과 분리되어 실행되며, 해시 대기열에 여유가 없으면 다음 로그인으로 미룹니다.
+     * 저장은 기존 해시가 그대로일 때만 수행하므로 그 사이 변경된 비밀번호를 덮어쓰지 않습니다.
+     */
+    private void upgradePasswordHashIfNeeded(UserCredentials user, String rawPassword) {
+        String currentHash = user.passwordHash();
+        if (!passwordEncoder.upgradeEncoding(currentHash) || !passwordHashingExecutor.hasSpareCapacity()) {
+            return;
+        }
+        passwordHashingExecutor.encode(rawPassword)
+                .thenAcceptAsync(upgradedHash -> {
+                    long start = System.nanoTime();
+                    int updated = userCredentialCache.updatePassword(user.userId(), currentHash, upgradedHash);
+                    authMetrics.recordQuery(AuthMetrics.Query.UPDATE_PASSWORD, start);
+                    if (updated > 0) {
+                        log.info("비밀번호 해시 비용 업그레이드: userId={}", user.userId());
+                    }
+                }, applicationTaskExecutor)
+                .exceptionally(e -> {
+                    log.warn("비밀번호 해시 업그레이드 실패: userId={}, reason={}", user.userId(), e.getMessage());
+                    return null;
+                });
+    }
 
-        String  refreshToken = jwtUtil.generateRefreshToken(user.getUserId());
+    private UserLoginResponseDto issueTokens(UserCredentials user, AuthRequestEvent event) {
+        String accessToken = signAccessToken(user.userId(), event);
+
+        String sessionId = UUID.randomUUID().toString();
+        String  refreshToken = signRefreshToken(user.userId(), sessionId, event);
         LocalDateTime expiresAt = jwtUtil.getRefreshTokenExpiresAt();
 
-        userRepository.updateRefreshToken(
-                refreshToken,
-                user.getUserId(),
+        long start = System.nanoTime();
+        userSessionService.createSession(
+                user.userId(),
+                sessionId,
+                TokenDigest.of(refreshToken).toHex(),
                 expiresAt
         );
+        event.addQuery(authMetrics.recordQuery(AuthMetrics.Query.CREATE_SESSION, start));
         UserInfo userInfo = new UserInfo(
-                user.getId(),
-                user.getEmail(),
-                user.getUserId());
+                user.id(),
+                user.email(),
+                user.userId());
 
         return UserLoginResponseDto.builder()
                 .accessToken(accessToken)
@@ -131,51 +229,202 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * 로그아웃 처리
+     * 로그아웃 처리 (모든 기기)
      *
-     * <p>사용자의 리프레시 토큰을 DB에서 삭제하여 로그아웃 처리합니다.
+     * <p>사용자의 모든 세션을 DB에서 삭제하여 모든 기기에서 로그아웃 처리합니다.
      *
      * @param userId 로그아웃할 사용자 아이디
      */
 
     @Override
     public void logout(String userId) {
-        userRepository.clearRefreshToken(userId);
+        long start = System.nanoTime();
+        userSessionService.revokeAllSessions(userId);
+        authMetrics.recordQuery(AuthMetrics.Query.REVOKE_SESSION, start);
+    }
+
+    /**
+     * 로그아웃 처리 (현재 기기)
+     *
+     * <p>전달받은 리프레시 토큰의 세션만 삭제하여, 다른 기기의 로그인은 유지합니다.
+     *
+     * @param refreshToken 로그아웃할 세션의 리프레시 토큰
+     * @throws CustomException 리프레시 토큰 서명이 유효하지 않은 경우 발생
+     */
+
+    @Override
+    public void logoutSession(String refreshToken) {
+        TokenVerification verification = verifyRefreshToken(refreshToken, null);
+        if (verification.subject() == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        long start = System.nanoTime();
+        userSessionService.revokeSessionByToken(verification.subject(), TokenDigest.of(refreshToken).toHex());
+        authMetrics.recordQuery(AuthMetrics.Query.REVOKE_SESSION, start);
+    }
+
+    /**
+     * 액세스 토큰 폐기
+     *
+     * <p>로그아웃한 액세스 토큰을 만료 시각까지 폐기 목록({@link AccessTokenRevocationList})에 기록하고
+     * 검증 캐시에서 제거합니다. 이후 같은 토큰으로 들어온 요청은 인증되지 않습니다.
+     * 이미 유효하지 않은 토큰은 폐기할 필요가 없으므로 무시합니다.
+     *
+     * @param accessToken 폐기할 액세스 토큰
+     */
+
+    @Override
+    public void revokeAccessToken(String accessToken) {
+        long start = System.nanoTime();
+        TokenVerification verification = jwtUtil.verify(accessToken);
+        authMetrics.recordVerify(AuthMetrics.TokenType.ACCESS, verification, start);
+        if (!verification.isValid()) {
+            return;
+        }
+        TokenDigest digest = TokenDigest.of(accessToken);
+        accessTokenRevocationList.revoke(digest, verification.expiresAt());
+        accessTokenCache.invalidate(digest);
+    }
+
+    /**
+     * 아이디 중복 체크
+     *
+     * <p>사용 여부 색인에 없으면 DB 조회 없이 사용 가능으로 응답하고, 있을 수도 있는 경우에만 DB로 확인합니다.
+     *
+     * @param userId 확인할 아이디
+     * @return 사용 가능하면 true
+     */
+
+    @Override
+    public boolean isUserIdAvailable(String userId) {
+        if (!userMembershipIndex.mightContain(UserMembershipIndex.Field.USER_ID, userId)) {
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean exists = userRepository.existsByUserId(userId);
+        authMetrics.recordQuery(AuthMetrics.Query.EXISTS_USER_ID, start);
+        userMembershipIndex.recordConfirmed(UserMembershipIndex.Field.USER_ID, exists);
+        return !exists;
+    }
+
+    /**
+     * 이메일 중복 체크
+     *
+     * @param email 확인할 이메일
+     * @return 사용 가능하면 true
+     * @see #isUserIdAvailable(String)
+     */
+
+    @Override
+    public boolean isEmailAvailable(String email) {
+        if (!userMembershipIndex.mightContain(UserMembershipIndex.Field.EMAIL, email)) {
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean exists = userRepository.existsByEmail(email);
+        authMetrics.recordQuery(AuthMetrics.Query.EXISTS_EMAIL, start);
+        userMembershipIndex.recordConfirmed(UserMembershipIndex.Field.EMAIL, exists);
+        return !exists;
     }
 
     /**
      * 리프레시 토큰을 이용한 액세스 토큰 갱신
      *
-     * <p>리프레시 토큰의 유효성 및 만료를 확인하고, 새로운 액세스 토큰을 발급합니다.
+     * <p>리프레시 토큰을 검증한 뒤 조건부 UPDATE 한 번으로 새 리프레시 토큰으로 회전하고, 새로운 액세스 토큰을 발급합니다.
+     * 제시된 토큰이 저장된 현재 토큰이고 만료 전일 때만 UPDATE가 반영되므로, 같은 토큰으로 동시에 갱신하면 하나만 성공합니다.
+     *
+     * <p>서명이 유효한데 반영된 행이 없으면 이미 회전된 토큰이 재사용된 것으로 보고 해당 세션(토큰 계열) 전체를 폐기합니다.
      *
      * @param refreshToken 클라이언트가 제공한 리프레시 토큰
-     * @return 새로운 액세스 토큰 정보(TokenResponse)
-     * @throws CustomException 리프레시 토큰이 유효하지 않거나 만료된 경우 발생
+     * @return 새로운 액세스 토큰과 리프레시 토큰 정보(TokenResponse)
+     * @throws CustomException 리프레시 토큰이 유효하지 않거나 만료된 경우, 재사용이 감지된 경우 발생
      */
 
     @Override
     public TokenResponse refreshToken(String refreshToken) throws CustomException {
-        if (!jwtUtil.validateToken(refreshToken)) {
-            try {
-                throw new CustomException(ErrorCode.INVALID_TOKEN);
-            } catch (CustomException e) {
-                throw new RuntimeException(e);
-            }
+        AuthRequestEvent event = AuthRequestEvent.begin(AuthRequestEvent.REFRESH, null);
+        try {
+            TokenResponse response = rotateRefreshToken(refreshToken, event);
+            event.complete(null);
+            return response;
+        } catch (RuntimeException e) {
+            event.complete(e);
+            throw e;
         }
-        UserEntity user  = userRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+    }
+
+    private TokenResponse rotateRefreshToken(String refreshToken, AuthRequestEvent event) {
+        TokenVerification verification = verifyRefreshToken(refreshToken, event);
+        event.setUserId(verification.subject());
+        if (!verification.isValid()) {
+            throw new CustomException(verification.toErrorCode());
+        }
+        String userId = verification.subject();
+        String sessionId = verification.familyId();
+        String tokenHash = TokenDigest.of(refreshToken).toHex();
 
-        if (user.getRefreshTokenExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+        // family 클레임이 없는 이전 형식 토큰은 이번 회전에서 새 세션을 시작
+        String newSessionId = sessionId != null ? sessionId : UUID.randomUUID().toString();
+        String newRefreshToken = signRefreshToken(userId, newSessionId, event);
+        String newTokenHash = TokenDigest.of(newRefreshToken).toHex();
+        LocalDateTime newExpiresAt = jwtUtil.getRefreshTokenExpiresAt();
+
+        boolean rotated = false;
+        if (sessionId != null) {
+            long start = System.nanoTime();
+            rotated = userSessionService.rotate(userId, sessionId, tokenHash, newTokenHash, newExpiresAt);
+            event.addQuery(authMetrics.recordQuery(AuthMetrics.Query.ROTATE_SESSION, start));
+        }
+
+        if (!rotated && authProperties.getRefreshToken().isLegacyLookupEnabled()) {
+            long start = System.nanoTime();
+            rotated = userSessionService.claimLegacySession(
+                    userId, refreshToken, tokenHash, newSessionId, newTokenHash, newExpiresAt);
+            event.addQuery(authMetrics.recordQuery(AuthMetrics.Query.CLAIM_LEGACY_SESSION, start));
+        }
+
+        if (!rotated) {
+            if (sessionId != null) {
+                long start = System.nanoTime();
+                userSessionService.revokeSession(userId, sessionId);
+                event.addQuery(authMetrics.recordQuery(AuthMetrics.Query.REVOKE_SESSION, start));
+            }
+            log.warn("리프레시 토큰 재사용 감지, 세션 폐기: userId={}, sessionId={}", userId, sessionId);
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        String newAccessToken = jwtUtil.generateAcessToken(user.getUserId());
+        String newAccessToken = signAccessToken(userId, event);
 
         return TokenResponse.builder()
                 .accessToken(newAccessToken)
+                .refreshToken(newRefreshToken)
                 .tokenType("Bearer")
-                .expiresIn(jwtUtil.getAccessTokenExpiration()/1000)
+                .expiresIn(jwtUtil.getAccessTokenExpirationInSeconds())
                 .build();
     }
-}
 
+    private String signAccessToken(String userId, AuthRequestEvent event) {
+        long start = System.nanoTime();
+        String token = jwtUtil.generateAcessToken(userId);
+        event.addSign(authMetrics.recordSign(AuthMetrics.TokenType.ACCESS, start));
+        return token;
+    }
+
+    private String signRefreshToken(String userId, String familyId, AuthRequestEvent event) {
+        long start = System.nanoTime();
+        String token = jwtUtil.generateRefreshToken(userId, familyId);
+        event.addSign(authMetrics.recordSign(AuthMetrics.TokenType.REFRESH, start));
+        return token;
+    }
+
+    // event 가 null 이면 지표만 기록 (로그아웃)
+    private TokenVerification verifyRefreshToken(String refreshToken, AuthRequestEvent event) {
+        long start = System.nanoTime();
+        TokenVerification verification = jwtUtil.verify(refreshToken);
+        long elapsed = authMetrics.recordVerify(AuthMetrics.TokenType.REFRESH, verification, start);
+        if (event != null) {
+            event.addVerify(elapsed);
+        }
+        return verification;
+    }
+}
@@ -0,0 +1,158 @@
+package signup.solips.users.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.users.dto.request.UserSignupRequestDto;
+import signup.solips.users.service.UserImportService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가입 명단 스트리밍 리더
+ *
+ * <p>CSV 또는 NDJSON 명단을 한 줄씩 읽어 {@link UserSignupRequestDto}로 변환합니다.
+ * 전체 명단을 메모리에 올리지 않으며, 형식이 잘못된 줄은 예외 대신 오류 메시지를 가진 행으로 돌려줍니다.
+ *
+ * <p>CSV는 첫 줄을 헤더로 사용하며 email, userId(user_id), password 열이 필요합니다(순서 무관).
+ * 큰따옴표로 감싼 값과 "" 이스케이프를 지원하고, 값 안의 줄바꿈은 지원하지 않습니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+class RosterReader {
+
+    private static final String INVALID_JSON = "JSON 형식이 올바르지 않습니다.";
+    private static final String INVALID_CSV = "CSV 열 개수가 헤더와 다릅니다.";
+
+    private final BufferedReader reader;
+    private final UserImportService.Format format;
+    private final ObjectMapper objectMapper;
+
+    private long lineNumber;
+    private int emailColumn = -1;
+    private int userIdColumn = -1;
+    private int passwordColumn = -1;
+    private int columnCount;
+
+    RosterReader(Reader reader, UserImportService.Format format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행을 읽습니다. 빈 줄은 건너뜁니다.
+     *
+     * @return 다음 행, 명단 끝이면 null
+     * @throws CustomException CSV 헤더에 필요한 열이 없을 경우
+     */
+    Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == UserImportService.Format.CSV && columnCount == 0) {
+                readHeader(line);
+                continue;
+            }
+            return format == UserImportService.Format.CSV ? parseCsv(line) : parseJson(line);
+        }
+        return null;
+    }
+
+    private void readHeader(String line) {
+        List<String> header = splitCsv(stripBom(line));
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "email" -> emailColumn = i;
+                case "userid", "user_id" -> userIdColumn = i;
+                case "password" -> passwordColumn = i;
+                default -> { }
+            }
+        }
+        if (emailColumn < 0 || userIdColumn < 0 || passwordColumn < 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "CSV 헤더에 email, userId, password 열이 필요합니다.");
+        }
+        columnCount = header.size();
+    }
+
+    private Row parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != columnCount) {
+            return Row.invalid(lineNumber, INVALID_CSV);
+        }
+        UserSignupRequestDto request = new UserSignupRequestDto(
+                values.get(emailColumn).trim(),
+                values.get(userIdColumn).trim(),
+                values.get(passwordColumn)
+        );
+        return Row.of(lineNumber, request);
+    }
+
+    private Row parseJson(String line) {
+        try {
+            UserSignupRequestDto request = objectMapper.readValue(stripBom(line), UserSignupRequestDto.class);
+            return request != null ? Row.of(lineNumber, request) : Row.invalid(lineNumber, INVALID_JSON);
+        } catch (JsonProcessingException e) {
+            return Row.invalid(lineNumber, INVALID_JSON);
+        }
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    /**
+     * 명단 한 행
+     *
+     * @param line    입력 명단의 줄 번호
+     * @param request 변환된 가입 요청, 형식 오류면 null
+     * @param error   형식 오류 메시지
+     */
+    record Row(long line, UserSignupRequestDto request, String error) {
+        static Row of(long line, UserSignupRequestDto request) {
+            return new Row(line, request, null);
+        }
+
+        static Row invalid(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+}
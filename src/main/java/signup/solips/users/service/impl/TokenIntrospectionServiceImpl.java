@@ -0,0 +1,116 @@
+package signup.solips.users.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.security.AccessTokenVerifier;
+import signup.solips.global.security.TokenDigest;
+import signup.solips.global.security.TokenVerification;
+import signup.solips.users.dto.response.TokenIntrospectionResponse;
+import signup.solips.users.dto.response.TokenIntrospectionResponse.Result;
+import signup.solips.users.service.TokenIntrospectionService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 토큰 일괄 확인 서비스 구현체
+ *
+ * <p>서블릿과 reactive 프로필이 함께 사용하며, 토큰마다 {@link AccessTokenVerifier}로
+ * 인증 필터와 같은 순서(캐시, 서명, 리프레시 토큰 거부, 로그아웃 폐기 목록)로 확인합니다.
+ *
+ * <ul>
+ *   <li>같은 토큰이 여러 번 들어 있으면 한 번만 확인</li>
+ *   <li>서로 다른 토큰이 app.auth.introspection.parallel-threshold 개 이상이면 공용 ForkJoinPool 에서 병렬로 확인
+ *       (parallel 이 false 인 호출은 제외, reactor 스레드가 join 에서 멈추지 않도록)</li>
+ *   <li>max-age 는 설정값과 가장 먼저 만료되는 활성 토큰의 남은 시간 중 작은 값</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Service
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final AuthProperties authProperties;
+    private final Clock clock;
+
+    @Autowired
+    public TokenIntrospectionServiceImpl(AccessTokenVerifier accessTokenVerifier, AuthProperties authProperties) {
+        this(accessTokenVerifier, authProperties, Clock.systemUTC());
+    }
+
+    TokenIntrospectionServiceImpl(AccessTokenVerifier accessTokenVerifier, AuthProperties authProperties, Clock clock) {
+        this.accessTokenVerifier = accessTokenVerifier;
+        this.authProperties = authProperties;
+        this.clock = clock;
+    }
+
+    @Override
+    public Introspection introspect(List<String> tokens, boolean parallel) {
+        AuthProperties.Introspection properties = authProperties.getIntrospection();
+        if (tokens.size() > properties.getMaxTokens()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 확인할 수 있는 토큰은 최대 %d개입니다.".formatted(properties.getMaxTokens()));
+        }
+
+        List<String> distinct = tokens.stream()
+                .filter(token -> token != null && !token.isBlank())
+                .distinct()
+                .toList();
+        Stream<String> verifying = parallel && distinct.size() >= properties.getParallelThreshold()
+                ? distinct.parallelStream()
+                : distinct.stream();
+        Map<String, Result> verified = verifying.collect(Collectors.toMap(Function.identity(), this::verify));
+
+        List<Result> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(verified.getOrDefault(token, Result.inactive()));
+        }
+        return new Introspection(new TokenIntrospectionResponse(results), etag(results), maxAge(results, properties.getMaxAge()));
+    }
+
+    private Result verify(String token) {
+        TokenVerification verification = accessTokenVerifier.verify(token, null);
+        if (!verification.isValid()) {
+            return Result.inactive();
+        }
+        return Result.active(verification.subject(), verification.expiresAt());
+    }
+
+    // 결과 내용만으로 만들므로, 로그아웃이나 만료로 결과가 바뀌면 ETag 도 바뀜
+    private static String etag(List<Result> results) {
+        StringBuilder canonical = new StringBuilder(results.size() * 24);
+        for (Result result : results) {
+            if (result.active()) {
+                canonical.append(result.subject()).append('@').append(result.expiresAt().getEpochSecond());
+            }
+            canonical.append('\n');
+        }
+        return '"' + TokenDigest.of(canonical.toString()).toHex() + '"';
+    }
+
+    private Duration maxAge(List<Result> results, Duration configured) {
+        Instant now = clock.instant();
+        Duration maxAge = configured;
+        for (Result result : results) {
+            if (result.active()) {
+                Duration remaining = Duration.between(now, result.expiresAt());
+                if (remaining.compareTo(maxAge) < 0) {
+                    maxAge = remaining;
+                }
+            }
+        }
+        return maxAge.isNegative() ? Duration.ZERO : maxAge;
+    }
+}
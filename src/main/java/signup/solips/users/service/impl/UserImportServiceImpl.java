@@ -0,0 +1,331 @@
+package signup.solips.users.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.security.PasswordHashingExecutor;
+import signup.solips.users.dto.request.UserSignupRequestDto;
+import signup.solips.users.dto.response.UserImportResult;
+import signup.solips.users.dto.response.UserImportSummary;
+import signup.solips.users.entity.UserEntity;
+import signup.solips.users.repository.UserConstraints;
+import signup.solips.users.repository.UserMembershipIndex;
+import signup.solips.users.repository.UserRepository;
+import signup.solips.users.service.UserImportService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 명단 일괄 가입 서비스 구현체
+ *
+ * <p>명단을 app.auth.bulk-import.batch-size 행 단위로 읽어 처리하므로 명단 크기와 무관하게 메모리 사용량이 일정합니다.
+ *
+ * 행 묶음마다:
+ * <ul>
+ *   <li>{@link UserSignupRequestDto}와 같은 Bean Validation 규칙으로 검증</li>
+ *   <li>명단 내부 중복과 DB에 이미 있는 이메일/아이디를 IN 조회 한 번으로 제외 (사용 여부 색인에 없는 값은 조회 생략)</li>
+ *   <li>비밀번호를 {@link PasswordHashingExecutor}에서 병렬로 해시 (대기열의 절반은 일반 로그인/가입용으로 남김)</li>
+ *   <li>한 트랜잭션에서 JDBC 배치 INSERT, 그 사이 다른 요청이 같은 값으로 가입했다면 행 단위로 다시 저장</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final int MAX_HASH_SUBMIT_ATTEMPTS = 200;
+    private static final long HASH_WAIT_MILLIS = 25;
+    private static final String DUPLICATE_IN_ROSTER = "명단 안에서 중복되었습니다.";
+
+    private final UserRepository userRepository;
+    private final UserMembershipIndex userMembershipIndex;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final AuthProperties authProperties;
+
+    @Override
+    public UserImportSummary importRoster(Reader roster, Format format, Consumer<UserImportResult> sink) throws IOException {
+        long startedAt = System.nanoTime();
+        int batchSize = Math.max(1, authProperties.getBulkImport().getBatchSize());
+        RosterReader reader = new RosterReader(roster, format, objectMapper);
+        Tally tally = new Tally();
+
+        List<RosterReader.Row> chunk = new ArrayList<>(batchSize);
+        for (RosterReader.Row row = reader.next(); row != null; row = reader.next()) {
+            chunk.add(row);
+            if (chunk.size() == batchSize) {
+                importChunk(chunk, tally, sink);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, tally, sink);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("명단 일괄 가입 완료: total={}, created={}, invalid={}, duplicate={}, failed={}, elapsed={}ms",
+                tally.total, tally.created, tally.invalid, tally.duplicate, tally.failed, elapsedMillis);
+        return new UserImportSummary(tally.total, tally.created, tally.invalid, tally.duplicate, tally.failed, elapsedMillis);
+    }
+
+    private void importChunk(List<RosterReader.Row> rows, Tally tally, Consumer<UserImportResult> sink) {
+        UserImportResult[] results = new UserImportResult[rows.size()];
+        List<Integer> candidates = new ArrayList<>(rows.size());
+        Set<String> emails = new HashSet<>();
+        Set<String> userIds = new HashSet<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            RosterReader.Row row = rows.get(i);
+            UserSignupRequestDto request = row.request();
+            String error = row.error() != null ? row.error() : validate(request);
+            if (error != null) {
+                results[i] = rejected(row, UserImportResult.Status.INVALID, error);
+            } else if (emails.contains(request.getEmail())) {
+                results[i] = rejected(row, UserImportResult.Status.DUPLICATE_EMAIL, DUPLICATE_IN_ROSTER);
+            } else if (userIds.contains(request.getUserId())) {
+                results[i] = rejected(row, UserImportResult.Status.DUPLICATE_USER_ID, DUPLICATE_IN_ROSTER);
+            } else {
+                emails.add(request.getEmail());
+                userIds.add(request.getUserId());
+                candidates.add(i);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            excludeExisting(rows, candidates, emails, userIds, results);
+        }
+        if (!candidates.isEmpty()) {
+            insertAll(hashPasswords(rows, candidates, results), results);
+        }
+
+        for (UserImportResult result : results) {
+            tally.add(result);
+            sink.accept(result);
+        }
+    }
+
+    private String validate(UserSignupRequestDto request) {
+        Set<ConstraintViolation<UserSignupRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * 이미 가입된 이메일/아이디를 가진 행을 후보에서 제외합니다.
+     * 사용 여부 색인({@link UserMembershipIndex})에 확실히 없는 값은 IN 조회에서 뺍니다.
+     */
+    private void excludeExisting(List<RosterReader.Row> rows, List<Integer> candidates,
+                                 Set<String> emails, Set<String> userIds, UserImportResult[] results) {
+        Set<String> probableEmails = probablyExisting(UserMembershipIndex.Field.EMAIL, emails);
+        Set<String> probableUserIds = probablyExisting(UserMembershipIndex.Field.USER_ID, userIds);
+        Set<String> existingEmails = probableEmails.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingEmails(probableEmails));
+        Set<String> existingUserIds = probableUserIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingUserIds(probableUserIds));
+        if (existingEmails.isEmpty() && existingUserIds.isEmpty()) {
+            return;
+        }
+        candidates.removeIf(i -> {
+            RosterReader.Row row = rows.get(i);
+            if (existingEmails.contains(row.request().getEmail())) {
+                results[i] = rejected(row, UserImportResult.Status.DUPLICATE_EMAIL, ErrorCode.DUPLICATE_EMAIL.getMessage());
+                return true;
+            }
+            if (existingUserIds.contains(row.request().getUserId())) {
+                results[i] = rejected(row, UserImportResult.Status.DUPLICATE_USER_ID, ErrorCode.DUPLICATE_USER_ID.getMessage());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private Set<String> probablyExisting(UserMembershipIndex.Field field, Set<String> values) {
+        Set<String> probable = new HashSet<>();
+        for (String value : values) {
+            if (userMembershipIndex.mightContain(field, value)) {
+                probable.add(value);
+            }
+        }
+        return probable;
+    }
+
+    /**
+     * 후보 행의 비밀번호를 병렬로 해시합니다.
+     *
+     * <p>해시 대기열이 절반 이상 차 있으면 먼저 제출한 작업이 끝날 때까지 기다렸다가 제출하므로,
+     * 일괄 가입 중에도 일반 로그인/가입 요청이 503으로 거절되지 않습니다.
+     */
+    private List<PendingUser> hashPasswords(List<RosterReader.Row> rows, List<Integer> candidates, UserImportResult[] results) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            hashes.add(submitHash(rows.get(i).request().getPassword(), hashes));
+        }
+
+        List<PendingUser> pending = new ArrayList<>(candidates.size());
+        for (int n = 0; n < candidates.size(); n++) {
+            int i = candidates.get(n);
+            RosterReader.Row row = rows.get(i);
+            try {
+                pending.add(new PendingUser(i, row.line(), row.request().getEmail(), row.request().getUserId(), hashes.get(n).join()));
+            } catch (CompletionException e) {
+                log.warn("일괄 가입 비밀번호 해시 실패: line={}, reason={}", row.line(), e.getCause().getMessage());
+                results[i] = rejected(row, UserImportResult.Status.FAILED, e.getCause().getMessage());
+            }
+        }
+        return pending;
+    }
+
+    private CompletableFuture<String> submitHash(String rawPassword, List<CompletableFuture<String>> submitted) {
+        for (int attempt = 1; ; attempt++) {
+            if (passwordHashingExecutor.hasSpareCapacity() || attempt == MAX_HASH_SUBMIT_ATTEMPTS) {
+                CompletableFuture<String> hash = passwordHashingExecutor.encode(rawPassword);
+                if (!hash.isCompletedExceptionally() || attempt == MAX_HASH_SUBMIT_ATTEMPTS) {
+                    return hash;
+                }
+            }
+            awaitOldestPending(submitted);
+        }
+    }
+
+    private void awaitOldestPending(List<CompletableFuture<String>> submitted) {
+        try {
+            for (CompletableFuture<String> hash : submitted) {
+                if (!hash.isDone()) {
+                    hash.get(HASH_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            }
+            Thread.sleep(HASH_WAIT_MILLIS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 실패한 작업은 결과를 모을 때 행 단위로 보고합니다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 배치 INSERT 합니다.
+     * 사전 확인 이후 다른 요청이 같은 이메일/아이디로 가입해 유니크 제약에 걸리면 행 단위로 다시 저장합니다.
+     */
+    private void insertAll(List<PendingUser> pending, UserImportResult[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<UserEntity> saved = transactionTemplate.execute(status -> {
+                List<UserEntity> users = userRepository.saveAll(pending.stream().map(PendingUser::toEntity).toList());
+                userRepository.flush();
+                return users;
+            });
+            for (int n = 0; n < pending.size(); n++) {
+                results[pending.get(n).index()] = pending.get(n).created(saved.get(n).getId());
+                userMembershipIndex.add(pending.get(n).userId(), pending.get(n).email());
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.info("일괄 가입 배치 INSERT 중 중복 발생, 행 단위로 재시도: rows={}", pending.size());
+            for (PendingUser user : pending) {
+                results[user.index()] = insertOne(user);
+            }
+        }
+    }
+
+    private UserImportResult insertOne(PendingUser user) {
+        try {
+            UserEntity saved = userRepository.saveAndFlush(user.toEntity());
+            userMembershipIndex.add(saved.getUserId(), saved.getEmail());
+            return user.created(saved.getId());
+        } catch (DataIntegrityViolationException e) {
+            return UserConstraints.duplicateErrorCode(e)
+                    .map(errorCode -> user.rejected(errorCode == ErrorCode.DUPLICATE_EMAIL
+                            ? UserImportResult.Status.DUPLICATE_EMAIL
+                            : UserImportResult.Status.DUPLICATE_USER_ID, errorCode.getMessage()))
+                    .orElseGet(() -> user.rejected(UserImportResult.Status.FAILED, e.getMostSpecificCause().getMessage()));
+        } catch (DataAccessException e) {
+            log.warn("일괄 가입 저장 실패: line={}, reason={}", user.line(), e.getMessage());
+            return user.rejected(UserImportResult.Status.FAILED, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    private static UserImportResult rejected(RosterReader.Row row, UserImportResult.Status status, String message) {
+        UserSignupRequestDto request = row.request();
+        return UserImportResult.rejected(row.line(),
+                request != null ? request.getEmail() : null,
+                request != null ? request.getUserId() : null,
+                status, message);
+    }
+
+    /**
+     * 해시까지 끝나 저장을 기다리는 행
+     */
+    private record PendingUser(int index, long line, String email, String userId, String passwordHash) {
+        UserEntity toEntity() {
+            return UserEntity.builder()
+                    .email(email)
+                    .userId(userId)
+                    .password(passwordHash)
+                    .build();
+        }
+
+        UserImportResult created(Long id) {
+            return UserImportResult.created(line, email, userId, id);
+        }
+
+        UserImportResult rejected(UserImportResult.Status status, String message) {
+            return UserImportResult.rejected(line, email, userId, status, message);
+        }
+    }
+
+    private static final class Tally {
+        private long total;
+        private long created;
+        private long invalid;
+        private long duplicate;
+        private long failed;
+
+        void add(UserImportResult result) {
+            total++;
+            switch (result.status()) {
+                case CREATED -> created++;
+                case INVALID -> invalid++;
+                case DUPLICATE_EMAIL, DUPLICATE_USER_ID -> duplicate++;
+                case FAILED -> failed++;
+            }
+        }
+    }
+}
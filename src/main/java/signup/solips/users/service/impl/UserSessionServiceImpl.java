@@ -0,0 +1,76 @@
+package signup.solips.users.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import signup.solips.users.repository.RefreshTokenStore;
+import signup.solips.users.repository.UserCredentialCache;
+import signup.solips.users.service.UserSessionService;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 세션 서비스 구현체
+ *
+ * <p>{@link UserSessionService}를 구현하며, 세션 상태는 설정으로 선택한 {@link RefreshTokenStore}에 저장합니다.
+ *
+ * 주요 기능:
+ * <ul>
+ *   <li>로그인 시 세션 생성, app.auth.session.max-per-user 초과 시 가장 오래된 세션 제거</li>
+ *   <li>리프레시 토큰 회전</li>
+ *   <li>세션 하나 또는 사용자의 모든 세션 폐기</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class UserSessionServiceImpl implements UserSessionService {
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserCredentialCache userCredentialCache;
+
+    @Override
+    public void createSession(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt) {
+        refreshTokenStore.create(userId, sessionId, tokenHash, expiresAt);
+    }
+
+    @Override
+    public boolean rotate(String userId, String sessionId, String tokenHash, String newTokenHash, LocalDateTime newExpiresAt) {
+        return refreshTokenStore.rotate(userId, sessionId, tokenHash, newTokenHash, newExpiresAt);
+    }
+
+    @Override
+    public boolean claimLegacySession(String userId, String refreshToken, String tokenHash,
+                                      String sessionId, String newTokenHash, LocalDateTime newExpiresAt) {
+        boolean claimed = refreshTokenStore.claimLegacy(userId, refreshToken, tokenHash, sessionId, newTokenHash, newExpiresAt);
+        if (claimed) {
+            log.info("레거시 리프레시 토큰을 세션으로 이전: userId={}, sessionId={}", userId, sessionId);
+        }
+        return claimed;
+    }
+
+    @Override
+    public void revokeSession(String userId, String sessionId) {
+        refreshTokenStore.revoke(userId, sessionId);
+    }
+
+    @Override
+    public boolean revokeSessionByToken(String userId, String tokenHash) {
+        return refreshTokenStore.revokeByToken(userId, tokenHash);
+    }
+
+    /**
+     * 모든 기기에서 로그아웃
+     *
+     * <p>사용자의 모든 세션을 삭제하고, 다음 로그인은 DB에서 다시 읽도록 캐시된 사용자 정보도 무효화합니다.
+     */
+    @Override
+    public void revokeAllSessions(String userId) {
+        userCredentialCache.invalidate(userId);
+        refreshTokenStore.revokeAll(userId);
+    }
+}
@@ -0,0 +1,25 @@
+package signup.solips;
+
+import org.springframework.boot.SpringApplication;
+
+/**
+ * reactive 실행 파일(bootJarReactive) 진입점
+ *
+ * <p>서블릿 실행과 같은 {@link SolipsProjectApplication} 설정으로 띄우되 reactive 프로필을 켜서,
+ * 클래스패스에 함께 들어 있는 서블릿/JPA 전용 빈(@Profile("!reactive"))이 등록되지 않게 합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+public final class SolipsReactiveApplication {
+
+	private SolipsReactiveApplication() {
+	}
+
+	public static void main(String[] args) {
+		SpringApplication application = new SpringApplication(SolipsProjectApplication.class);
+		application.setAdditionalProfiles("reactive");
+		application.run(args);
+	}
+
+}
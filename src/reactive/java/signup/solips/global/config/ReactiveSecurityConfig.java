@@ -0,0 +1,80 @@
+package signup.solips.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.security.AccessTokenVerifier;
+import signup.solips.global.security.CalibratedPasswordEncoder;
+import signup.solips.global.security.ReactiveJwtAuthenticationFilter;
+
+/**
+ * Spring Security 설정 (WebFlux)
+ *
+ * <p>reactive 프로필에서 {@link SecurityConfig}와 같은 인증 정책을 적용합니다.
+ *
+ * <p>주요 기능:
+ * <ul>
+ *   <li>CSRF, HTTP Basic, 폼 로그인 비활성화</li>
+ *   <li>인증 정보를 세션에 저장하지 않음 (요청마다 JWT 로 인증)</li>
+ *   <li>인증 없이 접근 가능한 경로, 관리자 경로, 토큰 일괄 확인 경로, Prometheus 수집 경로의 권한은 서블릿 설정과 동일</li>
+ *   <li>인증되지 않은 요청은 서블릿과 같이 403 으로 응답</li>
+ *   <li>{@link ReactiveJwtAuthenticationFilter}를 인증 단계에 추가</li>
+ * </ul>
+ *
+ * <p>동시 처리 제한 필터({@link signup.solips.global.security.ConcurrencyLimitFilter})는 스레드 풀 보호용이므로 적용하지 않습니다.
+ * 요청을 이벤트 루프에서 처리하고, BCrypt 대기열과 R2DBC 풀이 각각 한도를 가집니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Configuration
+@EnableWebFluxSecurity
+@Profile("reactive")
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(AuthProperties authProperties) {
+        return new CalibratedPasswordEncoder(authProperties.getPassword());
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, AccessTokenVerifier accessTokenVerifier) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(
+                                "/solips/auth/signup",
+                                "/solips/auth/login",
+                                "/solips/auth/logout",
+                                "/solips/auth/refresh",
+                                "/solips/auth/check-userid",
+                                "/solips/auth/check-email",
+                                "/actuator/health"
+                        ).permitAll()
+                        .pathMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS")
+                        .pathMatchers("/solips/auth/introspect").hasAnyRole("ADMIN", "INTROSPECT")
+                        .pathMatchers("/solips/admin/**").hasRole("ADMIN")
+                        .anyExchange().authenticated()
+                )
+
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(accessTokenVerifier),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package signup.solips.global.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import signup.solips.global.profiling.TokenFilterEvent;
+
+/**
+ * JWT 인증 필터 (WebFlux)
+ *
+ * <p>reactive 프로필에서 {@link JwtAuthenticationFilter}와 같은 경로 규칙과 검증 단계({@link AccessTokenVerifier})로
+ * Bearer 토큰을 확인하고, 유효하면 인증 정보를 Reactor 컨텍스트({@link ReactiveSecurityContextHolder})에 넣습니다.
+ *
+ * <p>WebFilter 빈으로 등록하면 시큐리티 체인 밖의 전역 필터로도 한 번 더 실행되므로,
+ * 빈으로 만들지 않고 {@link signup.solips.global.config.ReactiveSecurityConfig}에서 체인에만 추가합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final AccessTokenVerifier accessTokenVerifier;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (AccessTokenVerifier.skipsAuthentication(path)) {
+            return chain.filter(exchange);
+        }
+
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        TokenFilterEvent event = new TokenFilterEvent();
+        event.begin();
+        TokenVerification verification = accessTokenVerifier.verify(authorizationHeader.substring(7), event);
+        event.complete(path, verification.status().name(), verification.subject());
+
+        if (!verification.isValid() || verification.subject() == null) {
+            log.debug("JWT 토큰 검증 실패: {}", verification.status());
+            return chain.filter(exchange);
+        }
+
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                verification.subject(),
+                null,
+                accessTokenVerifier.authoritiesFor(verification.subject())
+        );
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authenticationToken));
+    }
+}
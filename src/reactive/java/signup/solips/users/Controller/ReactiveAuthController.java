@@ -0,0 +1,155 @@
+package signup.solips.users.Controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.security.LoginThrottle;
+import signup.solips.users.dto.request.LogoutRequestDto;
+import signup.solips.users.dto.request.RefreshTokenRequestDto;
+import signup.solips.users.dto.request.TokenIntrospectionRequestDto;
+import signup.solips.users.dto.request.UserLoginRequestDto;
+import signup.solips.users.dto.request.UserSignupRequestDto;
+import signup.solips.users.dto.response.AvailabilityResponse;
+import signup.solips.users.dto.response.TokenIntrospectionResponse;
+import signup.solips.users.dto.response.TokenResponse;
+import signup.solips.users.dto.response.UserInfo;
+import signup.solips.users.dto.response.UserLoginResponseDto;
+import signup.solips.users.service.ReactiveAuthService;
+import signup.solips.users.service.TokenIntrospectionService;
+
+import java.net.InetSocketAddress;
+
+/**
+ * 인증 관련 API 컨트롤러 (WebFlux)
+ *
+ * <p>reactive 프로필에서 {@link AuthController}와 같은 경로, 요청/응답 형식, 상태 코드로 인증 요청을 처리합니다.
+ * 각 요청은 {@link ReactiveAuthService}에 위임되며, 로그인과 아이디/이메일 중복 확인은 서블릿과 같이 {@link LoginThrottle}을 먼저 거칩니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/solips/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+    private final ReactiveAuthService authService;
+    private final LoginThrottle loginThrottle;
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<UserInfo>> signup(@Valid @RequestBody UserSignupRequestDto request) {
+        return authService.signup(request)
+                .map(userInfo -> ResponseEntity.status(HttpStatus.CREATED).body(userInfo));
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<UserLoginResponseDto>> login(@Valid @RequestBody UserLoginRequestDto request,
+                                                            ServerHttpRequest httpRequest) {
+        loginThrottle.acquire(request.getUserId(), remoteAddress(httpRequest));
+        return authService.login(request)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 로그아웃
+     *
+     * @see AuthController#logout
+     */
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(Authentication authentication,
+                                             @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                             @RequestBody(required = false) LogoutRequestDto request) {
+        Mono<Void> revoked;
+        if (request != null && request.getRefreshToken() != null && !request.getRefreshToken().isBlank()) {
+            revoked = authService.logoutSession(request.getRefreshToken());
+        } else if (authentication != null) {
+            revoked = authService.logout(authentication.getName());
+        } else {
+            return Mono.error(new CustomException(ErrorCode.INVALID_TOKEN));
+        }
+        return revoked.then(Mono.fromCallable(() -> {
+            if (authentication != null && authorization != null && authorization.startsWith("Bearer ")) {
+                authService.revokeAccessToken(authorization.substring(7));
+            }
+            return ResponseEntity.ok().<Void>build();
+        }));
+    }
+
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<TokenResponse>> refreshToken(@Valid @RequestBody RefreshTokenRequestDto request) {
+        return authService.refreshToken(request.getRefreshToken())
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/check-userid")
+    public Mono<ResponseEntity<AvailabilityResponse>> checkUserId(@RequestParam(required = false) String userId,
+                                                                  ServerHttpRequest httpRequest) {
+        if (userId == null || userId.isBlank()) {
+            return Mono.error(new CustomException(ErrorCode.MISSING_INPUT_VALUE, "아이디는 필수입니다."));
+        }
+        loginThrottle.acquireLookup(remoteAddress(httpRequest));
+        return authService.isUserIdAvailable(userId)
+                .map(available -> ResponseEntity.ok(new AvailabilityResponse(userId, available)));
+    }
+
+    @GetMapping("/check-email")
+    public Mono<ResponseEntity<AvailabilityResponse>> checkEmail(@RequestParam(required = false) String email,
+                                                                 ServerHttpRequest httpRequest) {
+        if (email == null || email.isBlank()) {
+            return Mono.error(new CustomException(ErrorCode.MISSING_INPUT_VALUE, "이메일은 필수입니다."));
+        }
+        loginThrottle.acquireLookup(remoteAddress(httpRequest));
+        return authService.isEmailAvailable(email)
+                .map(available -> ResponseEntity.ok(new AvailabilityResponse(email, available)));
+    }
+
+    /**
+     * Access Token 일괄 확인
+     *
+     * <p>토큰 검증은 DB 를 거치지 않는 CPU 작업이므로 서블릿과 같은 {@link TokenIntrospectionService}를 사용하되,
+     * 이벤트 루프를 비우도록 {@link Schedulers#parallel()}에서 실행합니다.
+     * parallel 스레드도 멈추면 안 되는 reactor 스레드이므로 ForkJoinPool 병렬 확인(join 대기)은 쓰지 않고,
+     * 큰 요청 여러 개가 parallel 스레드들에 나뉘어 코어를 함께 씁니다.
+     *
+     * @see AuthController#introspect
+     */
+    @PostMapping("/introspect")
+    public Mono<ResponseEntity<TokenIntrospectionResponse>> introspect(@Valid @RequestBody TokenIntrospectionRequestDto request,
+                                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return Mono.fromCallable(() -> {
+            TokenIntrospectionService.Introspection introspection = tokenIntrospectionService.introspect(request.getTokens(), false);
+            CacheControl cacheControl = CacheControl.maxAge(introspection.maxAge()).cachePrivate();
+            if (introspection.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(introspection.etag())
+                        .cacheControl(cacheControl)
+                        .<TokenIntrospectionResponse>build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(introspection.etag())
+                    .cacheControl(cacheControl)
+                    .body(introspection.response());
+        }).subscribeOn(Schedulers.parallel());
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return "unknown";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
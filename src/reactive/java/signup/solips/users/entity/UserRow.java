@@ -0,0 +1,26 @@
+package signup.solips.users.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 행 (R2DBC)
+ *
+ * <p>reactive 프로필에서 {@link UserEntity}와 같은 users 테이블을 Spring Data R2DBC 로 읽기 위한 매핑입니다.
+ * R2DBC 는 ID 할당기를 지원하지 않으므로 저장은 id를 직접 지정한 INSERT 쿼리로만 하며,
+ * 리프레시 토큰 관련 (레거시) 컬럼은 매핑하지 않습니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Table("users")
+public record UserRow(
+        @Id Long id,
+        String email,
+        @Column("user_id") String userId,
+        String password,
+        @Column("create_at") LocalDateTime createdAt
+) {}
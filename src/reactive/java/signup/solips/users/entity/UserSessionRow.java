@@ -0,0 +1,26 @@
+package signup.solips.users.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 세션 행 (R2DBC)
+ *
+ * <p>reactive 프로필에서 {@link UserSessionEntity}와 같은 user_sessions 테이블을 Spring Data R2DBC 로 읽기 위한 매핑입니다.
+ * 세션 ID를 애플리케이션에서 만들기 때문에 저장은 INSERT 쿼리로만 합니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Table("user_sessions")
+public record UserSessionRow(
+        @Id @Column("session_id") String sessionId,
+        @Column("user_id") String userId,
+        @Column("token_hash") String tokenHash,
+        @Column("expires_at") LocalDateTime expiresAt,
+        @Column("last_used_at") LocalDateTime lastUsedAt,
+        @Column("created_at") LocalDateTime createdAt
+) {}
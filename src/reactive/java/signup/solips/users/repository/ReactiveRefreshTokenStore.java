@@ -0,0 +1,80 @@
+package signup.solips.users.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import signup.solips.global.AuthProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * user_sessions 테이블 기반 리프레시 토큰 저장소 (R2DBC)
+ *
+ * <p>reactive 프로필에서 {@link JpaRefreshTokenStore}와 같은 규칙으로 세션을 저장합니다.
+ * 세션 생성과 오래된 세션 제거, 모든 세션 폐기는 {@link TransactionalOperator}로 한 트랜잭션에서 처리합니다.
+ *
+ * <p>users 테이블에 남은 레거시 토큰의 이전과 쓰기 지연(write-behind)은 지원하지 않습니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenStore {
+    private final ReactiveUserSessionRepository userSessionRepository;
+    private final ReactiveUserRepository userRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final AuthProperties authProperties;
+
+    /**
+     * 새 세션을 저장한 뒤, 사용자의 세션 수가 최대치를 넘으면 가장 오래된 세션부터 제거합니다.
+     */
+    public Mono<Void> create(String userId, String sessionId, String tokenHash, LocalDateTime expiresAt) {
+        return userSessionRepository.insert(sessionId, userId, tokenHash, expiresAt, LocalDateTime.now())
+                .then(evictOldestSessions(userId, sessionId))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Boolean> rotate(String userId, String sessionId, String tokenHash, String newTokenHash, LocalDateTime newExpiresAt) {
+        return userSessionRepository.rotateToken(sessionId, tokenHash, newTokenHash, newExpiresAt, LocalDateTime.now())
+                .map(updated -> updated > 0);
+    }
+
+    public Mono<Void> revoke(String userId, String sessionId) {
+        return userSessionRepository.deleteBySessionIdAndUserId(sessionId, userId).then();
+    }
+
+    public Mono<Boolean> revokeByToken(String userId, String tokenHash) {
+        return userSessionRepository.deleteByTokenHash(tokenHash).map(deleted -> deleted > 0);
+    }
+
+    /**
+     * 사용자의 모든 세션과 users 테이블에 남은 레거시 토큰을 함께 삭제합니다.
+     */
+    public Mono<Void> revokeAll(String userId) {
+        return userSessionRepository.deleteAllByUserId(userId)
+                .then(userRepository.clearRefreshToken(userId))
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+
+    // 방금 만든 세션은 생성 시각이 같은 세션이 있어도 제거 대상에서 제외
+    private Mono<Void> evictOldestSessions(String userId, String newSessionId) {
+        int maxOthers = Math.max(1, authProperties.getSession().getMaxPerUser()) - 1;
+        return userSessionRepository.findSessionIdsNewestFirst(userId)
+                .filter(id -> !id.equals(newSessionId))
+                .skip(maxOthers)
+                .collectList()
+                .flatMap(evicted -> evicted.isEmpty()
+                        ? Mono.empty()
+                        : userSessionRepository.deleteAllBySessionIdIn(evicted)
+                        .doOnNext(deleted -> log.info("최대 세션 수 초과로 오래된 세션 제거: userId={}, evicted={}",
+                                userId, evicted.size())))
+                .then();
+    }
+}
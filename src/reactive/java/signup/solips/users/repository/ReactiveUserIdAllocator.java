@@ -0,0 +1,113 @@
+package signup.solips.users.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import signup.solips.users.entity.UserEntity;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * users.id 할당기 (R2DBC)
+ *
+ * <p>R2DBC 에는 JPA 의 테이블 할당기가 없으므로, Hibernate 가 사용하는 {@value UserEntity#ID_TABLE} 행을
+ * 같은 방식으로 읽고 갱신해 서블릿 인스턴스와 id 블록이 겹치지 않게 합니다.
+ * <ul>
+ *   <li>next_val 을 읽고, 값이 그대로일 때만 {@value UserEntity#ID_ALLOCATION_SIZE}만큼 올리는 조건부 UPDATE (실패 시 다시 시도)</li>
+ *   <li>읽은 값이 v 이면 (v - 49) ~ v 를 사용 (Hibernate pooled 최적화기와 같은 해석)</li>
+ * </ul>
+ *
+ * <p>블록이 소진되면 여러 요청이 동시에 와도 새 블록은 한 번만 요청하며, 나머지는 그 결과를 기다립니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveUserIdAllocator {
+
+    private static final int MAX_CLAIM_ATTEMPTS = 10;
+
+    private final DatabaseClient databaseClient;
+    private final AtomicReference<Block> current = new AtomicReference<>(Block.EMPTY);
+    private final AtomicReference<Mono<Block>> claiming = new AtomicReference<>();
+
+    public ReactiveUserIdAllocator(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            Block block = current.get();
+            long id = block.take();
+            if (id > 0) {
+                return Mono.just(id);
+            }
+            return refill(block).then(nextId());
+        });
+    }
+
+    private Mono<Block> refill(Block exhausted) {
+        Block latest = current.get();
+        if (latest != exhausted) {
+            return Mono.just(latest);
+        }
+        Mono<Block> pending = claiming.get();
+        if (pending != null) {
+            return pending;
+        }
+        Mono<Block> claim = claimBlock()
+                .doOnNext(current::set)
+                .doFinally(signal -> claiming.set(null))
+                .cache();
+        return claiming.compareAndSet(null, claim) ? claim : refill(exhausted);
+    }
+
+    private Mono<Block> claimBlock() {
+        return databaseClient.sql("SELECT next_val FROM " + UserEntity.ID_TABLE + " WHERE sequence_name = :name")
+                .bind("name", UserEntity.ID_SEQUENCE_NAME)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        UserEntity.ID_TABLE + " 에 " + UserEntity.ID_SEQUENCE_NAME + " 행이 없습니다")))
+                .flatMap(value -> databaseClient.sql("UPDATE " + UserEntity.ID_TABLE
+                                + " SET next_val = :next WHERE sequence_name = :name AND next_val = :current")
+                        .bind("next", value + UserEntity.ID_ALLOCATION_SIZE)
+                        .bind("name", UserEntity.ID_SEQUENCE_NAME)
+                        .bind("current", value)
+                        .fetch()
+                        .rowsUpdated()
+                        .filter(updated -> updated > 0)
+                        .map(updated -> new Block(value - UserEntity.ID_ALLOCATION_SIZE + 1, value)))
+                .repeatWhenEmpty(MAX_CLAIM_ATTEMPTS, attempts -> attempts)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("users id 블록 할당 경합이 계속됨")))
+                .doOnNext(block -> log.debug("users id 블록 할당: {}~{}", block.first, block.last));
+    }
+
+    /**
+     * 할당받은 id 구간 [first, last]
+     */
+    private static final class Block {
+        static final Block EMPTY = new Block(1, 0);
+
+        private final long first;
+        private final long last;
+        private final AtomicLong next;
+
+        Block(long first, long last) {
+            this.first = first;
+            this.last = last;
+            this.next = new AtomicLong(first);
+        }
+
+        // 소진되었으면 -1
+        long take() {
+            long id = next.getAndIncrement();
+            return id <= last ? id : -1;
+        }
+    }
+}
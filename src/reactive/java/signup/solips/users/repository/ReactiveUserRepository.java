@@ -0,0 +1,57 @@
+package signup.solips.users.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Mono;
+import signup.solips.users.entity.UserRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 Repository (R2DBC)
+ *
+ * <p>reactive 프로필에서 {@link UserRepository} 대신 사용하는 논블로킹 Repository 입니다.
+ * 같은 users 테이블을 사용하며, 인증 API 에 필요한 쿼리만 제공합니다.
+ *
+ * 주요 기능:
+ * <ul>
+ *   <li>findCredentialsByUserId - 로그인 검증에 필요한 컬럼만 조회</li>
+ *   <li>existsByUserId / existsByEmail - 중복 체크</li>
+ *   <li>insert - {@link ReactiveUserIdAllocator}가 할당한 id로 사용자 저장</li>
+ *   <li>clearRefreshToken - (레거시) 리프레시 토큰 삭제</li>
+ *   <li>updatePassword - 저장된 해시가 그대로일 때만 비밀번호 해시 교체</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+public interface ReactiveUserRepository extends R2dbcRepository<UserRow, Long> {
+
+    @Query("SELECT id, user_id, email, password AS password_hash FROM users WHERE user_id = :userId")
+    Mono<UserCredentials> findCredentialsByUserId(@Param("userId") String userId);
+
+    Mono<Boolean> existsByUserId(String userId);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    @Modifying
+    @Query("INSERT INTO users (id, email, user_id, password, create_at) VALUES (:id, :email, :userId, :password, :createdAt)")
+    Mono<Long> insert(@Param("id") Long id,
+                      @Param("email") String email,
+                      @Param("userId") String userId,
+                      @Param("password") String password,
+                      @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE users SET refresh_token = NULL, refresh_token_hash = NULL, refresh_token_family = NULL, " +
+            "refresh_token_expires_at = NULL WHERE user_id = :userId")
+    Mono<Long> clearRefreshToken(@Param("userId") String userId);
+
+    @Modifying
+    @Query("UPDATE users SET password = :newPassword WHERE user_id = :userId AND password = :currentPassword")
+    Mono<Long> updatePassword(@Param("userId") String userId,
+                              @Param("currentPassword") String currentPassword,
+                              @Param("newPassword") String newPassword);
+}
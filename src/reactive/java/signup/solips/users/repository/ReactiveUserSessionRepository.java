@@ -0,0 +1,67 @@
+package signup.solips.users.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import signup.solips.users.entity.UserSessionRow;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 사용자 세션 Repository (R2DBC)
+ *
+ * <p>reactive 프로필에서 {@link UserSessionRepository} 대신 사용하는 논블로킹 Repository 입니다.
+ * 쿼리와 조건은 JPA 쪽과 같으며, 수정 쿼리는 반영된 행 수를 돌려줍니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+public interface ReactiveUserSessionRepository extends R2dbcRepository<UserSessionRow, String> {
+
+    @Modifying
+    @Query("INSERT INTO user_sessions (session_id, user_id, token_hash, expires_at, created_at) " +
+            "VALUES (:sessionId, :userId, :tokenHash, :expiresAt, :createdAt)")
+    Mono<Long> insert(@Param("sessionId") String sessionId,
+                      @Param("userId") String userId,
+                      @Param("tokenHash") String tokenHash,
+                      @Param("expiresAt") LocalDateTime expiresAt,
+                      @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT session_id FROM user_sessions WHERE user_id = :userId ORDER BY created_at DESC")
+    Flux<String> findSessionIdsNewestFirst(@Param("userId") String userId);
+
+    /**
+     * 조건부 UPDATE 한 번으로 세션의 리프레시 토큰을 회전합니다.
+     *
+     * @return 1이면 회전 성공, 0이면 현재 토큰이 아니거나(재사용) 만료되었거나 폐기된 세션
+     */
+    @Modifying
+    @Query("UPDATE user_sessions SET token_hash = :newTokenHash, expires_at = :newExpiresAt, last_used_at = :now " +
+            "WHERE session_id = :sessionId AND token_hash = :tokenHash AND expires_at > :now")
+    Mono<Long> rotateToken(@Param("sessionId") String sessionId,
+                           @Param("tokenHash") String tokenHash,
+                           @Param("newTokenHash") String newTokenHash,
+                           @Param("newExpiresAt") LocalDateTime newExpiresAt,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM user_sessions WHERE session_id = :sessionId AND user_id = :userId")
+    Mono<Long> deleteBySessionIdAndUserId(@Param("sessionId") String sessionId,
+                                          @Param("userId") String userId);
+
+    @Modifying
+    @Query("DELETE FROM user_sessions WHERE token_hash = :tokenHash")
+    Mono<Long> deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM user_sessions WHERE session_id IN (:sessionIds)")
+    Mono<Long> deleteAllBySessionIdIn(@Param("sessionIds") Collection<String> sessionIds);
+
+    @Modifying
+    @Query("DELETE FROM user_sessions WHERE user_id = :userId")
+    Mono<Long> deleteAllByUserId(@Param("userId") String userId);
+}
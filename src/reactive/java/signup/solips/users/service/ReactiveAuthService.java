@@ -0,0 +1,44 @@
+package signup.solips.users.service;
+
+import reactor.core.publisher.Mono;
+import signup.solips.users.dto.request.UserLoginRequestDto;
+import signup.solips.users.dto.request.UserSignupRequestDto;
+import signup.solips.users.dto.response.TokenResponse;
+import signup.solips.users.dto.response.UserInfo;
+import signup.solips.users.dto.response.UserLoginResponseDto;
+
+/**
+ * 인증 서비스 인터페이스 (WebFlux)
+ *
+ * <p>reactive 프로필에서 {@link AuthService}와 같은 기능을 {@link Mono}로 제공합니다.
+ * 각 메서드의 의미와 오류는 {@link AuthService}와 같습니다.
+ *
+ * @author Jeongjunyun777
+ */
+
+public interface ReactiveAuthService {
+    // 회원가입
+    Mono<UserInfo> signup(UserSignupRequestDto request);
+
+    // 로그인
+    Mono<UserLoginResponseDto> login(UserLoginRequestDto request);
+
+    // 로그아웃 (모든 기기)
+    Mono<Void> logout(String userId);
+
+    // 로그아웃 (현재 기기)
+    Mono<Void> logoutSession(String refreshToken);
+
+    // 액세스 토큰 폐기 (메모리 내 목록만 갱신하므로 바로 실행)
+    void revokeAccessToken(String accessToken);
+
+    // 토큰 갱신
+    Mono<TokenResponse> refreshToken(String refreshToken);
+
+    // 아이디 중복 체크
+    Mono<Boolean> isUserIdAvailable(String userId);
+
+    // 이메일 중복 체크
+    Mono<Boolean> isEmailAvailable(String email);
+
+}
@@ -0,0 +1,280 @@
+package signup.solips.users.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import signup.solips.global.config.JwtUtil;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.global.security.AccessTokenCache;
+import signup.solips.global.security.AccessTokenRevocationList;
+import signup.solips.global.security.PasswordHashingExecutor;
+import signup.solips.global.security.TokenDigest;
+import signup.solips.global.security.TokenVerification;
+import signup.solips.users.dto.request.UserLoginRequestDto;
+import signup.solips.users.dto.request.UserSignupRequestDto;
+import signup.solips.users.dto.response.TokenResponse;
+import signup.solips.users.dto.response.UserInfo;
+import signup.solips.users.dto.response.UserLoginResponseDto;
+import signup.solips.users.repository.ReactiveRefreshTokenStore;
+import signup.solips.users.repository.ReactiveUserIdAllocator;
+import signup.solips.users.repository.ReactiveUserRepository;
+import signup.solips.users.repository.UserConstraints;
+import signup.solips.users.repository.UserCredentials;
+import signup.solips.users.service.ReactiveAuthService;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 인증 서비스 구현체 (WebFlux)
+ *
+ * <p>{@link ReactiveAuthService}를 구현하며, {@link AuthServiceImpl}과 같은 순서와 규칙으로 처리합니다.
+ * DB 접근은 R2DBC 로 이벤트 루프를 막지 않고, BCrypt 연산은 크기가 제한된 {@link PasswordHashingExecutor}에서만 수행합니다.
+ * 해시가 끝나면 {@link Schedulers#parallel()}로 넘어가 해시 스레드를 바로 돌려줍니다.
+ *
+ * <p>서블릿 구현과 다른 점:
+ * <ul>
+ *   <li>사용 여부 색인과 로그인 정보 캐시 없이 DB를 바로 조회</li>
+ *   <li>users 테이블에 남은 레거시 리프레시 토큰은 이전하지 않음 (서블릿 인스턴스가 이전)</li>
+ *   <li>JFR 요청 이벤트는 남기지 않고 {@link AuthMetrics} 지표만 기록</li>
+ * </ul>
+ *
+ * @author Jeongjunyun777
+ */
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveUserIdAllocator userIdAllocator;
+    private final ReactiveRefreshTokenStore refreshTokenStore;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final JwtUtil jwtUtil;
+    private final AccessTokenCache accessTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 회원가입 처리
+     *
+     * <p>비밀번호를 암호화하고 id를 할당받아 바로 INSERT 하며, 유니크 제약 위반을 중복 오류로 변환합니다.
+     */
+
+    @Override
+    public Mono<UserInfo> signup(UserSignupRequestDto request) {
+        log.info("회원가입 시도: userId={}, email={}", request.getUserId(), request.getEmail());
+
+        return hash(() -> passwordHashingExecutor.encode(request.getPassword()))
+                .flatMap(password -> userIdAllocator.nextId()
+                        .flatMap(id -> timed(AuthMetrics.Query.INSERT_USER, userRepository.insert(
+                                id,
+                                request.getEmail(),
+                                request.getUserId(),
+                                password,
+                                LocalDateTime.now()))
+                                .thenReturn(new UserInfo(id, request.getEmail(), request.getUserId()))))
+                .onErrorMap(DataIntegrityViolationException.class, e -> UserConstraints.duplicateErrorCode(e)
+                        .<Throwable>map(CustomException::new)
+                        .orElse(e))
+                .doOnNext(userInfo -> log.info("회원가입 성공 : user_id={}, email={}", userInfo.id(), userInfo.email()));
+    }
+
+    /**
+     * 로그인 처리
+     *
+     * <p>사용자 아이디와 비밀번호를 검증하고, 유효하면 세션을 만들고 액세스 토큰과 리프레시 토큰을 발급합니다.
+     */
+
+    @Override
+    public Mono<UserLoginResponseDto> login(UserLoginRequestDto request) {
+        return timed(AuthMetrics.Query.FIND_USER_BY_USER_ID, userRepository.findCredentialsByUserId(request.getUserId()))
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.INVALID_CREDENTIALS)))
+                .flatMap(user -> hash(() -> passwordHashingExecutor.matches(request.getPassword(), user.passwordHash()))
+                        .flatMap(matched -> {
+                            if (!matched) {
+                                return Mono.error(new CustomException(ErrorCode.INVALID_CREDENTIALS));
+                            }
+                            upgradePasswordHashIfNeeded(user, request.getPassword());
+                            return issueTokens(user);
+                        }));
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮으면 로그인 응답과 분리해 재해시합니다.
+     */
+    private void upgradePasswordHashIfNeeded(UserCredentials user, String rawPassword) {
+        String currentHash = user.passwordHash();
+        if (!passwordEncoder.upgradeEncoding(currentHash) || !passwordHashingExecutor.hasSpareCapacity()) {
+            return;
+        }
+        hash(() -> passwordHashingExecutor.encode(rawPassword))
+                .flatMap(upgradedHash -> timed(AuthMetrics.Query.UPDATE_PASSWORD,
+                        userRepository.updatePassword(user.userId(), currentHash, upgradedHash)))
+                .subscribe(
+                        updated -> {
+                            if (updated > 0) {
+                                log.info("비밀번호 해시 비용 업그레이드: userId={}", user.userId());
+                            }
+                        },
+                        e -> log.warn("비밀번호 해시 업그레이드 실패: userId={}, reason={}", user.userId(), e.getMessage()));
+    }
+
+    private Mono<UserLoginResponseDto> issueTokens(UserCredentials user) {
+        String accessToken = signAccessToken(user.userId());
+
+        String sessionId = UUID.randomUUID().toString();
+        String refreshToken = signRefreshToken(user.userId(), sessionId);
+        LocalDateTime expiresAt = jwtUtil.getRefreshTokenExpiresAt();
+
+        return timed(AuthMetrics.Query.CREATE_SESSION, refreshTokenStore.create(
+                user.userId(),
+                sessionId,
+                TokenDigest.of(refreshToken).toHex(),
+                expiresAt))
+                .thenReturn(UserLoginResponseDto.builder()
+                        .accessToken(accessToken)
+                        .refreshToken(refreshToken)
+                        .tokenType("Bearer")
+                        .expiresIn(jwtUtil.getAccessTokenExpirationInSeconds())
+                        .user(new UserInfo(user.id(), user.email(), user.userId()))
+                        .build());
+    }
+
+    @Override
+    public Mono<Void> logout(String userId) {
+        return timed(AuthMetrics.Query.REVOKE_SESSION, refreshTokenStore.revokeAll(userId));
+    }
+
+    @Override
+    public Mono<Void> logoutSession(String refreshToken) {
+        return Mono.defer(() -> {
+            TokenVerification verification = verifyRefreshToken(refreshToken);
+            if (verification.subject() == null) {
+                return Mono.error(new CustomException(ErrorCode.INVALID_TOKEN));
+            }
+            return timed(AuthMetrics.Query.REVOKE_SESSION,
+                    refreshTokenStore.revokeByToken(verification.subject(), TokenDigest.of(refreshToken).toHex()))
+                    .then();
+        });
+    }
+
+    /**
+     * 액세스 토큰 폐기
+     *
+     * @see AuthServiceImpl#revokeAccessToken(String)
+     */
+
+    @Override
+    public void revokeAccessToken(String accessToken) {
+        long start = System.nanoTime();
+        TokenVerification verification = jwtUtil.verify(accessToken);
+        authMetrics.recordVerify(AuthMetrics.TokenType.ACCESS, verification, start);
+        if (!verification.isValid()) {
+            return;
+        }
+        TokenDigest digest = TokenDigest.of(accessToken);
+        accessTokenRevocationList.revoke(digest, verification.expiresAt());
+        accessTokenCache.invalidate(digest);
+    }
+
+    @Override
+    public Mono<Boolean> isUserIdAvailable(String userId) {
+        return timed(AuthMetrics.Query.EXISTS_USER_ID, userRepository.existsByUserId(userId))
+                .map(exists -> !exists);
+    }
+
+    @Override
+    public Mono<Boolean> isEmailAvailable(String email) {
+        return timed(AuthMetrics.Query.EXISTS_EMAIL, userRepository.existsByEmail(email))
+                .map(exists -> !exists);
+    }
+
+    /**
+     * 리프레시 토큰을 이용한 액세스 토큰 갱신
+     *
+     * <p>조건부 UPDATE 로 토큰을 회전하고, 반영된 행이 없으면 재사용으로 보고 해당 세션을 폐기합니다.
+     * family 클레임이 없는 이전 형식 토큰은 회전할 세션이 없으므로 거부합니다.
+     *
+     * @see AuthServiceImpl#refreshToken(String)
+     */
+
+    @Override
+    public Mono<TokenResponse> refreshToken(String refreshToken) {
+        return Mono.defer(() -> {
+            TokenVerification verification = verifyRefreshToken(refreshToken);
+            if (!verification.isValid()) {
+                return Mono.error(new CustomException(verification.toErrorCode()));
+            }
+            String userId = verification.subject();
+            String sessionId = verification.familyId();
+            if (sessionId == null) {
+                log.warn("세션이 없는 이전 형식 리프레시 토큰 거부: userId={}", userId);
+                return Mono.error(new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+            }
+            String tokenHash = TokenDigest.of(refreshToken).toHex();
+            String newRefreshToken = signRefreshToken(userId, sessionId);
+            LocalDateTime newExpiresAt = jwtUtil.getRefreshTokenExpiresAt();
+
+            return timed(AuthMetrics.Query.ROTATE_SESSION, refreshTokenStore.rotate(
+                    userId, sessionId, tokenHash, TokenDigest.of(newRefreshToken).toHex(), newExpiresAt))
+                    .flatMap(rotated -> {
+                        if (!rotated) {
+                            log.warn("리프레시 토큰 재사용 감지, 세션 폐기: userId={}, sessionId={}", userId, sessionId);
+                            return timed(AuthMetrics.Query.REVOKE_SESSION, refreshTokenStore.revoke(userId, sessionId))
+                                    .then(Mono.error(new CustomException(ErrorCode.INVALID_REFRESH_TOKEN)));
+                        }
+                        return Mono.just(TokenResponse.builder()
+                                .accessToken(signAccessToken(userId))
+                                .refreshToken(newRefreshToken)
+                                .tokenType("Bearer")
+                                .expiresIn(jwtUtil.getAccessTokenExpirationInSeconds())
+                                .build());
+                    });
+        });
+    }
+
+    // BCrypt 는 해시 실행기에서 계산하고, 이후 처리는 해시 스레드를 점유하지 않도록 parallel 스케줄러에서 이어감
+    private <T> Mono<T> hash(Supplier<CompletableFuture<T>> operation) {
+        return Mono.fromFuture(operation).publishOn(Schedulers.parallel());
+    }
+
+    private <T> Mono<T> timed(AuthMetrics.Query query, Mono<T> operation) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return operation.doFinally(signal -> authMetrics.recordQuery(query, start));
+        });
+    }
+
+    private String signAccessToken(String userId) {
+        long start = System.nanoTime();
+        String token = jwtUtil.generateAcessToken(userId);
+        authMetrics.recordSign(AuthMetrics.TokenType.ACCESS, start);
+        return token;
+    }
+
+    private String signRefreshToken(String userId, String familyId) {
+        long start = System.nanoTime();
+        String token = jwtUtil.generateRefreshToken(userId, familyId);
+        authMetrics.recordSign(AuthMetrics.TokenType.REFRESH, start);
+        return token;
+    }
+
+    private TokenVerification verifyRefreshToken(String refreshToken) {
+        long start = System.nanoTime();
+        TokenVerification verification = jwtUtil.verify(refreshToken);
+        authMetrics.recordVerify(AuthMetrics.TokenType.REFRESH, verification, start);
+        return verification;
+    }
+}
@@ -0,0 +1,42 @@
+-- reactive 프로필의 내장 DB(r2dbc:h2:mem) 용 스키마
+-- JPA 엔티티(UserEntity, UserSessionEntity)가 만드는 테이블과 컬럼/제약 이름을 맞춰, 두 스택이 같은 스키마를 공유하도록 함
+
+CREATE TABLE IF NOT EXISTS users (
+    id                       BIGINT       NOT NULL PRIMARY KEY,
+    email                    VARCHAR(100) NOT NULL,
+    user_id                  VARCHAR(50)  NOT NULL,
+    password                 VARCHAR(100) NOT NULL,
+    refresh_token            VARCHAR(500),
+    refresh_token_hash       VARCHAR(64),
+    refresh_token_family     VARCHAR(36),
+    refresh_token_expires_at TIMESTAMP(6),
+    create_at                TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_user_id UNIQUE (user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_users_refresh_token_hash ON users (refresh_token_hash);
+CREATE INDEX IF NOT EXISTS idx_users_refresh_token_expires_at ON users (refresh_token_expires_at, id);
+
+CREATE TABLE IF NOT EXISTS user_sessions (
+    session_id   VARCHAR(36)  NOT NULL PRIMARY KEY,
+    user_id      VARCHAR(50)  NOT NULL,
+    token_hash   VARCHAR(64)  NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL,
+    last_used_at TIMESTAMP(6),
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_user_sessions_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_sessions_user_id ON user_sessions (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_expires_at ON user_sessions (expires_at, session_id);
+
+-- Hibernate 테이블 할당기와 같은 행을 사용 (next_val 51 = 첫 블록 2~51, UserIdSequenceInitializer 의 빈 테이블 기준과 같음)
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT
+);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'users', 51 FROM (SELECT 1) seed
+WHERE NOT EXISTS (SELECT 1 FROM id_sequences WHERE sequence_name = 'users');
@@ -0,0 +1,15 @@
+package signup.solips.users.Controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///auth-api-reactive;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "app.auth.password.bcrypt-strength=4",
+        "app.auth.password.calibration.enabled=false"
+})
+class ReactiveAuthApiTest extends AuthApiContract {
+}
@@ -0,0 +1,52 @@
+package signup.solips.global.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import signup.solips.global.security.TokenVerification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "myVerySecretKeyThatIsAtLeast256BitsLong12345678901234567890";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 1_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 1_209_600_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+    }
+
+    @Test
+    void verifiesSubjectOfIssuedToken() {
+        TokenVerification verification = jwtUtil.verify(jwtUtil.generateAcessToken("s10001"));
+
+        assertThat(verification.isValid()).isTrue();
+        assertThat(verification.subject()).isEqualTo("s10001");
+    }
+
+    @Test
+    void correctlySignedTokenWithoutSubjectIsMalformed() {
+        assertThat(jwtUtil.verify(signed(null)).status()).isEqualTo(TokenVerification.Status.MALFORMED);
+        assertThat(jwtUtil.verify(signed(" ")).status()).isEqualTo(TokenVerification.Status.MALFORMED);
+    }
+
+    private static String signed(String subject) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,81 @@
+package signup.solips.global.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import signup.solips.global.exception.DatabaseBusyException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GuardedDataSourceTest {
+
+    private static final String URL = "jdbc:h2:mem:guarded;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void rejectsConnectionsOverLimitAfterTimeoutAndReleasesPermitOnceOnClose() throws Exception {
+        GuardedDataSource dataSource = new GuardedDataSource(new DriverManagerDataSource(URL), 1, Duration.ofMillis(50));
+
+        Connection held = dataSource.getConnection();
+        assertThat(dataSource.getActive()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(DatabaseBusyException.class);
+        assertThat(dataSource.getRejected()).isEqualTo(1);
+
+        held.close();
+        held.close();
+        assertThat(dataSource.getActive()).isZero();
+
+        try (Connection first = dataSource.getConnection()) {
+            assertThat(first.isValid(1)).isTrue();
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(DatabaseBusyException.class);
+        }
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    void waitingCallerGetsConnectionWhenAnotherIsClosed() throws Exception {
+        GuardedDataSource dataSource = new GuardedDataSource(new DriverManagerDataSource(URL), 1, Duration.ofSeconds(5));
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                waiter.complete(dataSource.getConnection());
+            } catch (SQLException e) {
+                waiter.completeExceptionally(e);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getWaiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(dataSource.getWaiting()).isEqualTo(1);
+
+        held.close();
+        try (Connection connection = waiter.get(5, TimeUnit.SECONDS)) {
+            assertThat(connection.isClosed()).isFalse();
+            assertThat(dataSource.getWaiting()).isZero();
+        }
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    void releasesPermitWhenTargetFailsToOpenConnection() throws Exception {
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLException("down"));
+        GuardedDataSource dataSource = new GuardedDataSource(failing, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+        assertThat(dataSource.getActive()).isZero();
+        assertThat(dataSource.getRejected()).isZero();
+    }
+}
@@ -0,0 +1,20 @@
+package signup.solips.global.profiling;
+
+import org.junit.jupiter.api.Test;
+import signup.solips.global.security.TokenDigest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRequestEventTest {
+
+    @Test
+    void userIdHashIsStableWithinTheProcessButNotAPlainDigest() {
+        String hash = AuthRequestEvent.hashUserId("s10001");
+
+        assertThat(hash).isEqualTo(AuthRequestEvent.hashUserId("s10001"));
+        assertThat(hash).isNotEqualTo(AuthRequestEvent.hashUserId("s10002"));
+        // 키 없는 SHA-256 이면 아이디 후보를 대입해 되돌릴 수 있음
+        assertThat(hash).isNotEqualTo(Long.toHexString(TokenDigest.of("s10001").h0()));
+        assertThat(AuthRequestEvent.hashUserId(null)).isNull();
+    }
+}
@@ -0,0 +1,50 @@
+package signup.solips.global.profiling;
+
+import org.junit.jupiter.api.Test;
+import signup.solips.global.AuthProperties;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private static final String MYSQL_DRIVER = "com.mysql.cj.jdbc.Driver";
+
+    @Test
+    void flagsMysqlDriversThatStillLockWithSynchronizedBeforeJava24() {
+        assertThat(VirtualThreadPinningMonitor.mayPin(21, MYSQL_DRIVER, 8, 4)).isTrue();
+        assertThat(VirtualThreadPinningMonitor.mayPin(21, MYSQL_DRIVER, 9, 0)).isFalse();
+        assertThat(VirtualThreadPinningMonitor.mayPin(21, MYSQL_DRIVER, 9, 4)).isFalse();
+        assertThat(VirtualThreadPinningMonitor.mayPin(24, MYSQL_DRIVER, 8, 4)).isFalse();
+        assertThat(VirtualThreadPinningMonitor.mayPin(21, "org.h2.Driver", 2, 3)).isFalse();
+    }
+
+    @Test
+    void countsVirtualThreadsBlockingInsideSynchronized() throws Exception {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(new AuthProperties());
+        try {
+            Object lock = new Object();
+            Thread pinned = Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            pinned.join();
+
+            // JFR 스트림은 약 1초 주기로 이벤트를 전달
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (monitor.getPinnedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(monitor.getPinnedCount()).isEqualTo(1);
+            assertThat(monitor.getPinnedSeconds()).isGreaterThanOrEqualTo(0.09);
+        } finally {
+            monitor.destroy();
+        }
+    }
+}
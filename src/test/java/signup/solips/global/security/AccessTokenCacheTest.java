@@ -0,0 +1,123 @@
+package signup.solips.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import signup.solips.global.JwtProperties;
+import signup.solips.support.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T09:00:00Z");
+
+    private MutableClock clock;
+    private AccessTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        cache = new AccessTokenCache(cacheProperties(true, 100), clock);
+    }
+
+    @Test
+    void returnsCachedVerificationUntilExpiry() {
+        TokenDigest digest = TokenDigest.of("token-a");
+        cache.put(digest, TokenVerification.valid("s12345", NOW.plusSeconds(60)));
+
+        TokenVerification cached = cache.get(digest);
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.isValid()).isTrue();
+        assertThat(cached.subject()).isEqualTo("s12345");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    @Test
+    void neverServesEntryOnceExpired() {
+        TokenDigest digest = TokenDigest.of("token-a");
+        cache.put(digest, TokenVerification.valid("s12345", NOW.plusSeconds(60)));
+
+        clock.advance(Duration.ofSeconds(60));
+
+        assertThat(cache.get(digest)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void neverServesEntryThatExpiredBeforeInsertion() {
+        TokenDigest digest = TokenDigest.of("token-a");
+        clock.advance(Duration.ofMinutes(5));
+
+        cache.put(digest, TokenVerification.valid("s12345", NOW.plusSeconds(60)));
+
+        assertThat(cache.get(digest)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void doesNotCacheFailedVerifications() {
+        TokenDigest digest = TokenDigest.of("token-a");
+
+        cache.put(digest, TokenVerification.expired("s12345", NOW.minusSeconds(1)));
+        cache.put(digest, TokenVerification.failure(TokenVerification.Status.INVALID_SIGNATURE));
+
+        assertThat(cache.get(digest)).isNull();
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        TokenDigest digest = TokenDigest.of("token-a");
+        cache.put(digest, TokenVerification.valid("s12345", NOW.plusSeconds(60)));
+
+        cache.invalidate(digest);
+
+        assertThat(cache.get(digest)).isNull();
+    }
+
+    @Test
+    void sizeStaysWithinMaxEntries() {
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(TokenDigest.of("token-" + i), TokenVerification.valid("user" + i, NOW.plusSeconds(60)));
+            assertThat(cache.size()).isLessThanOrEqualTo(100);
+        }
+    }
+
+    @Test
+    void expiredEntriesAreEvictedFirstWhenFull() {
+        for (int i = 0; i < 100; i++) {
+            cache.put(TokenDigest.of("old-" + i), TokenVerification.valid("user" + i, NOW.plusSeconds(10)));
+        }
+        clock.advance(Duration.ofSeconds(30));
+        TokenDigest fresh = TokenDigest.of("fresh");
+
+        cache.put(fresh, TokenVerification.valid("s12345", clock.instant().plusSeconds(60)));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(fresh)).isNotNull();
+    }
+
+    @Test
+    void disabledCacheStoresNothing() {
+        AccessTokenCache disabled = new AccessTokenCache(cacheProperties(false, 100), clock);
+        TokenDigest digest = TokenDigest.of("token-a");
+
+        disabled.put(digest, TokenVerification.valid("s12345", NOW.plusSeconds(60)));
+
+        assertThat(disabled.get(digest)).isNull();
+        assertThat(disabled.size()).isZero();
+    }
+
+    private static JwtProperties.Cache cacheProperties(boolean enabled, int maxEntries) {
+        JwtProperties.Cache properties = new JwtProperties.Cache();
+        properties.setEnabled(enabled);
+        properties.setMaxEntries(maxEntries);
+        return properties;
+    }
+}
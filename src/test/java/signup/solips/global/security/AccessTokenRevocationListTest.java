@@ -0,0 +1,85 @@
+package signup.solips.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import signup.solips.global.JwtProperties;
+import signup.solips.support.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T09:00:00Z");
+    private static final Duration LIFETIME = Duration.ofMinutes(30);
+
+    private MutableClock clock;
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        JwtProperties.Revocation revocation = new JwtProperties.Revocation();
+        revocation.setGenerationPeriod(Duration.ofMinutes(5));
+        revocation.setExpectedInsertions(100);
+        revocationList = new AccessTokenRevocationList(revocation, LIFETIME, clock);
+    }
+
+    @Test
+    void reportsOnlyRevokedTokens() {
+        Instant expiresAt = NOW.plus(LIFETIME);
+        revocationList.revoke(TokenDigest.of("revoked"), expiresAt);
+
+        assertThat(revocationList.isRevoked(TokenDigest.of("revoked"), expiresAt)).isTrue();
+        assertThat(revocationList.isRevoked(TokenDigest.of("other"), expiresAt)).isFalse();
+    }
+
+    @Test
+    void neverMissesRevokedTokensBeyondExpectedCapacity() {
+        Instant expiresAt = NOW.plus(LIFETIME);
+        for (int i = 0; i < 1_000; i++) {
+            revocationList.revoke(TokenDigest.of("revoked-" + i), expiresAt);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(revocationList.isRevoked(TokenDigest.of("revoked-" + i), expiresAt)).isTrue();
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(revocationList.isRevoked(TokenDigest.of("active-" + i), expiresAt)).isFalse();
+        }
+    }
+
+    @Test
+    void keepsGenerationsForEveryUnexpiredToken() {
+        for (int minutes = 1; minutes <= 30; minutes++) {
+            revocationList.revoke(TokenDigest.of("revoked-" + minutes), NOW.plus(Duration.ofMinutes(minutes)));
+        }
+
+        for (int minutes = 1; minutes <= 30; minutes++) {
+            assertThat(revocationList.isRevoked(TokenDigest.of("revoked-" + minutes), NOW.plus(Duration.ofMinutes(minutes))))
+                    .isTrue();
+        }
+        assertThat(revocationList.size()).isEqualTo(30);
+    }
+
+    @Test
+    void dropsGenerationsOnceTheirTokensHaveExpired() {
+        revocationList.revoke(TokenDigest.of("short"), NOW.plus(Duration.ofMinutes(2)));
+        revocationList.revoke(TokenDigest.of("long"), NOW.plus(LIFETIME));
+
+        clock.advance(Duration.ofMinutes(10));
+        revocationList.purgeExpired();
+
+        assertThat(revocationList.size()).isEqualTo(1);
+        assertThat(revocationList.isRevoked(TokenDigest.of("long"), NOW.plus(LIFETIME))).isTrue();
+    }
+
+    @Test
+    void ignoresTokensThatAlreadyExpired() {
+        revocationList.revoke(TokenDigest.of("expired"), NOW.minusSeconds(1));
+
+        assertThat(revocationList.size()).isZero();
+    }
+}
@@ -0,0 +1,114 @@
+package signup.solips.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.metrics.AuthMetrics;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void shedsRequestsOverLimitAndReleasesPermitWhenAsyncRequestCompletes() throws Exception {
+        ConcurrencyLimitFilter filter = newFilter(new AuthProperties.ConcurrencyGroup(1, 1, 1, Duration.ofSeconds(10)));
+
+        MockHttpServletRequest login = request("/solips/auth/login");
+        filter.doFilter(login, new MockHttpServletResponse(), new MockFilterChain(new AsyncServlet()));
+        assertThat(login.isAsyncStarted()).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("/solips/auth/login"), rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("COMMON-004");
+
+        MockHttpServletResponse otherGroup = new MockHttpServletResponse();
+        filter.doFilter(request("/solips/admin/profiling/recording"), otherGroup, new MockFilterChain());
+        assertThat(otherGroup.getStatus()).isEqualTo(200);
+
+        ((MockAsyncContext) login.getAsyncContext()).complete();
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(request("/solips/auth/login"), accepted, new MockFilterChain());
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void neverLimitsActuatorRequests() throws Exception {
+        ConcurrencyLimitFilter filter = newFilter(new AuthProperties.ConcurrencyGroup(1, 1, 1, Duration.ofSeconds(10)));
+        filter.doFilter(request("/solips/auth/login"), new MockHttpServletResponse(), new MockFilterChain(new AsyncServlet()));
+
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        filter.doFilter(request("/actuator/health"), health, new MockFilterChain());
+
+        assertThat(health.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void slowResponsesShrinkLimitAndFastResponsesGrowIt() {
+        AdaptiveConcurrencyLimit slow = new AdaptiveConcurrencyLimit(
+                new AuthProperties.ConcurrencyGroup(20, 4, 100, Duration.ZERO), 0.5);
+        for (int i = 0; i < 10; i++) {
+            slow.tryAcquire().release(false);
+        }
+        assertThat(slow.getLimit()).isEqualTo(4);
+
+        AdaptiveConcurrencyLimit fast = new AdaptiveConcurrencyLimit(
+                new AuthProperties.ConcurrencyGroup(2, 1, 3, Duration.ofSeconds(10)), 0.5);
+        for (int i = 0; i < 100; i++) {
+            AdaptiveConcurrencyLimit.Permit first = fast.tryAcquire();
+            AdaptiveConcurrencyLimit.Permit second = fast.tryAcquire();
+            first.release(false);
+            second.release(false);
+        }
+        assertThat(fast.getLimit()).isEqualTo(3);
+        assertThat(fast.getInFlight()).isZero();
+    }
+
+    @Test
+    void overloadedResponsesDecreaseLimitOncePerWindow() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                new AuthProperties.ConcurrencyGroup(20, 4, 100, Duration.ofSeconds(10)), 0.5);
+        AdaptiveConcurrencyLimit.Permit first = limit.tryAcquire();
+        AdaptiveConcurrencyLimit.Permit second = limit.tryAcquire();
+
+        first.release(true);
+        second.release(true);
+        second.release(true);
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    private ConcurrencyLimitFilter newFilter(AuthProperties.ConcurrencyGroup auth) {
+        AuthProperties properties = new AuthProperties();
+        properties.getConcurrencyLimit().setAuth(auth);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new ConcurrencyLimitFilter(properties, objectMapper, new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static class AsyncServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+            request.startAsync();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package signup.solips.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.JwtProperties;
+import signup.solips.global.config.JwtUtil;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.support.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T09:00:00Z");
+    private static final String TOKEN = "header.payload.signature";
+
+    private MutableClock clock;
+    private JwtUtil jwtUtil;
+    private AccessTokenRevocationList revocationList;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        jwtUtil = mock(JwtUtil.class);
+        JwtProperties.Cache cacheProperties = new JwtProperties.Cache();
+        cacheProperties.setEnabled(true);
+        revocationList = new AccessTokenRevocationList(new JwtProperties.Revocation(), Duration.ofMinutes(30), clock);
+        filter = new JwtAuthenticationFilter(new AccessTokenVerifier(jwtUtil, new AccessTokenCache(cacheProperties, clock),
+                revocationList, new AuthProperties(), new AuthMetrics(new SimpleMeterRegistry())));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void cacheHitSkipsSignatureVerification() throws Exception {
+        when(jwtUtil.verify(TOKEN)).thenReturn(TokenVerification.valid("s12345", NOW.plusSeconds(600)));
+
+        assertThat(authenticate()).isEqualTo("s12345");
+        assertThat(authenticate()).isEqualTo("s12345");
+
+        verify(jwtUtil, times(1)).verify(TOKEN);
+    }
+
+    @Test
+    void expiredCachedTokenIsVerifiedAgainAndRejected() throws Exception {
+        when(jwtUtil.verify(TOKEN))
+                .thenReturn(TokenVerification.valid("s12345", NOW.plusSeconds(600)))
+                .thenReturn(TokenVerification.expired("s12345", NOW.plusSeconds(600)));
+        assertThat(authenticate()).isEqualTo("s12345");
+
+        clock.advance(Duration.ofSeconds(600));
+
+        assertThat(authenticate()).isNull();
+        verify(jwtUtil, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    void revokedTokenIsRejectedEvenWhenCached() throws Exception {
+        Instant expiresAt = NOW.plusSeconds(600);
+        when(jwtUtil.verify(TOKEN)).thenReturn(TokenVerification.valid("s12345", expiresAt));
+        assertThat(authenticate()).isEqualTo("s12345");
+
+        revocationList.revoke(TokenDigest.of(TOKEN), expiresAt);
+
+        assertThat(authenticate()).isNull();
+    }
+
+    @Test
+    void refreshTokenIsNotAcceptedAsBearerToken() throws Exception {
+        when(jwtUtil.verify(TOKEN)).thenReturn(TokenVerification.valid("s12345", NOW.plusSeconds(600), "family-1"));
+
+        assertThat(authenticate()).isNull();
+        assertThat(authenticate()).isNull();
+    }
+
+    @Test
+    void tokenWithoutSubjectIsNotAuthenticated() throws Exception {
+        when(jwtUtil.verify(TOKEN)).thenReturn(TokenVerification.valid(null, NOW.plusSeconds(600)));
+
+        assertThat(authenticate()).isNull();
+    }
+
+        private Object authenticate() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/solips/me");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getPrincipal() : null;
+    }
+}
@@ -0,0 +1,160 @@
+package signup.solips.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.exception.RateLimitExceededException;
+import signup.solips.support.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T09:00:00Z");
+
+    private MutableClock clock;
+    private AuthProperties.LoginThrottle properties;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        properties = new AuthProperties.LoginThrottle();
+        properties.setPerUser(new AuthProperties.Limit(3, Duration.ofSeconds(10)));
+        properties.setPerIp(new AuthProperties.Limit(100, Duration.ofMillis(10)));
+    }
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfterUntilRefill() {
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("kim", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("kim", "10.0.0.1"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(10);
+                });
+        throttle.acquire("lee", "10.0.0.1");
+
+        clock.advance(Duration.ofSeconds(10));
+        throttle.acquire("kim", "10.0.0.1");
+    }
+
+    @Test
+    void limitsSingleIpAcrossManyUserIds() {
+        properties.setPerIp(new AuthProperties.Limit(5, Duration.ofSeconds(1)));
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("user-" + i, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("user-5", "10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+        throttle.acquire("user-5", "10.0.0.2");
+    }
+
+    @Test
+    void attemptsRejectedForTheUserIdDoNotSpendTheIpBucket() {
+        properties.setPerUser(new AuthProperties.Limit(1, Duration.ofMinutes(1)));
+        properties.setPerIp(new AuthProperties.Limit(2, Duration.ofMinutes(1)));
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+        throttle.acquire("kim", "10.0.0.1");
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> throttle.acquire("kim", "10.0.0.1"))
+                    .isInstanceOf(RateLimitExceededException.class);
+        }
+
+        throttle.acquire("lee", "10.0.0.1");
+    }
+
+    @Test
+    void fullStripeNeverEvictsAThrottledBucket() {
+        properties.setStripes(1);
+        properties.setMaxEntries(8);
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("victim", "10.0.1.1");
+        }
+
+        for (int i = 0; i < 100; i++) {
+            throttle.acquire("user-" + i, "10.0.0." + i);
+        }
+
+        assertThat(throttle.size()).isLessThanOrEqualTo(16);
+        assertThatThrownBy(() -> throttle.acquire("victim", "10.0.1.2"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void limitsLookupsPerIpSeparatelyFromLogins() {
+        properties.setPerIpLookup(new AuthProperties.Limit(2, Duration.ofSeconds(3)));
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+        throttle.acquireLookup("10.0.0.1");
+        throttle.acquireLookup("10.0.0.1");
+
+        assertThatThrownBy(() -> throttle.acquireLookup("10.0.0.1"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_LOOKUPS);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(3);
+                });
+        throttle.acquire("kim", "10.0.0.1");
+        throttle.acquireLookup("10.0.0.2");
+
+        clock.advance(Duration.ofSeconds(3));
+        throttle.acquireLookup("10.0.0.1");
+    }
+
+    @Test
+    void evictsIdleBucketsAndStaysWithinMaxEntries() {
+        properties.setStripes(4);
+        properties.setMaxEntries(40);
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+        for (int i = 0; i < 1_000; i++) {
+            throttle.acquire("user-" + i, "10.0.0." + (i % 200));
+        }
+        assertThat(throttle.size()).isLessThanOrEqualTo(80);
+
+        clock.advance(Duration.ofMinutes(1));
+        throttle.evictIdle();
+
+        assertThat(throttle.size()).isZero();
+    }
+
+    @Test
+    void concurrentAttemptsNeverExceedCapacity() throws Exception {
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+        AtomicInteger allowed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 64; i++) {
+                executor.submit(() -> {
+                    try {
+                        throttle.acquire("kim", "10.0.0.1");
+                        allowed.incrementAndGet();
+                    } catch (RateLimitExceededException ignored) {
+                    }
+                });
+            }
+        }
+
+        assertThat(allowed).hasValue(3);
+    }
+
+    @Test
+    void disabledThrottleAllowsEverything() {
+        properties.setEnabled(false);
+        LoginThrottle throttle = new LoginThrottle(properties, clock);
+
+        for (int i = 0; i < 100; i++) {
+            throttle.acquire("kim", "10.0.0.1");
+        }
+    }
+}
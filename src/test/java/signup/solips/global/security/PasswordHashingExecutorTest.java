@@ -0,0 +1,95 @@
+package signup.solips.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.metrics.AuthMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void failsFastWithServerBusyWhenTheQueueIsFull() throws InterruptedException {
+        executor = newExecutor(1);
+        occupyWorker();
+        CompletableFuture<Boolean> queued = executor.submit(() -> true);
+
+        CompletableFuture<String> rejected = executor.encode("Passw0rd!");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join)
+                .hasCauseInstanceOf(CustomException.class)
+                .satisfies(e -> assertThat(((CustomException) e.getCause()).getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY));
+        // 거절은 이미 대기 중인 작업에 영향을 주지 않음
+        release.countDown();
+        assertThat(queued.join()).isTrue();
+    }
+
+    @Test
+    void singleSlotQueueHasSpareCapacityOnlyWhileEmpty() throws InterruptedException {
+        executor = newExecutor(1);
+        occupyWorker();
+
+        assertThat(executor.hasSpareCapacity()).isTrue();
+
+        executor.submit(() -> true);
+
+        assertThat(executor.hasSpareCapacity()).isFalse();
+    }
+
+    @Test
+    void spareCapacityMeansLessThanHalfTheQueueIsUsed() throws InterruptedException {
+        executor = newExecutor(4);
+        occupyWorker();
+        executor.submit(() -> true);
+
+        assertThat(executor.hasSpareCapacity()).isTrue();
+
+        executor.submit(() -> true);
+
+        assertThat(executor.hasSpareCapacity()).isFalse();
+    }
+
+    private PasswordHashingExecutor newExecutor(int queueCapacity) {
+        AuthProperties properties = new AuthProperties();
+        properties.getPassword().getHashing().setThreads(1);
+        properties.getPassword().getHashing().setQueueCapacity(queueCapacity);
+        return new PasswordHashingExecutor(new BCryptPasswordEncoder(4), properties,
+                new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    // 유일한 해시 스레드를 붙잡아 이후 작업이 대기열에 남게 함
+    private void occupyWorker() throws InterruptedException {
+        CompletableFuture<Boolean> blocking = executor.submit(() -> {
+            started.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(blocking).isNotDone();
+    }
+}
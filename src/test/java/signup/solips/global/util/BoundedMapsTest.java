@@ -0,0 +1,57 @@
+package signup.solips.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedMapsTest {
+
+    @Test
+    void targetLeavesAnEighthOfTheCapacityFree() {
+        assertThat(BoundedMaps.trimTarget(64)).isEqualTo(56);
+        assertThat(BoundedMaps.trimTarget(4)).isEqualTo(3);
+        assertThat(BoundedMaps.trimTarget(1)).isZero();
+    }
+
+    @Test
+    void dropsExpiredEntriesBeforeEvictingLiveOnes() {
+        ConcurrentHashMap<String, Long> map = new ConcurrentHashMap<>();
+        for (long i = 0; i < 8; i++) {
+            map.put("k" + i, i);
+        }
+
+        int removed = BoundedMaps.trim(map, 6, value -> value < 3, value -> true, value -> value);
+
+        assertThat(removed).isEqualTo(3);
+        assertThat(map).hasSize(5).doesNotContainKeys("k0", "k1", "k2");
+    }
+
+    @Test
+    void evictsLowestRankedEvictableEntriesDownToTarget() {
+        ConcurrentHashMap<String, Long> map = new ConcurrentHashMap<>();
+        for (long i = 0; i < 10; i++) {
+            map.put("k" + i, i);
+        }
+
+        // 짝수 값만 제거 대상, 가장 작은 짝수부터 제거
+        int removed = BoundedMaps.trim(map, 7, value -> false, value -> value % 2 == 0, value -> value);
+
+        assertThat(removed).isEqualTo(3);
+        assertThat(map).hasSize(7).doesNotContainKeys("k0", "k2", "k4").containsKeys("k1", "k6", "k8");
+    }
+
+    @Test
+    void stopsAboveTargetWhenNothingElseMayBeEvicted() {
+        ConcurrentHashMap<String, Long> map = new ConcurrentHashMap<>();
+        for (long i = 0; i < 4; i++) {
+            map.put("k" + i, i);
+        }
+
+        int removed = BoundedMaps.trim(map, 1, value -> false, value -> value == 3, value -> value);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(map).containsOnlyKeys("k0", "k1", "k2");
+    }
+}
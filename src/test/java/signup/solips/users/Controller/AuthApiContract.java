@@ -0,0 +1,266 @@
+package signup.solips.users.Controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /solips/auth/* API 가 서블릿(기본)과 WebFlux(reactive 프로필) 구현 모두에서 지켜야 하는 동작
+ *
+ * <p>구현별 테스트가 상속하며, 실제 포트로 앱을 띄운 뒤 HTTP 로 요청합니다.
+ * 테스트끼리 같은 DB를 공유하므로 사용자마다 새 아이디/이메일을 사용합니다.
+ */
+@TestPropertySource(properties = "app.auth.introspection.client-user-ids="
+        + AuthApiContract.GATEWAY_USER_ID + "," + AuthApiContract.SECOND_GATEWAY_USER_ID)
+abstract class AuthApiContract {
+
+    static final String PASSWORD = "Passw0rd!";
+    static final String GATEWAY_USER_ID = "gateway01";
+    static final String SECOND_GATEWAY_USER_ID = "gateway02";
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUpClient() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+
+    @Test
+    void signupCreatesUserAndRejectsDuplicates() {
+        String userId = newUserId();
+        String email = newEmail();
+
+        JsonNode created = post("/solips/auth/signup", Map.of("email", email, "userId", userId, "password", PASSWORD))
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        assertThat(created.get("id").asLong()).isPositive();
+        assertThat(created.get("userId").asText()).isEqualTo(userId);
+        assertThat(created.get("email").asText()).isEqualTo(email);
+
+        expectError(post("/solips/auth/signup", Map.of("email", newEmail(), "userId", userId, "password", PASSWORD)),
+                HttpStatus.CONFLICT, "USER-002");
+        expectError(post("/solips/auth/signup", Map.of("email", email, "userId", newUserId(), "password", PASSWORD)),
+                HttpStatus.CONFLICT, "USER-001");
+    }
+
+    @Test
+    void signupRejectsInvalidInput() {
+        expectError(post("/solips/auth/signup", Map.of("email", "someone@example.com", "userId", newUserId(), "password", PASSWORD)),
+                HttpStatus.BAD_REQUEST, "COMMON-001");
+    }
+
+    @Test
+    void reportsUserIdAndEmailAvailability() {
+        String userId = newUserId();
+        String email = newEmail();
+        assertAvailable("/solips/auth/check-userid?userId=" + userId, true);
+        assertAvailable("/solips/auth/check-email?email=" + email, true);
+
+        signup(userId, email);
+
+        assertAvailable("/solips/auth/check-userid?userId=" + userId, false);
+        assertAvailable("/solips/auth/check-email?email=" + email, false);
+        expectError(client.get().uri("/solips/auth/check-userid").exchange(), HttpStatus.BAD_REQUEST, "COMMON-002");
+    }
+
+    @Test
+    void loginIssuesTokensOnlyForValidCredentials() {
+        Account account = signup(newUserId(), newEmail());
+
+        JsonNode login = login(account);
+        assertThat(login.get("tokenType").asText()).isEqualTo("Bearer");
+        assertThat(login.get("accessToken").asText()).isNotBlank();
+        assertThat(login.get("refreshToken").asText()).isNotBlank();
+        assertThat(login.get("user").get("userId").asText()).isEqualTo(account.userId());
+
+        expectError(post("/solips/auth/login", Map.of("email", account.email(), "userId", account.userId(), "password", "Wr0ngPass!")),
+                HttpStatus.UNAUTHORIZED, "AUTH-001");
+        expectError(post("/solips/auth/login", Map.of("email", newEmail(), "userId", newUserId(), "password", PASSWORD)),
+                HttpStatus.UNAUTHORIZED, "AUTH-001");
+    }
+
+    @Test
+    void refreshRotatesTokenAndRevokesSessionOnReuse() {
+        Account account = signup(newUserId(), newEmail());
+        String first = login(account).get("refreshToken").asText();
+
+        JsonNode rotated = post("/solips/auth/refresh", Map.of("refreshToken", first))
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        String second = rotated.get("refreshToken").asText();
+        assertThat(second).isNotEqualTo(first);
+        assertThat(rotated.get("accessToken").asText()).isNotBlank();
+
+        expectError(post("/solips/auth/refresh", Map.of("refreshToken", first)), HttpStatus.UNAUTHORIZED, "AUTH-004");
+        expectError(post("/solips/auth/refresh", Map.of("refreshToken", second)), HttpStatus.UNAUTHORIZED, "AUTH-004");
+    }
+
+    @Test
+    void logoutWithRefreshTokenEndsOnlyThatSession() {
+        Account account = signup(newUserId(), newEmail());
+        String phone = login(account).get("refreshToken").asText();
+        String laptop = login(account).get("refreshToken").asText();
+
+        post("/solips/auth/logout", Map.of("refreshToken", phone)).expectStatus().isOk();
+
+        expectError(post("/solips/auth/refresh", Map.of("refreshToken", phone)), HttpStatus.UNAUTHORIZED, "AUTH-004");
+        post("/solips/auth/refresh", Map.of("refreshToken", laptop)).expectStatus().isOk();
+    }
+
+    @Test
+    void logoutWithAccessTokenEndsAllSessionsAndRevokesTheToken() {
+        Account account = signup(newUserId(), newEmail());
+        JsonNode login = login(account);
+        String bearer = "Bearer " + login.get("accessToken").asText();
+
+        client.post().uri("/solips/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer)
+                .exchange()
+                .expectStatus().isOk();
+
+        expectError(post("/solips/auth/refresh", Map.of("refreshToken", login.get("refreshToken").asText())),
+                HttpStatus.UNAUTHORIZED, "AUTH-004");
+        expectError(client.post().uri("/solips/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer).exchange(),
+                HttpStatus.UNAUTHORIZED, "AUTH-002");
+    }
+
+    @Test
+    void refreshTokenIsNotAcceptedAsBearerToken() {
+        Account gateway = signup(SECOND_GATEWAY_USER_ID, newEmail());
+        Account account = signup(newUserId(), newEmail());
+        String refreshToken = login(account).get("refreshToken").asText();
+
+        expectError(client.post().uri("/solips/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + refreshToken).exchange(),
+                HttpStatus.UNAUTHORIZED, "AUTH-002");
+        post("/solips/auth/refresh", Map.of("refreshToken", refreshToken)).expectStatus().isOk();
+        client.post().uri("/solips/auth/introspect")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + login(gateway).get("refreshToken").asText())
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(Map.of("tokens", List.of(refreshToken)))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void protectedPathsRejectAnonymousAndNonAdminUsers() {
+        Account account = signup(newUserId(), newEmail());
+        String bearer = "Bearer " + login(account).get("accessToken").asText();
+
+        client.post().uri("/solips/admin/users/import").exchange()
+                .expectStatus().isForbidden();
+        client.post().uri("/solips/admin/users/import").header(HttpHeaders.AUTHORIZATION, bearer).exchange()
+                .expectStatus().isForbidden();
+        client.get().uri("/solips/anything").exchange()
+                .expectStatus().isForbidden();
+        client.get().uri("/actuator/prometheus").exchange()
+                .expectStatus().isForbidden();
+        client.get().uri("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, bearer).exchange()
+                .expectStatus().isForbidden();
+        client.get().uri("/actuator/health").exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void introspectReportsEachTokenToAuthorizedServicesOnly() {
+        Account gateway = signup(GATEWAY_USER_ID, newEmail());
+        String gatewayBearer = "Bearer " + login(gateway).get("accessToken").asText();
+        Account account = signup(newUserId(), newEmail());
+        String active = login(account).get("accessToken").asText();
+        String revoked = login(signup(newUserId(), newEmail())).get("accessToken").asText();
+        client.post().uri("/solips/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + revoked)
+                .exchange()
+                .expectStatus().isOk();
+        Map<String, List<String>> body = Map.of("tokens", List.of(active, revoked, "not-a-token", active));
+
+        client.post().uri("/solips/auth/introspect").contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+                .exchange()
+                .expectStatus().isForbidden();
+        client.post().uri("/solips/auth/introspect").header(HttpHeaders.AUTHORIZATION, "Bearer " + active)
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+                .exchange()
+                .expectStatus().isForbidden();
+
+        WebTestClient.ResponseSpec response = client.post().uri("/solips/auth/introspect")
+                .header(HttpHeaders.AUTHORIZATION, gatewayBearer)
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.CACHE_CONTROL, cacheControl ->
+                        assertThat(cacheControl).contains("max-age=5").contains("private"));
+        var result = response.expectBody(JsonNode.class).returnResult();
+        JsonNode results = result.getResponseBody().get("results");
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).get("active").asBoolean()).isTrue();
+        assertThat(results.get(0).get("subject").asText()).isEqualTo(account.userId());
+        assertThat(results.get(0).get("expiresAt").asText()).isNotBlank();
+        assertThat(results.get(1).get("active").asBoolean()).isFalse();
+        assertThat(results.get(2).get("active").asBoolean()).isFalse();
+        assertThat(results.get(3)).isEqualTo(results.get(0));
+
+        String etag = result.getResponseHeaders().getETag();
+        assertThat(etag).isNotBlank();
+        client.post().uri("/solips/auth/introspect")
+                .header(HttpHeaders.AUTHORIZATION, gatewayBearer)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+    }
+
+    private Account signup(String userId, String email) {
+        post("/solips/auth/signup", Map.of("email", email, "userId", userId, "password", PASSWORD))
+                .expectStatus().isCreated();
+        return new Account(userId, email);
+    }
+
+    private JsonNode login(Account account) {
+        return post("/solips/auth/login", Map.of("email", account.email(), "userId", account.userId(), "password", PASSWORD))
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+    }
+
+    private void assertAvailable(String uri, boolean available) {
+        client.get().uri(uri).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.available").isEqualTo(available);
+    }
+
+    private WebTestClient.ResponseSpec post(String uri, Map<String, String> body) {
+        return client.post().uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange();
+    }
+
+    private static void expectError(WebTestClient.ResponseSpec response, HttpStatus status, String code) {
+        response.expectStatus().isEqualTo(status)
+                .expectBody().jsonPath("$.code").isEqualTo(code);
+    }
+
+    private static String newUserId() {
+        return "api" + SEQUENCE.incrementAndGet() + "-" + System.nanoTime() % 100_000;
+    }
+
+    private static String newEmail() {
+        return "s%05d@gsm.hs.kr".formatted(SEQUENCE.incrementAndGet());
+    }
+
+    private record Account(String userId, String email) {
+    }
+}
@@ -0,0 +1,72 @@
+package signup.solips.users.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.metrics.AuthMetrics;
+
+// 지연 반영은 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션으로 감싸지 않음
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRefreshTokenStoreTest extends RefreshTokenStoreContract {
+
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JpaRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        userSessionRepository.deleteAllInBatch();
+        store = newStore(false);
+    }
+
+    @Override
+    RefreshTokenStore store() {
+        return store;
+    }
+
+    JpaRefreshTokenStore newStore(boolean writeBehind) {
+        AuthProperties properties = new AuthProperties();
+        properties.getSession().setMaxPerUser(MAX_PER_USER);
+        properties.getSession().getWriteBehind().setEnabled(writeBehind);
+        SessionBatchWriter writer = new SessionBatchWriter(jdbcTemplate, namedParameterJdbcTemplate, transactionManager);
+        SessionWriteBuffer buffer = new SessionWriteBuffer(
+                writer, new AuthMetrics(new SimpleMeterRegistry()), properties.getSession(), false);
+        return new JpaRefreshTokenStore(userSessionRepository, userRepository, buffer,
+                new TransactionTemplate(transactionManager), properties);
+    }
+
+    @Nested
+    class WithWriteBehind extends RefreshTokenStoreContract {
+
+        private JpaRefreshTokenStore bufferedStore;
+
+        @BeforeEach
+        void setUp() {
+            bufferedStore = newStore(true);
+        }
+
+        @Override
+        RefreshTokenStore store() {
+            return bufferedStore;
+        }
+    }
+}
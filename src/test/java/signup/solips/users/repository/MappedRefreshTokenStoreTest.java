@@ -0,0 +1,178 @@
+package signup.solips.users.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import signup.solips.global.AuthProperties;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedRefreshTokenStoreTest extends RefreshTokenStoreContract {
+
+    @TempDir
+    Path directory;
+
+    private AuthProperties.Session properties;
+    private MappedRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new AuthProperties.Session();
+        properties.setMaxPerUser(MAX_PER_USER);
+        properties.getMapped().setDirectory(directory);
+        properties.getMapped().setLogSize(DataSize.ofKilobytes(64));
+        properties.getMapped().setInitialIndexCapacity(16);
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.destroy();
+    }
+
+    @Override
+    RefreshTokenStore store() {
+        return store;
+    }
+
+    @Test
+    void keepsSessionsAcrossRestart() throws IOException {
+        String rotated = newSession("kim", "t1");
+        String revoked = newSession("kim", "t2");
+        String evictedLater = newSession("lee", "t3");
+        store.rotate("kim", rotated, hash("t1"), hash("t4"), inAWeek());
+        store.revoke("kim", revoked);
+        newSession("lee", "t5");
+        newSession("lee", "t6");
+
+        reopen();
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.rotate("kim", rotated, hash("t1"), hash("t7"), inAWeek())).isFalse();
+        assertThat(store.rotate("kim", rotated, hash("t4"), hash("t7"), inAWeek())).isTrue();
+        assertThat(store.rotate("kim", revoked, hash("t2"), hash("t8"), inAWeek())).isFalse();
+        assertThat(store.rotate("lee", evictedLater, hash("t3"), hash("t9"), inAWeek())).isFalse();
+    }
+
+    @Test
+    void discardsTornRecordAtTheEndOfTheLog() throws IOException {
+        String session = newSession("kim", "t1");
+        int end = store.logBytes();
+        store.destroy();
+        try (RandomAccessFile file = new RandomAccessFile(logFile().toFile(), "rw")) {
+            file.seek(end);
+            file.writeInt(60);
+            file.writeInt(12345);
+            file.write(new byte[]{1, 2, 3});
+        }
+
+        store = open();
+        assertThat(store.logBytes()).isEqualTo(end);
+        String next = newSession("lee", "t2");
+        reopen();
+
+        assertThat(store.rotate("kim", session, hash("t1"), hash("t3"), inAWeek())).isTrue();
+        assertThat(store.rotate("lee", next, hash("t2"), hash("t4"), inAWeek())).isTrue();
+    }
+
+    @Test
+    void staleRecordsAfterAMissingLengthAreNotReplayedLater() throws IOException {
+        String kim = newSession("kim", "t1");
+        int lostRotate = store.logBytes();
+        store.rotate("kim", kim, hash("t1"), hash("t2"), inAWeek());
+        String lee = newSession("lee", "t5");
+        store.destroy();
+        // 정전으로 회전 기록의 길이만 디스크에 남지 않고, 뒤의 가입 기록은 남은 경우
+        try (RandomAccessFile file = new RandomAccessFile(logFile().toFile(), "rw")) {
+            file.seek(lostRotate);
+            file.writeInt(0);
+        }
+
+        store = open();
+        assertThat(store.logBytes()).isEqualTo(lostRotate);
+        // 같은 크기의 회전 기록이 다시 같은 위치에 쓰이면 옛 가입 기록 바로 앞에서 끝남
+        assertThat(store.rotate("kim", kim, hash("t1"), hash("t6"), inAWeek())).isTrue();
+        reopen();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.rotate("lee", lee, hash("t5"), hash("t7"), inAWeek())).isFalse();
+        assertThat(store.rotate("kim", kim, hash("t6"), hash("t8"), inAWeek())).isTrue();
+    }
+
+    @Test
+    void compactionDropsRevokedAndExpiredRecords() throws IOException {
+        List<String> kept = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String session = newSession("user" + i, "t" + i);
+            if (i % 2 == 0) {
+                store.revoke("user" + i, session);
+            } else {
+                kept.add(session);
+            }
+        }
+        store.create("expired", UUID.randomUUID().toString(), hash("old"), LocalDateTime.now().minusMinutes(1));
+        int before = store.logBytes();
+
+        store.compactIfNeeded();
+
+        assertThat(store.logBytes()).isLessThan(before);
+        assertThat(store.size()).isEqualTo(10);
+        reopen();
+        for (int i = 1; i < 20; i += 2) {
+            String session = kept.get(i / 2);
+            assertThat(store.rotate("user" + i, session, hash("t" + i), hash("n" + i), inAWeek())).isTrue();
+        }
+    }
+
+    @Test
+    void growsTheLogWhenLiveSessionsDoNotFit() throws IOException {
+        List<String> sessions = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            sessions.add(newSession("user" + i, "t" + i));
+        }
+
+        reopen();
+
+        assertThat(Files.size(logFile())).isGreaterThan(DataSize.ofKilobytes(64).toBytes());
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(store.rotate("user" + i, sessions.get(i), hash("t" + i), hash("n" + i), inAWeek())).isTrue();
+        }
+    }
+
+    @Test
+    void ignoresUnfinishedCompaction() throws IOException {
+        String session = newSession("kim", "t1");
+        store.destroy();
+        Files.write(directory.resolve("sessions.log.compact"), new byte[]{1, 2, 3});
+
+        store = open();
+
+        assertThat(Files.exists(directory.resolve("sessions.log.compact"))).isFalse();
+        assertThat(store.rotate("kim", session, hash("t1"), hash("t2"), inAWeek())).isTrue();
+    }
+
+    private void reopen() throws IOException {
+        store.destroy();
+        store = open();
+    }
+
+    private MappedRefreshTokenStore open() throws IOException {
+        return new MappedRefreshTokenStore(properties, Clock.systemUTC());
+    }
+
+    private Path logFile() {
+        return directory.resolve(MappedRefreshTokenStore.LOG_FILE);
+    }
+}
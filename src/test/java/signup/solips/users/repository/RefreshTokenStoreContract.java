@@ -0,0 +1,130 @@
+package signup.solips.users.repository;
+
+import org.junit.jupiter.api.Test;
+import signup.solips.global.security.TokenDigest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link RefreshTokenStore} 구현체가 모두 통과해야 하는 동작
+ *
+ * <p>구현체 테스트가 상속하며, 사용자당 최대 세션 수는 {@link #MAX_PER_USER}로 설정해야 합니다.
+ */
+abstract class RefreshTokenStoreContract {
+
+    static final int MAX_PER_USER = 2;
+
+    abstract RefreshTokenStore store();
+
+    @Test
+    void rotatesOnlyWithTheCurrentToken() {
+        String session = newSession("kim", "t1");
+
+        assertThat(store().rotate("kim", session, hash("t1"), hash("t2"), inAWeek())).isTrue();
+        assertThat(store().rotate("kim", session, hash("t1"), hash("t3"), inAWeek())).isFalse();
+        assertThat(store().rotate("kim", session, hash("t2"), hash("t3"), inAWeek())).isTrue();
+    }
+
+    @Test
+    void rejectsExpiredSession() {
+        String session = UUID.randomUUID().toString();
+        store().create("kim", session, hash("t1"), LocalDateTime.now().minusMinutes(1));
+
+        assertThat(store().rotate("kim", session, hash("t1"), hash("t2"), inAWeek())).isFalse();
+    }
+
+    @Test
+    void rejectsTokenOfAnotherSession() {
+        newSession("kim", "t1");
+        String other = newSession("kim", "t2");
+
+        assertThat(store().rotate("kim", other, hash("t1"), hash("t3"), inAWeek())).isFalse();
+        assertThat(store().rotate("kim", UUID.randomUUID().toString(), hash("t1"), hash("t3"), inAWeek())).isFalse();
+    }
+
+    @Test
+    void revokesSingleSession() {
+        String revoked = newSession("kim", "t1");
+        String kept = newSession("kim", "t2");
+
+        store().revoke("kim", revoked);
+
+        assertThat(store().rotate("kim", revoked, hash("t1"), hash("t3"), inAWeek())).isFalse();
+        assertThat(store().rotate("kim", kept, hash("t2"), hash("t4"), inAWeek())).isTrue();
+    }
+
+    @Test
+    void revokesByToken() {
+        String session = newSession("kim", "t1");
+
+        assertThat(store().revokeByToken("kim", hash("t1"))).isTrue();
+        assertThat(store().revokeByToken("kim", hash("t1"))).isFalse();
+        assertThat(store().rotate("kim", session, hash("t1"), hash("t2"), inAWeek())).isFalse();
+    }
+
+    @Test
+    void revokesAllSessionsOfOneUser() {
+        String first = newSession("kim", "t1");
+        String second = newSession("kim", "t2");
+        String other = newSession("lee", "t3");
+
+        store().revokeAll("kim");
+
+        assertThat(store().rotate("kim", first, hash("t1"), hash("t4"), inAWeek())).isFalse();
+        assertThat(store().rotate("kim", second, hash("t2"), hash("t5"), inAWeek())).isFalse();
+        assertThat(store().rotate("lee", other, hash("t3"), hash("t6"), inAWeek())).isTrue();
+    }
+
+    @Test
+    void createsSessionsAgainAfterRevokingAll() {
+        newSession("kim", "t1");
+        store().revokeAll("kim");
+        String session = newSession("kim", "t2");
+
+        assertThat(store().rotate("kim", session, hash("t2"), hash("t3"), inAWeek())).isTrue();
+    }
+
+    @Test
+    void evictsOldestSessionsBeyondMaxPerUser() {
+        String oldest = newSession("kim", "t1");
+        String middle = newSession("kim", "t2");
+        String newest = newSession("kim", "t3");
+
+        assertThat(store().rotate("kim", oldest, hash("t1"), hash("t4"), inAWeek())).isFalse();
+        assertThat(store().rotate("kim", middle, hash("t2"), hash("t5"), inAWeek())).isTrue();
+        assertThat(store().rotate("kim", newest, hash("t3"), hash("t6"), inAWeek())).isTrue();
+    }
+
+    @Test
+    void doesNotClaimUnknownLegacyToken() {
+        assertThat(store().claimLegacy("kim", "legacy", hash("legacy"),
+                UUID.randomUUID().toString(), hash("t1"), inAWeek())).isFalse();
+    }
+
+    String newSession(String userId, String token) {
+        String sessionId = UUID.randomUUID().toString();
+        store().create(userId, sessionId, hash(token), inAWeek());
+        pause();
+        return sessionId;
+    }
+
+    static String hash(String token) {
+        return TokenDigest.of(token).toHex();
+    }
+
+    static LocalDateTime inAWeek() {
+        return LocalDateTime.now().plusDays(7);
+    }
+
+    // 생성 시각으로 오래된 세션을 고르는 구현체를 위해 생성 시각이 겹치지 않게 함
+    private static void pause() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package signup.solips.users.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.DatabaseBusyException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.metrics.AuthMetrics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SessionWriteBufferTest {
+
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.of(2025, 3, 8, 0, 0);
+
+    private final List<Set<String>> revokedBatches = new ArrayList<>();
+    private final List<List<String>> sessionBatches = new ArrayList<>();
+    private SessionBatchWriter writer;
+    private SessionWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        writer = mock(SessionBatchWriter.class);
+        doAnswer(invocation -> {
+            revokedBatches.add(Set.copyOf(invocation.<Set<String>>getArgument(0)));
+            sessionBatches.add(invocation.<List<SessionBatchWriter.PendingSession>>getArgument(1).stream()
+                    .map(SessionBatchWriter.PendingSession::sessionId)
+                    .toList());
+            return null;
+        }).when(writer).write(any(), any(), anyInt());
+        buffer = newBuffer(100);
+    }
+
+    @Test
+    void logoutDropsSessionsCreatedEarlierInTheSameBatch() {
+        buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT);
+        buffer.offerCreate("kim", "s2", "h2", EXPIRES_AT);
+        buffer.offerRevokeAll("kim");
+        buffer.offerCreate("kim", "s3", "h3", EXPIRES_AT);
+        buffer.offerCreate("lee", "s4", "h4", EXPIRES_AT);
+
+        assertThat(buffer.getDepth()).isEqualTo(3);
+        buffer.flush();
+
+        assertThat(revokedBatches).containsExactly(Set.of("kim"));
+        assertThat(sessionBatches.get(0)).containsExactlyInAnyOrder("s3", "s4");
+        assertThat(buffer.getDepth()).isZero();
+    }
+
+    @Test
+    void awaitVisibleFlushesOnlyWhenTheUserHasPendingWrites() {
+        buffer.awaitVisible("kim");
+        verify(writer, never()).write(any(), any(), anyInt());
+
+        buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT);
+        buffer.awaitVisible("kim");
+
+        assertThat(sessionBatches).containsExactly(List.of("s1"));
+    }
+
+    @Test
+    void awaitVisibleWaitsForWritesAlreadyBeingFlushed() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(writer).write(any(), any(), anyInt());
+        buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT);
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> refresh = CompletableFuture.runAsync(() -> buffer.awaitVisible("kim"));
+
+        Thread.sleep(100);
+        assertThat(refresh).isNotDone();
+
+        release.countDown();
+        refresh.get(5, TimeUnit.SECONDS);
+        flush.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void refusesWritesWhenFull() {
+        buffer = newBuffer(2);
+
+        assertThat(buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT)).isTrue();
+        assertThat(buffer.offerCreate("lee", "s2", "h2", EXPIRES_AT)).isTrue();
+        assertThat(buffer.offerCreate("park", "s3", "h3", EXPIRES_AT)).isFalse();
+    }
+
+    @Test
+    void keepsWritesAfterTransientFailureInOrder() {
+        doThrow(new QueryTimeoutException("timeout")).doAnswer(invocation -> {
+            revokedBatches.add(Set.copyOf(invocation.<Set<String>>getArgument(0)));
+            sessionBatches.add(invocation.<List<SessionBatchWriter.PendingSession>>getArgument(1).stream()
+                    .map(SessionBatchWriter.PendingSession::sessionId)
+                    .toList());
+            return null;
+        }).when(writer).write(any(), any(), anyInt());
+        buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT);
+        buffer.offerCreate("lee", "s2", "h2", EXPIRES_AT);
+
+        buffer.flush();
+        buffer.offerRevokeAll("lee");
+        buffer.offerCreate("kim", "s3", "h3", EXPIRES_AT);
+        assertThat(buffer.getDepth()).isEqualTo(3);
+        buffer.flush();
+
+        assertThat(revokedBatches).containsExactly(Set.of("lee"));
+        assertThat(sessionBatches.get(0)).containsExactlyInAnyOrder("s1", "s3");
+    }
+
+    @Test
+    void keepsWritesWhenNoConnectionCanBeObtained() {
+        doThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new DatabaseBusyException("DB 커넥션 대기 시간 초과"))).when(writer).write(any(), any(), anyInt());
+        buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT);
+        buffer.offerCreate("lee", "s2", "h2", EXPIRES_AT);
+
+        buffer.flush();
+        assertThat(buffer.getDepth()).isEqualTo(2);
+
+        buffer.awaitVisible("park");
+        assertThatThrownBy(() -> buffer.awaitVisible("kim"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY));
+        assertThat(buffer.getDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void dropsOnlyTheWritesThatViolateConstraints() {
+        doAnswer(invocation -> {
+            List<SessionBatchWriter.PendingSession> sessions = invocation.getArgument(1);
+            if (sessions.stream().anyMatch(session -> session.userId().equals("kim"))) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            sessionBatches.add(sessions.stream().map(SessionBatchWriter.PendingSession::sessionId).toList());
+            return null;
+        }).when(writer).write(any(), any(), anyInt());
+        buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT);
+        buffer.offerCreate("lee", "s2", "h2", EXPIRES_AT);
+        buffer.offerCreate("park", "s3", "h3", EXPIRES_AT);
+
+        buffer.flush();
+
+        assertThat(sessionBatches).containsExactlyInAnyOrder(List.of("s2"), List.of("s3"));
+        assertThat(buffer.getDepth()).isZero();
+        buffer.awaitVisible("kim");
+    }
+
+    @Test
+    void flushesRemainingWritesOnShutdown() throws Exception {
+        buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT);
+
+        buffer.destroy();
+
+        assertThat(sessionBatches).containsExactly(List.of("s1"));
+    }
+
+    @Test
+    void acceptsNothingWhenDisabled() {
+        AuthProperties.Session session = new AuthProperties.Session();
+        buffer = new SessionWriteBuffer(writer, new AuthMetrics(new SimpleMeterRegistry()), session, false);
+
+        assertThat(buffer.offerCreate("kim", "s1", "h1", EXPIRES_AT)).isFalse();
+        assertThat(buffer.offerRevokeAll("kim")).isFalse();
+    }
+
+    private SessionWriteBuffer newBuffer(int maxPending) {
+        AuthProperties.Session session = new AuthProperties.Session();
+        session.getWriteBehind().setEnabled(true);
+        session.getWriteBehind().setBatchSize(Math.min(maxPending, 50));
+        session.getWriteBehind().setMaxPending(maxPending);
+        return new SessionWriteBuffer(writer, new AuthMetrics(new SimpleMeterRegistry()), session, false);
+    }
+}
@@ -0,0 +1,64 @@
+package signup.solips.users.repository;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import signup.solips.global.exception.ErrorCode;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserConstraintsTest {
+
+    @Test
+    void mapsMySqlDuplicateKeyMessages() {
+        assertThat(UserConstraints.duplicateErrorCode(driverError(
+                "Duplicate entry 'kim' for key 'users.uk_users_user_id'")))
+                .contains(ErrorCode.DUPLICATE_USER_ID);
+        assertThat(UserConstraints.duplicateErrorCode(driverError(
+                "Duplicate entry 'kim@example.com' for key 'users.uk_users_email'")))
+                .contains(ErrorCode.DUPLICATE_EMAIL);
+    }
+
+    @Test
+    void mapsH2UniqueIndexMessages() {
+        assertThat(UserConstraints.duplicateErrorCode(driverError(
+                "Unique index or primary key violation: \"PUBLIC.UK_USERS_USER_ID_INDEX_4 ON PUBLIC.USERS(USER_ID NULLS FIRST) "
+                        + "VALUES ( /* 1 */ 'kim' )\"; SQL statement:\ninsert into users (email,password,user_id,id) values (?,?,?,?)")))
+                .contains(ErrorCode.DUPLICATE_USER_ID);
+        assertThat(UserConstraints.duplicateErrorCode(driverError(
+                "Unique index or primary key violation: \"PUBLIC.UK_USERS_EMAIL_INDEX_4 ON PUBLIC.USERS(EMAIL NULLS FIRST) "
+                        + "VALUES ( /* 2 */ 'kim@example.com' )\"; SQL statement:\ninsert into users (email,password,user_id,id) values (?,?,?,?)")))
+                .contains(ErrorCode.DUPLICATE_EMAIL);
+    }
+
+    @Test
+    void duplicateValueThatLooksLikeAConstraintNameIsIgnored() {
+        assertThat(UserConstraints.duplicateErrorCode(driverError(
+                "Duplicate entry 'uk_users_user_id@example.com' for key 'users.uk_users_email'")))
+                .contains(ErrorCode.DUPLICATE_EMAIL);
+    }
+
+    @Test
+    void prefersTheConstraintNameHibernateExtracted() {
+        SQLIntegrityConstraintViolationException sql = new SQLIntegrityConstraintViolationException("duplicate");
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, "users.UK_USERS_EMAIL"));
+
+        assertThat(UserConstraints.duplicateErrorCode(e)).contains(ErrorCode.DUPLICATE_EMAIL);
+    }
+
+    @Test
+    void otherConstraintsAreNotDuplicates() {
+        assertThat(UserConstraints.duplicateErrorCode(driverError(
+                "Cannot add or update a child row: a foreign key constraint fails"))).isEmpty();
+        assertThat(UserConstraints.duplicateErrorCode(driverError(
+                "Duplicate entry '42' for key 'users.PRIMARY'"))).isEmpty();
+    }
+
+    private static DataIntegrityViolationException driverError(String message) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException(message));
+    }
+}
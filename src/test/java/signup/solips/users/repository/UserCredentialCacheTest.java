@@ -0,0 +1,154 @@
+package signup.solips.users.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.support.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCredentialCacheTest {
+
+    private final Map<String, String> storedHashes = new ConcurrentHashMap<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-01T00:00:00Z"));
+    private UserRepository userRepository;
+    private UserCredentialCache cache;
+    private Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findCredentialsByUserId(anyString())).thenAnswer(invocation -> {
+            String userId = invocation.getArgument(0);
+            String hash = storedHashes.get(userId);
+            duringLoad.run();
+            return Optional.ofNullable(hash).map(h -> user(userId, h));
+        });
+        when(userRepository.updatePassword(anyString(), anyString(), anyString())).thenAnswer(invocation ->
+                storedHashes.replace(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)) ? 1 : 0);
+        cache = newCache(100);
+    }
+
+    @Test
+    void servesRepeatedLookupsFromMemoryUntilTtlExpires() {
+        storedHashes.put("kim", "hash-1");
+
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-1");
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-1");
+        verify(userRepository, times(1)).findCredentialsByUserId("kim");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(61));
+        cache.findByUserId("kim");
+        verify(userRepository, times(2)).findCredentialsByUserId("kim");
+    }
+
+    @Test
+    void neverServesOldHashAfterPasswordUpdate() {
+        storedHashes.put("kim", "hash-1");
+        cache.findByUserId("kim");
+
+        assertThat(cache.updatePassword("kim", "hash-1", "hash-2")).isEqualTo(1);
+
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-2");
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-2");
+    }
+
+    @Test
+    void discardsLoadThatRacedWithPasswordUpdate() {
+        storedHashes.put("kim", "hash-1");
+        // 조회가 hash-1 을 읽은 뒤, 저장하기 전에 다른 요청이 비밀번호를 바꾼 상황
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            cache.updatePassword("kim", "hash-1", "hash-2");
+        };
+
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-1");
+
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-2");
+        verify(userRepository, times(2)).findCredentialsByUserId("kim");
+    }
+
+    @Test
+    void discardsRacingLoadOfExpiredEntry() {
+        storedHashes.put("kim", "hash-1");
+        cache.findByUserId("kim");
+        clock.advance(Duration.ofSeconds(61));
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            cache.updatePassword("kim", "hash-1", "hash-2");
+        };
+
+        cache.findByUserId("kim");
+
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-2");
+    }
+
+    @Test
+    void doesNotCacheUnknownUsers() {
+        assertThat(cache.findByUserId("new")).isEmpty();
+
+        storedHashes.put("new", "hash-1");
+
+        assertThat(cache.findByUserId("new")).map(UserCredentials::passwordHash).contains("hash-1");
+    }
+
+    @Test
+    void staysWithinMaxEntriesAndKeepsInvalidations() {
+        cache = newCache(8);
+        storedHashes.put("kim", "hash-1");
+        cache.findByUserId("kim");
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            cache.updatePassword("kim", "hash-1", "hash-2");
+            for (int i = 0; i < 20; i++) {
+                storedHashes.put("user" + i, "hash");
+                cache.findByUserId("user" + i);
+            }
+        };
+        clock.advance(Duration.ofSeconds(61));
+
+        cache.findByUserId("kim");
+
+        assertThat(cache.size()).isLessThanOrEqualTo(8);
+        assertThat(cache.findByUserId("kim")).map(UserCredentials::passwordHash).contains("hash-2");
+    }
+
+    @Test
+    void readsThroughWhenDisabled() {
+        AuthProperties.UserCache properties = new AuthProperties.UserCache();
+        properties.setEnabled(false);
+        cache = new UserCredentialCache(userRepository, new AuthMetrics(new SimpleMeterRegistry()), properties, clock);
+        storedHashes.put("kim", "hash-1");
+
+        cache.findByUserId("kim");
+        cache.findByUserId("kim");
+
+        verify(userRepository, times(2)).findCredentialsByUserId("kim");
+        assertThat(cache.size()).isZero();
+    }
+
+    private UserCredentialCache newCache(int maxEntries) {
+        AuthProperties.UserCache properties = new AuthProperties.UserCache();
+        properties.setTtl(Duration.ofSeconds(60));
+        properties.setMaxEntries(maxEntries);
+        return new UserCredentialCache(userRepository, new AuthMetrics(new SimpleMeterRegistry()), properties, clock);
+    }
+
+    private static UserCredentials user(String userId, String hash) {
+        return new UserCredentials(1L, userId, userId + "@gsm.hs.kr", hash);
+    }
+}
@@ -0,0 +1,82 @@
+package signup.solips.users.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import signup.solips.global.AuthProperties;
+
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserMembershipIndexTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private UserMembershipIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString(1)).thenReturn("Kim");
+        when(row.getString(2)).thenReturn("s12345@gsm.hs.kr");
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        AuthProperties properties = new AuthProperties();
+        properties.getMembershipIndex().setMinExpectedInsertions(1_000);
+        index = new UserMembershipIndex(jdbcTemplate, properties);
+    }
+
+    @Test
+    void asksForDatabaseCheckUntilWarmedUp() {
+        assertThat(index.mightContain(UserMembershipIndex.Field.USER_ID, "lee")).isTrue();
+
+        index.rebuild();
+
+        assertThat(index.mightContain(UserMembershipIndex.Field.USER_ID, "lee")).isFalse();
+    }
+
+    @Test
+    void matchesExistingValuesTheWayTheUniqueIndexCompares() {
+        index.rebuild();
+
+        assertThat(index.mightContain(UserMembershipIndex.Field.USER_ID, "kim")).isTrue();
+        assertThat(index.mightContain(UserMembershipIndex.Field.USER_ID, "KIM  ")).isTrue();
+        assertThat(index.mightContain(UserMembershipIndex.Field.USER_ID, "kím")).isTrue();
+        assertThat(index.mightContain(UserMembershipIndex.Field.EMAIL, "S12345@gsm.hs.kr")).isTrue();
+        assertThat(index.mightContain(UserMembershipIndex.Field.EMAIL, "kim")).isFalse();
+    }
+
+    @Test
+    void reflectsSignupsImmediately() {
+        index.rebuild();
+        index.add("lee", "s54321@gsm.hs.kr");
+
+        assertThat(index.mightContain(UserMembershipIndex.Field.USER_ID, "lee")).isTrue();
+        assertThat(index.mightContain(UserMembershipIndex.Field.EMAIL, "s54321@gsm.hs.kr")).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void neverReportsAddedValuesAsAbsent() {
+        index.rebuild();
+        for (int i = 0; i < 5_000; i++) {
+            index.add("user-" + i, "s" + i + "@gsm.hs.kr");
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(index.mightContain(UserMembershipIndex.Field.USER_ID, "user-" + i)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package signup.solips.users.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import signup.solips.global.AuthProperties;
+import signup.solips.users.entity.UserEntity;
+import signup.solips.users.entity.UserSessionEntity;
+import signup.solips.users.repository.UserRepository;
+import signup.solips.users.repository.UserSessionRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 배치마다 짧은 트랜잭션으로 삭제하는 동작을 그대로 확인하도록 테스트 트랜잭션으로 감싸지 않음
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpiredSessionPurgeJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final int BATCH_SIZE = 3;
+
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuthProperties properties;
+    private ExpiredSessionPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        userSessionRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        properties = new AuthProperties();
+        properties.getSession().getPurge().setBatchSize(BATCH_SIZE);
+        properties.getSession().getPurge().setBatchPause(Duration.ZERO);
+        job = new ExpiredSessionPurgeJob(userSessionRepository, userRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void purgesExpiredSessionsAcrossSeveralBatchesAndKeepsLiveOnes() throws InterruptedException {
+        List<String> live = seedSessions(8, 4);
+
+        assertThat(job.purgeExpiredSessions(NOW)).isEqualTo(8);
+
+        assertThat(remainingSessionIds()).containsExactlyInAnyOrderElementsOf(live);
+    }
+
+    @Test
+    void stopsAfterMaxBatchesPerRunAndFinishesOnTheNextRun() throws InterruptedException {
+        properties.getSession().getPurge().setMaxBatchesPerRun(2);
+        List<String> live = seedSessions(8, 2);
+
+        assertThat(job.purgeExpiredSessions(NOW)).isEqualTo(2 * BATCH_SIZE);
+        assertThat(remainingSessionIds()).hasSize(8 - 2 * BATCH_SIZE + live.size());
+
+        assertThat(job.purgeExpiredSessions(NOW)).isEqualTo(8 - 2 * BATCH_SIZE);
+        assertThat(remainingSessionIds()).containsExactlyInAnyOrderElementsOf(live);
+    }
+
+    @Test
+    void clearsExpiredLegacyTokensWithoutDeletingUsers() throws InterruptedException {
+        for (int i = 0; i < 7; i++) {
+            seedUser("expired" + i, NOW.minusMinutes(i / 2 + 1));
+        }
+        for (int i = 0; i < 3; i++) {
+            seedUser("live" + i, NOW.plusDays(1));
+        }
+        seedUser("none", null);
+
+        assertThat(job.purgeExpiredLegacyTokens(NOW)).isEqualTo(7);
+
+        assertThat(userRepository.count()).isEqualTo(11);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT user_id FROM users WHERE refresh_token IS NOT NULL OR refresh_token_hash IS NOT NULL "
+                        + "OR refresh_token_family IS NOT NULL OR refresh_token_expires_at IS NOT NULL", String.class))
+                .containsExactlyInAnyOrder("live0", "live1", "live2");
+    }
+
+    // 만료 세션 일부는 같은 만료 시각을 갖게 해 (만료 시각, 세션 ID) 키셋이 페이지 경계에서 행을 건너뛰지 않는지 확인
+    private List<String> seedSessions(int expired, int unexpired) {
+        for (int i = 0; i < expired; i++) {
+            saveSession("expired-%02d".formatted(i), NOW.minusMinutes(i / 2 + 1));
+        }
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i < unexpired; i++) {
+            String sessionId = "live-%02d".formatted(i);
+            saveSession(sessionId, NOW.plusMinutes(i + 1));
+            live.add(sessionId);
+        }
+        return live;
+    }
+
+    private void saveSession(String sessionId, LocalDateTime expiresAt) {
+        userSessionRepository.save(UserSessionEntity.builder()
+                .sessionId(sessionId)
+                .userId("kim")
+                .tokenHash("hash-" + sessionId)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    private void seedUser(String userId, LocalDateTime refreshTokenExpiresAt) {
+        boolean hasToken = refreshTokenExpiresAt != null;
+        userRepository.save(UserEntity.builder()
+                .email(userId + "@gsm.hs.kr")
+                .userId(userId)
+                .password("{noop}unused")
+                .refreshToken(hasToken ? "token-" + userId : null)
+                .refreshTokenHash(hasToken ? "hash-" + userId : null)
+                .refreshTokenFamily(hasToken ? "family-" + userId : null)
+                .refreshTokenExpiresAt(refreshTokenExpiresAt)
+                .build());
+    }
+
+    private List<String> remainingSessionIds() {
+        return userSessionRepository.findAll().stream().map(UserSessionEntity::getSessionId).toList();
+    }
+}
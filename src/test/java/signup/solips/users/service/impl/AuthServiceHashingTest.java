@@ -0,0 +1,93 @@
+package signup.solips.users.service.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import signup.solips.users.dto.request.UserLoginRequestDto;
+import signup.solips.users.dto.request.UserSignupRequestDto;
+import signup.solips.users.service.AuthService;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원가입/로그인의 BCrypt 연산 동안 트랜잭션이나 DB 커넥션을 붙잡고 있지 않은지 실제 커넥션 풀로 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth-hashing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.auth.password.calibration.enabled=false"
+})
+class AuthServiceHashingTest {
+
+    private static final String PASSWORD = "Passw0rd!";
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private RecordingPasswordEncoder passwordEncoder;
+
+    @Test
+    void signupAndLoginHashWithoutHoldingAConnection() {
+        authService.signup(new UserSignupRequestDto("s20001@gsm.hs.kr", "s20001", PASSWORD)).join();
+        authService.login(new UserLoginRequestDto("s20001@gsm.hs.kr", "s20001", PASSWORD)).join();
+
+        assertThat(passwordEncoder.activeConnections).hasSize(2).containsOnly(0);
+        assertThat(passwordEncoder.inTransaction).hasSize(2).containsOnly(false);
+    }
+
+    @TestConfiguration
+    static class HashingConfig {
+
+        @Bean
+        @Primary
+        RecordingPasswordEncoder recordingPasswordEncoder(DataSource dataSource) throws SQLException {
+            return new RecordingPasswordEncoder(dataSource.unwrap(HikariDataSource.class));
+        }
+    }
+
+    // 해시를 계산하는 순간의 풀 사용 중 커넥션 수와 트랜잭션 여부를 기록
+    static class RecordingPasswordEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate = new BCryptPasswordEncoder(4);
+        private final HikariDataSource dataSource;
+        private final List<Integer> activeConnections = new CopyOnWriteArrayList<>();
+        private final List<Boolean> inTransaction = new CopyOnWriteArrayList<>();
+
+        RecordingPasswordEncoder(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            record();
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            record();
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        private void record() {
+            activeConnections.add(dataSource.getHikariPoolMXBean().getActiveConnections());
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package signup.solips.users.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.config.JwtUtil;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.global.security.AccessTokenCache;
+import signup.solips.global.security.AccessTokenRevocationList;
+import signup.solips.global.security.PasswordHashingExecutor;
+import signup.solips.global.security.TokenDigest;
+import signup.solips.users.dto.response.TokenResponse;
+import signup.solips.users.repository.MappedRefreshTokenStore;
+import signup.solips.users.repository.UserCredentialCache;
+import signup.solips.users.repository.UserMembershipIndex;
+import signup.solips.users.repository.UserRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 리프레시 토큰 회전: 실제 JWT 서명과 메모리 매핑 세션 저장소 위에서 확인
+ */
+class AuthServiceImplTest {
+
+    private static final String USER_ID = "s10001";
+
+    @TempDir
+    Path directory;
+
+    private MappedRefreshTokenStore store;
+    private JwtUtil jwtUtil;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        AuthProperties properties = new AuthProperties();
+        properties.getRefreshToken().setLegacyLookupEnabled(false);
+        properties.getSession().getMapped().setDirectory(directory);
+        properties.getSession().getMapped().setLogSize(DataSize.ofKilobytes(64));
+        store = new MappedRefreshTokenStore(properties);
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "myVerySecretKeyThatIsAtLeast256BitsLong12345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 1_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 1_209_600_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        UserCredentialCache userCredentialCache = mock(UserCredentialCache.class);
+        authService = new AuthServiceImpl(mock(UserRepository.class), userCredentialCache,
+                new UserSessionServiceImpl(store, userCredentialCache), mock(UserMembershipIndex.class),
+                mock(PasswordEncoder.class), mock(PasswordHashingExecutor.class), mock(AsyncTaskExecutor.class),
+                jwtUtil, mock(AccessTokenCache.class), mock(AccessTokenRevocationList.class), properties,
+                new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.destroy();
+    }
+
+    @Test
+    void rotationKeepsTheSessionAndReplayOfTheOldTokenRevokesIt() {
+        String first = login();
+
+        TokenResponse rotated = authService.refreshToken(first);
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(first);
+        assertThat(jwtUtil.verify(rotated.getRefreshToken()).familyId()).isEqualTo(jwtUtil.verify(first).familyId());
+        assertInvalidRefreshToken(first);
+        // 재사용이 감지되면 세션 전체가 폐기되어 정상 사용자가 받은 새 토큰도 쓸 수 없음
+        assertInvalidRefreshToken(rotated.getRefreshToken());
+    }
+
+    @Test
+    void concurrentRefreshesOfTheSameTokenSucceedOnlyOnce() throws Exception {
+        String token = login();
+        int attempts = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TokenResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return authService.refreshToken(token);
+                    } catch (CustomException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        List<TokenResponse> issued = new ArrayList<>();
+        for (Future<TokenResponse> result : results) {
+            if (result.get() != null) {
+                issued.add(result.get());
+            }
+        }
+        assertThat(issued).hasSize(1);
+        // 진 요청들이 재사용으로 판단해 세션을 폐기하므로 이긴 요청의 토큰도 더 이상 회전되지 않음
+        assertInvalidRefreshToken(issued.get(0).getRefreshToken());
+    }
+
+    private String login() {
+        String sessionId = UUID.randomUUID().toString();
+        String token = jwtUtil.generateRefreshToken(USER_ID, sessionId);
+        store.create(USER_ID, sessionId, TokenDigest.of(token).toHex(), jwtUtil.getRefreshTokenExpiresAt());
+        return token;
+    }
+
+    private void assertInvalidRefreshToken(String token) {
+        assertThatThrownBy(() -> authService.refreshToken(token))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN));
+    }
+}
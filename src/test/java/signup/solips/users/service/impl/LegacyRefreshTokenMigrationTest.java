@@ -0,0 +1,107 @@
+package signup.solips.users.service.impl;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.security.TokenDigest;
+import signup.solips.users.dto.response.TokenResponse;
+import signup.solips.users.entity.UserEntity;
+import signup.solips.users.repository.UserRepository;
+import signup.solips.users.repository.UserSessionRepository;
+import signup.solips.users.service.AuthService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * users 테이블에 남은 이전 형식(family 클레임 없음) 리프레시 토큰이 갱신 한 번으로 세션으로 옮겨지는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:legacy-refresh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.auth.password.calibration.enabled=false",
+        "app.auth.refresh-token.legacy-lookup-enabled=true"
+})
+class LegacyRefreshTokenMigrationTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Test
+    void plaintextLegacyTokenMovesIntoASession() throws Exception {
+        String token = legacyToken("s30001");
+        seedUser("s30001", token, null);
+
+        assertMigrated("s30001", token);
+    }
+
+    @Test
+    void hashedLegacyTokenMovesIntoASession() throws Exception {
+        String token = legacyToken("s30002");
+        seedUser("s30002", null, TokenDigest.of(token).toHex());
+
+        assertMigrated("s30002", token);
+    }
+
+    private void assertMigrated(String userId, String legacyToken) throws Exception {
+        TokenResponse rotated = authService.refreshToken(legacyToken);
+
+        assertThat(userSessionRepository.findSessionIdsNewestFirst(userId)).hasSize(1);
+        Map<String, Object> legacyColumns = jdbcTemplate.queryForMap(
+                "SELECT refresh_token, refresh_token_hash, refresh_token_family, refresh_token_expires_at "
+                        + "FROM users WHERE user_id = ?", userId);
+        assertThat(legacyColumns.values()).containsOnlyNulls();
+
+        assertThatThrownBy(() -> authService.refreshToken(legacyToken))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN));
+        // 옮겨진 세션은 이후 회전에서도 그대로 사용됨
+        assertThat(authService.refreshToken(rotated.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    private void seedUser(String userId, String refreshToken, String refreshTokenHash) {
+        userRepository.saveAndFlush(UserEntity.builder()
+                .email(userId + "@gsm.hs.kr")
+                .userId(userId)
+                .password("{noop}unused")
+                .refreshToken(refreshToken)
+                .refreshTokenHash(refreshTokenHash)
+                .refreshTokenExpiresAt(LocalDateTime.now().plusDays(7))
+                .build());
+    }
+
+    // 토큰 계열 도입 전에 발급된 형식: subject 와 만료 시각만 있음
+    private String legacyToken(String userId) {
+        return Jwts.builder()
+                .setSubject(userId)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 600_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
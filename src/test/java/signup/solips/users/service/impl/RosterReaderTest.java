@@ -0,0 +1,69 @@
+package signup.solips.users.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import signup.solips.global.exception.CustomException;
+import signup.solips.users.service.UserImportService;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RosterReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsCsvColumnsByHeaderNameAndSkipsBlankLines() throws IOException {
+        RosterReader reader = csv("""
+                password,user_id,email
+
+                "Pa,ss""1!",kim,s12345@gsm.hs.kr
+                """);
+
+        RosterReader.Row row = reader.next();
+
+        assertThat(row.line()).isEqualTo(3);
+        assertThat(row.request().getEmail()).isEqualTo("s12345@gsm.hs.kr");
+        assertThat(row.request().getUserId()).isEqualTo("kim");
+        assertThat(row.request().getPassword()).isEqualTo("Pa,ss\"1!");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void reportsRowWithWrongColumnCountAsInvalid() throws IOException {
+        RosterReader reader = csv("email,userId,password\ns12345@gsm.hs.kr,kim\n");
+
+        RosterReader.Row row = reader.next();
+
+        assertThat(row.request()).isNull();
+        assertThat(row.error()).isNotBlank();
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredHeader() {
+        RosterReader reader = csv("email,password\ns12345@gsm.hs.kr,Pass1!\n");
+
+        assertThatThrownBy(reader::next).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void readsNdjsonAndReportsMalformedLines() throws IOException {
+        RosterReader reader = new RosterReader(new StringReader("""
+                {"email":"s12345@gsm.hs.kr","userId":"kim","password":"Pass1!"}
+                {not json
+                """), UserImportService.Format.NDJSON, objectMapper);
+
+        assertThat(reader.next().request().getUserId()).isEqualTo("kim");
+        RosterReader.Row malformed = reader.next();
+        assertThat(malformed.line()).isEqualTo(2);
+        assertThat(malformed.error()).isNotBlank();
+        assertThat(reader.next()).isNull();
+    }
+
+    private RosterReader csv(String content) {
+        return new RosterReader(new StringReader(content), UserImportService.Format.CSV, objectMapper);
+    }
+}
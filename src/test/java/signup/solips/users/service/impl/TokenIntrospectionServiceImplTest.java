@@ -0,0 +1,167 @@
+package signup.solips.users.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import signup.solips.global.AuthProperties;
+import signup.solips.global.JwtProperties;
+import signup.solips.global.config.JwtUtil;
+import signup.solips.global.exception.CustomException;
+import signup.solips.global.exception.ErrorCode;
+import signup.solips.global.metrics.AuthMetrics;
+import signup.solips.global.security.AccessTokenCache;
+import signup.solips.global.security.AccessTokenRevocationList;
+import signup.solips.global.security.AccessTokenVerifier;
+import signup.solips.global.security.TokenDigest;
+import signup.solips.global.security.TokenVerification;
+import signup.solips.support.MutableClock;
+import signup.solips.users.dto.response.TokenIntrospectionResponse.Result;
+import signup.solips.users.service.TokenIntrospectionService.Introspection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenIntrospectionServiceImplTest {
+
+    // 폐기 목록과 캐시는 시스템 시계를 쓰므로 현재 시각 기준으로 토큰 만료 시각을 만듦
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private MutableClock clock;
+    private JwtUtil jwtUtil;
+    private AccessTokenRevocationList revocationList;
+    private AuthProperties authProperties;
+    private TokenIntrospectionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.verify(anyString())).thenReturn(TokenVerification.failure(TokenVerification.Status.MALFORMED));
+        JwtProperties jwtProperties = new JwtProperties();
+        revocationList = new AccessTokenRevocationList(jwtProperties, Duration.ofMinutes(30).toMillis());
+        authProperties = new AuthProperties();
+        AccessTokenVerifier verifier = new AccessTokenVerifier(jwtUtil, new AccessTokenCache(jwtProperties),
+                revocationList, authProperties, new AuthMetrics(new SimpleMeterRegistry()));
+        service = new TokenIntrospectionServiceImpl(verifier, authProperties, clock);
+    }
+
+    @Test
+    void returnsResultsInRequestOrderAndVerifiesDuplicatesOnce() {
+        Instant expiresAt = NOW.plusSeconds(600);
+        when(jwtUtil.verify("alice")).thenReturn(TokenVerification.valid("s10001", expiresAt));
+        when(jwtUtil.verify("bob")).thenReturn(TokenVerification.valid("s10002", expiresAt));
+
+        Introspection introspection = service.introspect(Arrays.asList("alice", "garbage", "bob", "alice", "", null));
+
+        assertThat(introspection.response().results()).containsExactly(
+                Result.active("s10001", expiresAt),
+                Result.inactive(),
+                Result.active("s10002", expiresAt),
+                Result.active("s10001", expiresAt),
+                Result.inactive(),
+                Result.inactive());
+        verify(jwtUtil, times(1)).verify("alice");
+    }
+
+    @Test
+    void revokedExpiredAndRefreshTokensAreInactive() {
+        Instant expiresAt = NOW.plusSeconds(600);
+        when(jwtUtil.verify("revoked")).thenReturn(TokenVerification.valid("s10001", expiresAt));
+        when(jwtUtil.verify("expired")).thenReturn(TokenVerification.expired("s10001", NOW.minusSeconds(1)));
+        when(jwtUtil.verify("refresh")).thenReturn(TokenVerification.valid("s10001", expiresAt, "family-1"));
+        revocationList.revoke(TokenDigest.of("revoked"), expiresAt);
+
+        Introspection introspection = service.introspect(List.of("revoked", "expired", "refresh"));
+
+        assertThat(introspection.response().results()).allMatch(result -> !result.active() && result.subject() == null);
+    }
+
+    @Test
+    void largeBatchesAreVerifiedInParallelWithSameResults() {
+        authProperties.getIntrospection().setParallelThreshold(8);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String token = "token-" + i;
+            tokens.add(token);
+            if (i % 2 == 0) {
+                when(jwtUtil.verify(token)).thenReturn(TokenVerification.valid("s%05d".formatted(i), NOW.plusSeconds(600)));
+            }
+        }
+
+        List<Result> results = service.introspect(tokens).response().results();
+
+        assertThat(results).hasSize(200);
+        IntStream.range(0, 200).forEach(i -> {
+            assertThat(results.get(i).active()).isEqualTo(i % 2 == 0);
+            if (i % 2 == 0) {
+                assertThat(results.get(i).subject()).isEqualTo("s%05d".formatted(i));
+            }
+        });
+    }
+
+    @Test
+    void sequentialCallsVerifyOnTheCallingThreadOnly() {
+        authProperties.getIntrospection().setParallelThreshold(2);
+        Thread caller = Thread.currentThread();
+        List<Thread> verifyingThreads = Collections.synchronizedList(new ArrayList<>());
+        when(jwtUtil.verify(anyString())).thenAnswer(invocation -> {
+            verifyingThreads.add(Thread.currentThread());
+            return TokenVerification.failure(TokenVerification.Status.MALFORMED);
+        });
+
+        service.introspect(IntStream.range(0, 64).mapToObj(i -> "token-" + i).toList(), false);
+
+        assertThat(verifyingThreads).hasSize(64).containsOnly(caller);
+    }
+
+    @Test
+    void maxAgeIsCappedByEarliestActiveExpiry() {
+        when(jwtUtil.verify("soon")).thenReturn(TokenVerification.valid("s10001", NOW.plusSeconds(2)));
+        when(jwtUtil.verify("later")).thenReturn(TokenVerification.valid("s10002", NOW.plusSeconds(600)));
+
+        assertThat(service.introspect(List.of("later")).maxAge()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(service.introspect(List.of("later", "soon")).maxAge()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(service.introspect(List.of("garbage")).maxAge()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void etagChangesOnlyWhenResultsChange() {
+        Instant expiresAt = NOW.plusSeconds(600);
+        when(jwtUtil.verify("alice")).thenReturn(TokenVerification.valid("s10001", expiresAt));
+        Introspection first = service.introspect(List.of("alice", "garbage"));
+
+        assertThat(service.introspect(List.of("alice", "other-garbage")).etag()).isEqualTo(first.etag());
+        assertThat(first.matches(first.etag())).isTrue();
+        assertThat(first.matches("W/" + first.etag())).isTrue();
+        assertThat(first.matches("\"stale\", " + first.etag())).isTrue();
+        assertThat(first.matches("\"stale\"")).isFalse();
+        assertThat(first.matches(null)).isFalse();
+
+        revocationList.revoke(TokenDigest.of("alice"), expiresAt);
+
+        assertThat(service.introspect(List.of("alice", "garbage")).etag()).isNotEqualTo(first.etag());
+    }
+
+    @Test
+    void rejectsBatchesOverTheLimit() {
+        authProperties.getIntrospection().setMaxTokens(2);
+
+        assertThatThrownBy(() -> service.introspect(List.of("a", "b", "c")))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+    }
+}
@@ -0,0 +1,99 @@
+package signup.solips.users.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import signup.solips.users.dto.response.UserImportResult;
+import signup.solips.users.dto.response.UserImportResult.Status;
+import signup.solips.users.dto.response.UserImportSummary;
+import signup.solips.users.entity.UserEntity;
+import signup.solips.users.repository.UserMembershipIndex;
+import signup.solips.users.repository.UserRepository;
+import signup.solips.users.service.UserImportService;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 명단 일괄 가입: 사전 중복 확인과, 사전 확인 이후 생긴 중복으로 배치 INSERT 가 실패했을 때의 행 단위 재시도
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.auth.password.bcrypt-strength=4",
+        "app.auth.password.calibration.enabled=false"
+})
+class UserImportServiceImplTest {
+
+    private static final String PASSWORD = "Passw0rd!";
+
+    @Autowired
+    private UserImportService userImportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserMembershipIndex userMembershipIndex;
+
+    @Test
+    void reportsEachRowAndRetriesRowByRowWhenTheBatchHitsALateDuplicate() throws IOException {
+        // 사전 확인에서 걸러지는 기존 사용자 (사용 여부 색인에도 있음)
+        saveUser("s40001@gsm.hs.kr", "existing");
+        userMembershipIndex.add("existing", "s40001@gsm.hs.kr");
+        // 색인에 없어 사전 확인을 통과한 뒤 INSERT 에서 유니크 제약에 걸리는 사용자 (다른 인스턴스가 그 사이 가입한 경우)
+        saveUser("s40010@gsm.hs.kr", "raced1");
+        saveUser("s40011@gsm.hs.kr", "raced2");
+
+        List<UserImportResult> results = new ArrayList<>();
+        UserImportSummary summary = userImportService.importRoster(new StringReader("""
+                email,userId,password
+                s40002@gsm.hs.kr,new1,%1$s
+                s40002@gsm.hs.kr,new2,%1$s
+                s40003@gsm.hs.kr,new1,%1$s
+                s40001@gsm.hs.kr,new3,%1$s
+                s40004@gsm.hs.kr,existing,%1$s
+                s40010@gsm.hs.kr,new4,%1$s
+                s40005@gsm.hs.kr,raced2,%1$s
+                s40006@gsm.hs.kr,new5,%1$s
+                not-an-email,new6,%1$s
+                """.formatted(PASSWORD)), UserImportService.Format.CSV, results::add);
+
+        assertThat(results).extracting(UserImportResult::line, UserImportResult::userId, UserImportResult::status)
+                .containsExactly(
+                        tuple(2L, "new1", Status.CREATED),
+                        tuple(3L, "new2", Status.DUPLICATE_EMAIL),
+                        tuple(4L, "new1", Status.DUPLICATE_USER_ID),
+                        tuple(5L, "new3", Status.DUPLICATE_EMAIL),
+                        tuple(6L, "existing", Status.DUPLICATE_USER_ID),
+                        tuple(7L, "new4", Status.DUPLICATE_EMAIL),
+                        tuple(8L, "raced2", Status.DUPLICATE_USER_ID),
+                        tuple(9L, "new5", Status.CREATED),
+                        tuple(10L, "new6", Status.INVALID));
+        assertThat(results).filteredOn(result -> result.status() == Status.CREATED)
+                .allSatisfy(result -> assertThat(result.id()).isPositive());
+        assertThat(summary).extracting(UserImportSummary::total, UserImportSummary::created, UserImportSummary::invalid,
+                        UserImportSummary::duplicate, UserImportSummary::failed)
+                .containsExactly(9L, 2L, 1L, 6L, 0L);
+
+        assertThat(userRepository.existsByUserId("new1")).isTrue();
+        assertThat(userRepository.existsByUserId("new5")).isTrue();
+        assertThat(userRepository.existsByUserId("new4")).isFalse();
+        assertThat(userRepository.count()).isEqualTo(5);
+    }
+
+    private void saveUser(String email, String userId) {
+        userRepository.saveAndFlush(UserEntity.builder()
+                .email(email)
+                .userId(userId)
+                .password("{noop}unused")
+                .build());
+    }
+}